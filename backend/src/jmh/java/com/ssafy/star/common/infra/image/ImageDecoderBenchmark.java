@@ -0,0 +1,85 @@
+package com.ssafy.star.common.infra.image;
+
+import org.openjdk.jmh.annotations.*;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드 1건을 디코딩할 때 메모리
+ * - fullDecode : ImageIO.read로 전체 해상도 디코딩 (기존 방식)
+ * - subsampledDecode : ImageDecoder로 1024px 사본 크기에 맞춰 디코딩
+ * decodedBytes(디코딩된 이미지가 차지하는 heap)가 업로드 1건의 최대 heap 사용량을 결정하고,
+ * gc 프로파일러의 gc.alloc.rate.norm으로 디코딩 중 할당량을 함께 비교한다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class ImageDecoderBenchmark {
+
+    @Param({"4000x3000", "8000x6000"})
+    public String resolution;
+
+    private byte[] source;
+    private ImageDecoder imageDecoder;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class DecodedSize {
+        public long decodedBytes;
+
+        @Setup(Level.Iteration)
+        public void clear() {
+            decodedBytes = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        String[] size = resolution.split("x");
+        source = createJpeg(Integer.parseInt(size[0]), Integer.parseInt(size[1]));
+        imageDecoder = new ImageDecoder(16_777_216L);
+    }
+
+    @Benchmark
+    public BufferedImage fullDecode(DecodedSize decodedSize) throws IOException {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(source));
+        decodedSize.decodedBytes = sizeOf(image);
+        return image;
+    }
+
+    @Benchmark
+    public BufferedImage subsampledDecode(DecodedSize decodedSize) throws IOException {
+        BufferedImage image = imageDecoder.decode(source, Rendition.MAIN.size());
+        decodedSize.decodedBytes = sizeOf(image);
+        return image;
+    }
+
+    private static long sizeOf(BufferedImage image) {
+        DataBuffer dataBuffer = image.getRaster().getDataBuffer();
+        return (long) dataBuffer.getSize() * dataBuffer.getNumBanks() * DataBuffer.getDataTypeSize(dataBuffer.getDataType()) / 8;
+    }
+
+    private static byte[] createJpeg(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        Random random = new Random(42);
+        for (int i = 0; i < 500; i++) {
+            graphics.setColor(new Color(random.nextInt(0xFFFFFF)));
+            graphics.fillOval(random.nextInt(width), random.nextInt(height), random.nextInt(width / 4) + 1, random.nextInt(height / 4) + 1);
+        }
+        graphics.dispose();
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", outputStream);
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,108 @@
+package com.ssafy.star.common.infra.image;
+
+import com.ssafy.star.common.utils.ImageUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시물 업로드 시 원본(1024), 썸네일(200) 사본을 만드는 비용
+ * - separateDecode : 사본마다 메타데이터 파싱과 디코딩을 다시 하던 기존 방식
+ * - sharedDecode : 한 번 디코딩한 이미지로 사본을 순서대로 만드는 경우
+ * - pipeline : ImagePipeline (한 번 디코딩, 사본별 병렬 인코딩)
+ * gc 프로파일러의 gc.alloc.rate.norm으로 업로드 1건당 할당량을 비교한다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ImagePipelineBenchmark {
+
+    private static final String FILE_NAME = "photo.jpg";
+
+    @Param({"2000x1500", "4000x3000"})
+    public String resolution;
+
+    private byte[] source;
+    private ExecutorService executor;
+    private ImagePipeline imagePipeline;
+
+    @Setup
+    public void setUp() throws IOException {
+        String[] size = resolution.split("x");
+        source = createJpeg(Integer.parseInt(size[0]), Integer.parseInt(size[1]));
+        executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        imagePipeline = new ImagePipeline(
+                new ImageProcessingExecutor(0, 0, 16_777_216L, new SimpleMeterRegistry()),
+                executor,
+                new ImageDecoder(16_777_216L),
+                new ImageBufferPool(16)
+        );
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    public long separateDecode() throws IOException {
+        ByteArrayOutputStream main = new ByteArrayOutputStream();
+        ImageUtils.encode(ImageUtils.resizeImage(decodeAgain(), 1024), "jpg", main);
+        ByteArrayOutputStream thumbnail = new ByteArrayOutputStream();
+        ImageUtils.encode(ImageUtils.resizeThumbnail(decodeAgain(), 200), "jpg", thumbnail);
+        return main.size() + thumbnail.size();
+    }
+
+    @Benchmark
+    public long sharedDecode() throws IOException {
+        DecodedImage decodedImage = imagePipeline.decode(source, FILE_NAME, Rendition.MAIN.size());
+        long size = 0;
+        for (Rendition rendition : new Rendition[]{Rendition.MAIN, Rendition.THUMBNAIL}) {
+            try (EncodedImage encodedImage = imagePipeline.render(decodedImage, rendition).get(rendition)) {
+                size += encodedImage.size();
+            }
+        }
+        return size;
+    }
+
+    @Benchmark
+    public long pipeline() throws IOException {
+        DecodedImage decodedImage = imagePipeline.decode(source, FILE_NAME, Rendition.MAIN.size());
+        Map<Rendition, EncodedImage> renditions = imagePipeline.render(decodedImage, Rendition.MAIN, Rendition.THUMBNAIL);
+        long size = renditions.values().stream().mapToLong(EncodedImage::size).sum();
+        renditions.values().forEach(EncodedImage::close);
+        return size;
+    }
+
+    // 기존 turnImage와 같이 메타데이터 파싱 + 전체 디코딩
+    private BufferedImage decodeAgain() throws IOException {
+        int orientation = ImageUtils.readOrientation(source);
+        return ImageUtils.rotate(ImageIO.read(new ByteArrayInputStream(source)), orientation);
+    }
+
+    private static byte[] createJpeg(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        Random random = new Random(42);
+        for (int i = 0; i < 500; i++) {
+            graphics.setColor(new Color(random.nextInt(0xFFFFFF)));
+            graphics.fillOval(random.nextInt(width), random.nextInt(height), random.nextInt(width / 4) + 1, random.nextInt(height / 4) + 1);
+        }
+        graphics.dispose();
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", outputStream);
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,64 @@
+package com.ssafy.star.common.infra.image;
+
+import com.ssafy.star.common.utils.ImageUtils;
+import org.openjdk.jmh.annotations.*;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.*;
+import java.nio.file.Files;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동시 업로드에서 인코딩 결과를 업로드 스트림으로 넘기는 비용
+ * - tempFile : 작업 디렉터리에 File로 쓰고, 그 File을 읽어 업로드한 뒤 지우던 기존 방식
+ * - pooledBuffer : 풀의 메모리 버퍼에 인코딩하고 버퍼를 그대로 읽는 방식
+ * S3 네트워크 비용은 제외하기 위해 업로드는 스트림을 끝까지 읽는 것으로 대신한다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class S3UploadBenchmark {
+
+    private BufferedImage rendition;
+    private ImageBufferPool imageBufferPool;
+
+    @Setup
+    public void setUp() {
+        rendition = new BufferedImage(1024, 1024, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rendition.createGraphics();
+        graphics.setPaint(new GradientPaint(0, 0, Color.BLUE, 1024, 1024, Color.ORANGE));
+        graphics.fillRect(0, 0, 1024, 1024);
+        graphics.dispose();
+        imageBufferPool = new ImageBufferPool(32);
+    }
+
+    @Benchmark
+    public long tempFile() throws IOException {
+        File file = new File(UUID.randomUUID() + ".jpg");
+        ImageIO.write(rendition, "jpg", file);
+        try (InputStream inputStream = new FileInputStream(file)) {
+            return drain(inputStream);
+        } finally {
+            Files.deleteIfExists(file.toPath());
+        }
+    }
+
+    @Benchmark
+    public long pooledBuffer() throws IOException {
+        ImageBuffer buffer = imageBufferPool.acquire();
+        try {
+            ImageUtils.encode(rendition, "jpg", buffer);
+            return drain(buffer.toInputStream());
+        } finally {
+            buffer.release();
+        }
+    }
+
+    private static long drain(InputStream inputStream) throws IOException {
+        return inputStream.transferTo(OutputStream.nullOutputStream());
+    }
+}
@@ -0,0 +1,90 @@
+package com.ssafy.star.contour;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.star.contour.domain.ContourEntity;
+import com.ssafy.star.contour.dto.ContourOutline;
+import com.ssafy.star.contour.dto.ContourResponse;
+import com.ssafy.star.contour.utils.PolygonSimplifier;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 우주 보기 한 번에 내려가는 윤곽선 크기와 직렬화 시간
+ * - constellations개 별자리, 선택 윤곽선 하나에 points개 점 (노이즈가 있는 닫힌 곡선)
+ * - serializeUniverse : 단계(lod)별 ContourResponse 목록을 JSON으로 직렬화, payloadBytes로 응답 크기를 비교한다
+ * - simplify : 별자리를 만들 때 선택 윤곽선 하나를 단순화하는 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class ContourLodBenchmark {
+
+    @Param({"FULL", "HIGH", "MEDIUM", "LOW"})
+    public ContourLod lod;
+
+    @Param({"50"})
+    public int constellations;
+
+    @Param({"2000"})
+    public int points;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private List<ContourEntity> contourEntities;
+    private List<List<Integer>> ultimate;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Payload {
+        public long payloadBytes;
+
+        @Setup(Level.Iteration)
+        public void clear() {
+            payloadBytes = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        contourEntities = new ArrayList<>();
+        for (int i = 0; i < constellations; i++) {
+            List<List<Integer>> contour = createContour(random);
+            contourEntities.add(ContourEntity.of("origin", "thumb", "cthumb", List.of(contour), contour));
+        }
+        ultimate = createContour(random);
+    }
+
+    @Benchmark
+    public byte[] serializeUniverse(Payload payload) throws JsonProcessingException {
+        List<ContourResponse> responses = new ArrayList<>(contourEntities.size());
+        for (ContourEntity contourEntity : contourEntities) {
+            responses.add(ContourResponse.fromOutline(ContourOutline.fromEntity(contourEntity, lod)));
+        }
+        byte[] json = objectMapper.writeValueAsBytes(responses);
+        payload.payloadBytes = json.length;
+        return json;
+    }
+
+    @Benchmark
+    public List<List<Integer>> simplify() {
+        return PolygonSimplifier.simplify(ultimate, lod.tolerance());
+    }
+
+    // 반지름이 천천히 흔들리는 닫힌 곡선 (윤곽선 검출 결과처럼 이웃한 점이 1px 안팎으로 붙어 있다)
+    private List<List<Integer>> createContour(Random random) {
+        List<List<Integer>> contour = new ArrayList<>(points);
+        double radius = 300;
+        for (int i = 0; i < points; i++) {
+            radius = Math.max(100, Math.min(450, radius + random.nextGaussian() * 2));
+            double angle = 2 * Math.PI * i / points;
+            contour.add(List.of(512 + (int) Math.round(radius * Math.cos(angle)), 512 + (int) Math.round(radius * Math.sin(angle))));
+        }
+        return contour;
+    }
+}
@@ -3,14 +3,15 @@ package com.ssafy.star.ai.application;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.ssafy.star.common.infra.S3.S3uploader;
+import com.ssafy.star.common.infra.image.Rendition;
+import com.ssafy.star.image.application.ImageBlobService;
+import com.ssafy.star.image.application.ImageUploadService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import com.ssafy.star.article.dto.response.Response;
 import org.springframework.web.client.RestTemplate;
@@ -21,15 +22,16 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class AiService {
 
-    private final S3uploader s3uploader;
+    private final ImageUploadService imageUploadService;
+    private final ImageBlobService imageBlobService;
     private final RestTemplate restTemplate;
 
-    @Transactional
+    // 업로드는 트랜잭션 밖에서 한다 (사본 등록은 ImageBlobService가 따로 커밋한다)
     public String uploadTempImage(MultipartFile imageFile){
 
         String imageUrl = "";
         try{
-            imageUrl = s3uploader.upload(imageFile, "temp");
+            imageUrl = imageUploadService.upload(imageFile, Rendition.MAIN, "temp");
             return imageUrl;
         } catch (IOException e){
             System.out.println("업로드 실패");
@@ -37,7 +39,6 @@ public class AiService {
         return imageUrl;
     }
 
-    @Transactional
     public Response<JsonNode> connectDjango(MultipartFile imageFile) throws JsonProcessingException {
         String fileName = uploadTempImage(imageFile);
         // Django 서버 URL
@@ -50,11 +51,14 @@ public class AiService {
         String jsonBody = "{\"url\": \"" + fileName + "\"}";
         HttpEntity<String> requestEntity = new HttpEntity<>(jsonBody, headers);
 
-        // Django 서버로 HTTP POST 요청 보내기
-        ResponseEntity<String> responseEntity = restTemplate.postForEntity(djangoUrl, requestEntity, String.class);
-
-        // S3 파일 삭제
-        s3uploader.deleteImageFromS3(fileName);
+        ResponseEntity<String> responseEntity;
+        try {
+            // Django 서버로 HTTP POST 요청 보내기
+            responseEntity = restTemplate.postForEntity(djangoUrl, requestEntity, String.class);
+        } finally {
+            // S3 파일 삭제 (요청이 실패해도 해제한다, 유예 시간 동안은 남아 있어서 같은 사진으로 다시 요청하면 재사용된다)
+            imageBlobService.release(fileName);
+        }
 
         String jsonString = responseEntity.getBody();
 
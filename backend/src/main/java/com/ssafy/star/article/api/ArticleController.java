@@ -4,9 +4,13 @@ package com.ssafy.star.article.api;
 import com.ssafy.star.article.application.ArticleService;
 import com.ssafy.star.article.dto.request.*;
 import com.ssafy.star.article.dto.response.ArticleResponse;
+import com.ssafy.star.article.dto.response.ArticleSummaryResponse;
+import com.ssafy.star.article.dto.response.BulkLikeResponse;
 import com.ssafy.star.article.dto.response.Response;
 import com.ssafy.star.common.exception.ByeolDamException;
 import com.ssafy.star.common.exception.ErrorCode;
+import com.ssafy.star.common.response.CursorSlice;
+import com.ssafy.star.like.LikeTarget;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -14,7 +18,6 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
@@ -29,6 +32,8 @@ import java.util.List;
 public class ArticleController {
 
     private final ArticleService articleService;
+    private static final int MAX_FEED_SIZE = 100;
+    private static final int MAX_BULK_LIKE_SIZE = 100;
 
     @Operation(
             summary = "게시물 작성 및 미분류 별자리 배정",
@@ -83,6 +88,31 @@ public class ArticleController {
         }
     }
 
+    @Operation(
+            summary = "직접 업로드한 이미지로 게시물 작성",
+            description = "발급받은 url로 스토리지에 올린 이미지의 key로 게시물을 작성합니다. 이미지는 사본이 만들어질 때까지 PENDING 상태입니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "생성 성공", content = @Content(schema = @Schema(implementation = ArticleResponse.class)))
+            }
+    )
+    @PostMapping("/articles/direct")
+    public Response<Void> createWithUploadedImage(@RequestBody ArticleCreateDirectRequest request, Authentication authentication) {
+        log.info("request 정보 : {}", request);
+        if (request.imageKey() == null || request.imageKey().isBlank()) {
+            throw new ByeolDamException(ErrorCode.ARTICLE_IMAGE_EMPTY, "article image key is empty");
+        }
+        articleService.createWithUploadedImage(
+                request.title(),
+                request.description(),
+                request.disclosureType(),
+                authentication.getName(),
+                request.imageKey(),
+                request.articleHashtagSet(),
+                request.constellationId()
+        );
+        return Response.success();
+    }
+
     @Operation(
             summary = "게시물 수정",
             description = "게시물 수정입니다.",
@@ -114,13 +144,31 @@ public class ArticleController {
             summary = "팔로우 피드",
             description = "팔로워들의 게시물을 최신순으로 정렬하여 페이지로 반환합니다",
             responses = {
-                    @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = ArticleResponse.class)))
+                    @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = ArticleSummaryResponse.class)))
             }
     )
     @GetMapping("/articles/follow")
-    public Response<Page<ArticleResponse>> followFeed(Authentication authentication, Pageable pageable) {
+    public Response<Page<ArticleSummaryResponse>> followFeed(Authentication authentication, Pageable pageable) {
         String email = authentication.getName();
-        return Response.success(articleService.followFeed(email, pageable).map(ArticleResponse::fromArticle));
+        return Response.success(articleService.followFeed(email, pageable).map(ArticleSummaryResponse::fromSummary));
+    }
+
+    @Operation(
+            summary = "팔로우 피드 (커서)",
+            description = "팔로워들의 게시물을 최신순으로 cursor 이후 size개 반환합니다. " +
+                    "첫 페이지는 cursor를 빈 값으로 보내고, 이후에는 응답의 nextCursor를 보냅니다",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = ArticleSummaryResponse.class)))
+            }
+    )
+    @GetMapping(value = "/articles/follow", params = "cursor")
+    public Response<CursorSlice<ArticleSummaryResponse>> followFeedByCursor(Authentication authentication,
+                                                                     @RequestParam String cursor,
+                                                                     @RequestParam(defaultValue = "20") int size) {
+        if (size < 1 || size > MAX_FEED_SIZE) {
+            throw new ByeolDamException(ErrorCode.INVALID_REQUEST, String.format("size must be between 1 and %d", MAX_FEED_SIZE));
+        }
+        return Response.success(articleService.followFeedByCursor(authentication.getName(), cursor, size).map(ArticleSummaryResponse::fromSummary));
     }
 
     @Operation(
@@ -129,15 +177,30 @@ public class ArticleController {
                     "접속자가 유저를 팔로우 중일 경우 전체 조회, " +
                     "그 외 discloseType이 VISIBLE인 게시물만 반환",
             responses = {
-                    @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = ArticleResponse.class)))
+                    @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = ArticleSummaryResponse.class)))
             }
     )
     @GetMapping("/articles/user/{nickname}")
-    public Response<Page<ArticleResponse>> userArticlePage(@PathVariable String nickname, Authentication authentication,Pageable pageable) {
-        List<ArticleResponse> articleResponses = articleService.userArticleList(nickname, authentication.getName()).stream().map(ArticleResponse::fromArticle).toList();
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), articleResponses.size());
-        return Response.success(new PageImpl<>(articleResponses.subList(start, end), pageable, articleResponses.size()));
+    public Response<Page<ArticleSummaryResponse>> userArticlePage(@PathVariable String nickname, Authentication authentication,Pageable pageable) {
+        return Response.success(articleService.userArticlePage(nickname, authentication.getName(), pageable).map(ArticleSummaryResponse::fromSummary));
+    }
+
+    @Operation(
+            summary = "유저의 게시물 커서 조회",
+            description = "유저의 게시물을 최신순으로 cursor 이후 size개 반환합니다. 조회 권한은 전체 조회와 같습니다. " +
+                    "첫 페이지는 cursor를 빈 값으로 보내고, 이후에는 응답의 nextCursor를 보냅니다",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = ArticleSummaryResponse.class)))
+            }
+    )
+    @GetMapping(value = "/articles/user/{nickname}", params = "cursor")
+    public Response<CursorSlice<ArticleSummaryResponse>> userArticleSlice(@PathVariable String nickname, Authentication authentication,
+                                                                  @RequestParam String cursor,
+                                                                  @RequestParam(defaultValue = "12") int size) {
+        if (size < 1 || size > MAX_FEED_SIZE) {
+            throw new ByeolDamException(ErrorCode.INVALID_REQUEST, String.format("size must be between 1 and %d", MAX_FEED_SIZE));
+        }
+        return Response.success(articleService.userArticleSlice(nickname, authentication.getName(), cursor, size).map(ArticleSummaryResponse::fromSummary));
     }
 
     @Operation(
@@ -172,36 +235,36 @@ public class ArticleController {
             summary = "별자리에 있는 게시물 전체 조회",
             description = "별자리에 있는 게시물 전체 조회입니다.",
             responses = {
-                    @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = ArticleResponse.class)))
+                    @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = ArticleSummaryResponse.class)))
             }
     )
     @GetMapping("/articles/constellation/{constellationId}")
-    public Response<List<ArticleResponse>> articlesInConstellation(@PathVariable Long constellationId, Authentication authentication) {
-        return Response.success(articleService.articlesInConstellation(constellationId, authentication.getName()).stream().map(ArticleResponse::fromArticle).toList());
+    public Response<List<ArticleSummaryResponse>> articlesInConstellation(@PathVariable Long constellationId, Authentication authentication) {
+        return Response.success(articleService.articlesInConstellation(constellationId, authentication.getName()).stream().map(ArticleSummaryResponse::fromSummary).toList());
     }
 
     @Operation(
             summary = "미분류 게시물 전체 조회",
             description = "미분류 별자리에 있는 게시물 전체 조회입니다.",
             responses = {
-                    @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = ArticleResponse.class)))
+                    @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = ArticleSummaryResponse.class)))
             }
     )
     @GetMapping("/articles/constellation")
-    public Response<List<ArticleResponse>> articlesInNoConstellation(Authentication authentication) {
-        return Response.success(articleService.articlesInNoConstellation(authentication.getName()).stream().map(ArticleResponse::fromArticle).toList());
+    public Response<List<ArticleSummaryResponse>> articlesInNoConstellation(Authentication authentication) {
+        return Response.success(articleService.articlesInNoConstellation(authentication.getName()).stream().map(ArticleSummaryResponse::fromSummary).toList());
     }
 
     @Operation(
             summary = "휴지통 조회",
             description = "휴지통을 조회합니다.",
             responses = {
-                    @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = ArticleResponse.class)))
+                    @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = ArticleSummaryResponse.class)))
             }
     )
     @GetMapping("/articles/trashcan")
-    public Response<Page<ArticleResponse>> trashcan(Authentication authentication, Pageable pageable) {
-        return Response.success(articleService.trashcan(authentication.getName(), pageable).map(ArticleResponse::fromArticle));
+    public Response<Page<ArticleSummaryResponse>> trashcan(Authentication authentication, Pageable pageable) {
+        return Response.success(articleService.trashcan(authentication.getName(), pageable).map(ArticleSummaryResponse::fromSummary));
     }
 
     @Operation(
@@ -235,6 +298,25 @@ public class ArticleController {
         return Response.success(articleService.checkLike(articleId, authentication.getName()));
     }
 
+    @Operation(
+            summary = "게시물, 별자리 좋아요 상태와 갯수 한 번에 확인",
+            description = "articleIds(와 constellationIds)의 좋아요 여부와 좋아요 개수를 요청한 순서대로 반환합니다. " +
+                    "존재하지 않는 id는 결과에서 제외됩니다. 각각 최대 100개까지 요청할 수 있습니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = BulkLikeResponse.class)))
+            }
+    )
+    @PostMapping("/articles/likes/bulk")
+    public Response<BulkLikeResponse> bulkLikeStatus(Authentication authentication, @RequestBody BulkLikeRequest request) {
+        if (size(request.articleIds()) > MAX_BULK_LIKE_SIZE || size(request.constellationIds()) > MAX_BULK_LIKE_SIZE) {
+            throw new ByeolDamException(ErrorCode.INVALID_REQUEST, String.format("at most %d ids can be requested", MAX_BULK_LIKE_SIZE));
+        }
+        return Response.success(new BulkLikeResponse(
+                articleService.likeStatuses(LikeTarget.ARTICLE, request.articleIds(), authentication.getName()),
+                articleService.likeStatuses(LikeTarget.CONSTELLATION, request.constellationIds(), authentication.getName())
+        ));
+    }
+
     @Operation(
             summary = "게시물 좋아요 갯수 확인",
             description = "게시물 좋아요의 개수를 확인합니다."
@@ -257,4 +339,7 @@ public class ArticleController {
 //        return Response.success(articleService.likeList(articleId).stream().map(LikeUserResponse::fromUser).toList());
 //    }
 
+    private static int size(List<Long> ids) {
+        return ids == null ? 0 : ids.size();
+    }
 }
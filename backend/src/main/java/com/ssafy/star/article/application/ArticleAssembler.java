@@ -0,0 +1,198 @@
+package com.ssafy.star.article.application;
+
+import com.ssafy.star.article.dao.ArticleHashtagRelationRepository;
+import com.ssafy.star.article.dao.ArticleRepository;
+import com.ssafy.star.article.domain.ArticleEntity;
+import com.ssafy.star.article.dto.Article;
+import com.ssafy.star.article.dto.ArticleHashtagName;
+import com.ssafy.star.article.dto.ArticleSummary;
+import com.ssafy.star.comment.domain.CommentEntity;
+import com.ssafy.star.comment.dto.CommentDto;
+import com.ssafy.star.comment.repository.CommentRepository;
+import com.ssafy.star.common.infra.hit.HitCounter;
+import com.ssafy.star.common.infra.hit.HitTarget;
+import com.ssafy.star.constellation.dao.ConstellationRepository;
+import com.ssafy.star.constellation.dao.ConstellationUserRepository;
+import com.ssafy.star.constellation.domain.ConstellationEntity;
+import com.ssafy.star.constellation.dto.Constellation;
+import com.ssafy.star.constellation.dto.ConstellationUser;
+import com.ssafy.star.image.dao.ImageRepository;
+import com.ssafy.star.image.domain.ImageEntity;
+import com.ssafy.star.image.dto.Image;
+import com.ssafy.star.user.domain.UserEntity;
+import com.ssafy.star.user.dto.User;
+import com.ssafy.star.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * ArticleEntity -> Article 변환
+ * - 게시물마다 연관 엔티티를 lazy loading 하지 않고, 연관관계별로 IN 쿼리 한 번씩만 조회한 후 메모리에서 조립한다
+ * - 해시태그, 댓글(+작성자), 별자리(+멤버), 작성자(+프로필 이미지), 이미지 : 목록 크기와 상관없이 최대 6번 조회
+ * - 목록 화면에는 댓글, 작성자 전체 정보가 없는 ArticleSummary를 사용한다
+ * - 트랜잭션 안에서 호출해야 한다
+ */
+@Component
+@RequiredArgsConstructor
+public class ArticleAssembler {
+
+    private final ArticleRepository articleRepository;
+    private final ArticleHashtagRelationRepository articleHashtagRelationRepository;
+    private final CommentRepository commentRepository;
+    private final ConstellationRepository constellationRepository;
+    private final ConstellationUserRepository constellationUserRepository;
+    private final UserRepository userRepository;
+    private final ImageRepository imageRepository;
+    private final HitCounter hitCounter;
+
+    public Article toArticle(ArticleEntity entity) {
+        return toArticles(List.of(entity)).get(0);
+    }
+
+    public Page<Article> toArticlePage(Page<ArticleEntity> entityPage) {
+        return new PageImpl<>(toArticles(entityPage.getContent()), entityPage.getPageable(), entityPage.getTotalElements());
+    }
+
+    public List<Article> toArticles(List<ArticleEntity> entities) {
+        if (entities.isEmpty()) return List.of();
+
+        List<Long> articleIds = entities.stream().map(ArticleEntity::getId).toList();
+        Map<Long, Set<String>> hashtagsByArticleId = findHashtags(articleIds);
+        Map<Long, List<CommentDto>> commentsByArticleId = findComments(articleIds);
+        Map<Long, Constellation> constellationById = findConstellations(entities);
+        Map<Long, User> ownerById = findOwners(entities);
+        Map<Long, Image> imageById = findImages(entities);
+
+        return entities.stream().map(entity -> {
+            Long constellationId = getId(entity.getConstellationEntity(), ConstellationEntity::getId);
+            Long ownerId = getId(entity.getOwnerEntity(), UserEntity::getId);
+            Long imageId = getId(entity.getImageEntity(), ImageEntity::getId);
+
+            return new Article(
+                    entity.getId(),
+                    entity.getTitle(),
+                    hitCounter.merge(HitTarget.ARTICLE, entity.getId(), entity.getHits()),
+                    entity.getDescription(),
+                    entity.getDisclosure(),
+                    hashtagsByArticleId.getOrDefault(entity.getId(), new HashSet<>()),
+                    constellationId == null ? null : constellationById.get(constellationId),
+                    // 탈퇴 등으로 IN 쿼리에서 빠진 작성자는 기존처럼 직접 불러온다
+                    ownerId == null ? null : ownerById.computeIfAbsent(ownerId, id -> User.fromEntity(entity.getOwnerEntity())),
+                    commentsByArticleId.getOrDefault(entity.getId(), new ArrayList<>()),
+                    entity.getCreatedAt(),
+                    entity.getModifiedAt(),
+                    entity.getDeletedAt(),
+                    imageId == null ? null : imageById.get(imageId)
+            );
+        }).toList();
+    }
+
+    /**
+     * 게시물 목록용 요약 (요청한 id 순서대로, 없는 게시물은 제외)
+     * - 요약 projection 한 번, 해시태그 한 번만 조회한다
+     */
+    public List<ArticleSummary> findSummaries(List<Long> articleIds) {
+        if (articleIds.isEmpty()) return List.of();
+
+        Map<Long, ArticleSummary> summaryById = complete(articleRepository.findSummariesByIdIn(articleIds))
+                .stream()
+                .collect(Collectors.toMap(ArticleSummary::id, Function.identity()));
+
+        return articleIds.stream().map(summaryById::get).filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * 목록 쿼리에서 바로 받은 요약에 조회수(HitCounter에 쌓여 아직 DB에 반영되지 않은 증가분)와 해시태그를 채운다 (해시태그 조회 한 번)
+     */
+    public List<ArticleSummary> complete(List<ArticleSummary> summaries) {
+        if (summaries.isEmpty()) return List.of();
+
+        Map<Long, Set<String>> hashtagsByArticleId = findHashtags(summaries.stream().map(ArticleSummary::id).toList());
+        return summaries.stream()
+                .map(summary -> summary.with(
+                        hitCounter.merge(HitTarget.ARTICLE, summary.id(), summary.hits()),
+                        hashtagsByArticleId.getOrDefault(summary.id(), new HashSet<>())
+                ))
+                .toList();
+    }
+
+    public Page<ArticleSummary> complete(Page<ArticleSummary> summaryPage) {
+        return new PageImpl<>(complete(summaryPage.getContent()), summaryPage.getPageable(), summaryPage.getTotalElements());
+    }
+
+    private Map<Long, Set<String>> findHashtags(List<Long> articleIds) {
+        return articleHashtagRelationRepository.findHashtagNamesByArticleIdIn(articleIds)
+                .stream()
+                .collect(Collectors.groupingBy(ArticleHashtagName::articleId,
+                        Collectors.mapping(ArticleHashtagName::tagName, Collectors.toSet())));
+    }
+
+    // 게시물의 모든 댓글 (대댓글은 parentId로 묶어 부모 댓글에 붙인다)
+    private Map<Long, List<CommentDto>> findComments(List<Long> articleIds) {
+        List<CommentEntity> commentEntities = commentRepository.findAllWithUserByArticleIdIn(articleIds);
+        Map<Long, List<CommentEntity>> childrenByParentId = commentEntities.stream()
+                .filter(commentEntity -> commentEntity.getParentId() != null)
+                .collect(Collectors.groupingBy(CommentEntity::getParentId));
+
+        return commentEntities.stream()
+                .collect(Collectors.groupingBy(
+                        commentEntity -> commentEntity.getArticleEntity().getId(),
+                        Collectors.mapping(commentEntity -> CommentDto.of(commentEntity, childrenByParentId.getOrDefault(commentEntity.getId(), List.of())),
+                                Collectors.toList())
+                ));
+    }
+
+    private Map<Long, Constellation> findConstellations(List<ArticleEntity> entities) {
+        Set<Long> constellationIds = collectIds(entities, entity -> getId(entity.getConstellationEntity(), ConstellationEntity::getId));
+        if (constellationIds.isEmpty()) return Map.of();
+
+        Map<Long, List<ConstellationUser>> usersByConstellationId = constellationUserRepository.findConstellationUsersByConstellationIdIn(constellationIds)
+                .stream()
+                .collect(Collectors.groupingBy(ConstellationUser::constellationId));
+
+        return constellationRepository.findAllById(constellationIds)
+                .stream()
+                .collect(Collectors.toMap(ConstellationEntity::getId, constellationEntity -> Constellation.of(
+                        constellationEntity.getId(),
+                        constellationEntity.getName(),
+                        constellationEntity.getContourId(),
+                        hitCounter.merge(HitTarget.CONSTELLATION, constellationEntity.getId(), constellationEntity.getHits()),
+                        usersByConstellationId.getOrDefault(constellationEntity.getId(), List.of()),
+                        constellationEntity.getCreatedAt(),
+                        constellationEntity.getModifiedAt()
+                )));
+    }
+
+    private Map<Long, User> findOwners(List<ArticleEntity> entities) {
+        Set<Long> ownerIds = collectIds(entities, entity -> getId(entity.getOwnerEntity(), UserEntity::getId));
+        if (ownerIds.isEmpty()) return new HashMap<>();
+
+        return userRepository.findAllWithImageByIdIn(ownerIds)
+                .stream()
+                .collect(Collectors.toMap(UserEntity::getId, User::fromEntity));
+    }
+
+    private Map<Long, Image> findImages(List<ArticleEntity> entities) {
+        Set<Long> imageIds = collectIds(entities, entity -> getId(entity.getImageEntity(), ImageEntity::getId));
+        if (imageIds.isEmpty()) return Map.of();
+
+        return imageRepository.findAllById(imageIds)
+                .stream()
+                .collect(Collectors.toMap(ImageEntity::getId, Image::fromEntity));
+    }
+
+    private Set<Long> collectIds(List<ArticleEntity> entities, Function<ArticleEntity, Long> idGetter) {
+        return entities.stream().map(idGetter).filter(Objects::nonNull).collect(Collectors.toSet());
+    }
+
+    // 연관 엔티티의 id (proxy의 id는 초기화 없이 읽을 수 있다)
+    private <T> Long getId(T entity, Function<T, Long> idGetter) {
+        return entity == null ? null : idGetter.apply(entity);
+    }
+}
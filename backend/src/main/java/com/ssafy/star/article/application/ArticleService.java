@@ -4,60 +4,78 @@ import com.ssafy.star.article.dao.ArticleHashtagRelationRepository;
 import com.ssafy.star.article.dao.ArticleLikeRepository;
 import com.ssafy.star.article.dao.ArticleRepository;
 import com.ssafy.star.article.domain.ArticleEntity;
-import com.ssafy.star.article.domain.ArticleHashtagEntity;
 import com.ssafy.star.article.domain.ArticleHashtagRelationEntity;
 import com.ssafy.star.article.domain.ArticleLikeEntity;
 import com.ssafy.star.article.dto.Article;
-import com.ssafy.star.comment.dto.CommentDto;
+import com.ssafy.star.article.dto.ArticleSummary;
+import com.ssafy.star.article.dto.FeedCursor;
 import com.ssafy.star.common.exception.ByeolDamException;
 import com.ssafy.star.common.exception.ErrorCode;
-import com.ssafy.star.common.infra.S3.S3uploader;
+import com.ssafy.star.common.infra.hit.HitCounter;
+import com.ssafy.star.common.infra.hit.HitTarget;
+import com.ssafy.star.common.response.CursorSlice;
 import com.ssafy.star.common.types.DisclosureType;
 import com.ssafy.star.constellation.dao.ConstellationRepository;
 import com.ssafy.star.constellation.domain.ConstellationEntity;
-import com.ssafy.star.constellation.dto.Constellation;
 import com.ssafy.star.image.ImageType;
+import com.ssafy.star.image.application.ImageBlobService;
+import com.ssafy.star.image.application.ImageDirectUploadService;
 import com.ssafy.star.image.application.ImageService;
+import com.ssafy.star.image.application.ImageUploadService;
 import com.ssafy.star.image.domain.ImageEntity;
-import com.ssafy.star.image.dto.Image;
+import com.ssafy.star.image.dto.UploadedImage;
+import com.ssafy.star.like.LikeTarget;
+import com.ssafy.star.like.application.LikeService;
+import com.ssafy.star.like.dto.LikeStatus;
 import com.ssafy.star.user.domain.ApprovalStatus;
-import com.ssafy.star.user.domain.FollowEntity;
 import com.ssafy.star.user.domain.UserEntity;
-import com.ssafy.star.user.dto.User;
 import com.ssafy.star.user.repository.FollowRepository;
 import com.ssafy.star.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ArticleService {
 
+    // 팔로우 피드에서 지워진 게시물을 걸러낸 후 페이지를 다시 채우는 최대 횟수
+    private static final int MAX_FEED_READ_ATTEMPTS = 3;
+
     private final ArticleRepository articleRepository;
     private final ArticleHashtagRelationRepository articleHashtagRelationRepository;
     private final ConstellationRepository constellationRepository;
     private final UserRepository userRepository;
     private final FollowRepository followRepository;
-    private final S3uploader s3uploader;
+    private final ImageUploadService imageUploadService;
     private final ImageService imageService;
+    private final ImageBlobService imageBlobService;
+    private final ImageDirectUploadService imageDirectUploadService;
     private final ArticleHashtagRelationService articleHashtagRelationService;
     private final ArticleLikeRepository articleLikeRepository;
+    private final FollowTimelineService followTimelineService;
+    private final HitCounter hitCounter;
+    private final LikeService likeService;
+    private final ArticleAssembler articleAssembler;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 게시물 등록과 별자리 배정
+     * - 이미지 처리와 S3 업로드를 먼저 끝낸 후, DB 작업만 짧은 트랜잭션으로 처리한다
+     * - 트랜잭션이 실패하면 업로드한 이미지를 지운다
       */
-    @Transactional
     public void create(
             String title,
             String description,
@@ -68,46 +86,29 @@ public class ArticleService {
             Set<String> articleHashtagSet,
             Long constellationId
     ) {
-        String url = "";
-        String thumbnailUrl = "";
-        UserEntity userEntity = getUserEntityOrExceptionByEmail(email);
-        ConstellationEntity constellationEntity = getConstellationEntityOrException(constellationId); // 배정하려는 별자리 Entity
-
-        // 별자리 회원인지 확인하기
-        if(constellationEntity.getAdminEntity() != userEntity) {
-            throw new ByeolDamException(ErrorCode.INVALID_PERMISSION,
-                    String.format("%s has no permission with constellation %d", userEntity.getNickname(), constellationId));
-        }
-
-        // 이미지 S3에 업로드 (가장 마지막에 놓을 것)
-        try{
-            url = s3uploader.upload(imageFile, "articles");
-            thumbnailUrl = s3uploader.uploadThumbnail(imageFile, "thumbnails");
-            ImageEntity imageEntity = imageService.saveImage(imageFile.getOriginalFilename(), url, thumbnailUrl, imageType);
+        UploadedImage uploadedImage = uploadArticleImage(imageFile);
 
-            ArticleEntity articleEntity = ArticleEntity.of(title,
-                    description,
-                    disclosureType,
-                    userEntity,
-                    null,
-                    imageEntity
-            );
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                UserEntity userEntity = getUserEntityOrExceptionByEmail(email);
+                ConstellationEntity constellationEntity = getAdminConstellationEntityOrException(constellationId, userEntity); // 배정하려는 별자리 Entity
 
-            articleRepository.save(articleEntity);
+                ImageEntity imageEntity = imageService.saveImage(imageFile.getOriginalFilename(), uploadedImage, imageType);
+                ArticleEntity articleEntity = saveArticle(title, description, disclosureType, userEntity, imageEntity, articleHashtagSet);
 
-            articleHashtagRelationService.saveHashtag(articleEntity, articleHashtagSet);
+                articleEntity.selectConstellation(constellationEntity);
 
-            articleEntity.selectConstellation(constellationEntity);
-        } catch (IOException e) {
-            s3uploader.deleteImageFromS3(url);
-            s3uploader.deleteImageFromS3(thumbnailUrl);
+                followTimelineService.fanOut(articleEntity);
+            });
+        } catch (RuntimeException e) {
+            imageBlobService.release(uploadedImage.allUrls());
+            throw e;
         }
     }
 
     /**
      * 게시물 등록 및 미분류 별자리 배정
      */
-    @Transactional
     public void createWithNoConstellation(
             String title,
             String description,
@@ -117,33 +118,86 @@ public class ArticleService {
             ImageType imageType,
             Set<String> articleHashtagSet
     ) {
-        String url = "";
-        String thumbnailUrl = "";
-        UserEntity userEntity = getUserEntityOrExceptionByEmail(email);
+        UploadedImage uploadedImage = uploadArticleImage(imageFile);
 
-        try{
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                UserEntity userEntity = getUserEntityOrExceptionByEmail(email);
+
+                ImageEntity imageEntity = imageService.saveImage(imageFile.getOriginalFilename(), uploadedImage, imageType);
+                ArticleEntity articleEntity = saveArticle(title, description, disclosureType, userEntity, imageEntity, articleHashtagSet);
+
+                followTimelineService.fanOut(articleEntity);
+            });
+        } catch (RuntimeException e) {
+            imageBlobService.release(uploadedImage.allUrls());
+            throw e;
+        }
+    }
+
+    /**
+     * 클라이언트가 발급받은 url로 스토리지에 직접 올린 이미지로 게시물 등록
+     * - 이미지는 PENDING 상태로 저장되고, 사본 생성은 ImageProcessingWorker가 비동기로 처리한다
+     * - constellationId가 없으면 미분류로 등록한다
+     * - 사본 종류와 저장 위치는 이미지 종류로 정해지므로, 서버 업로드(uploadArticleImage)와 같이 항상 ARTICLE로 저장한다
+     */
+    @Transactional
+    public void createWithUploadedImage(
+            String title,
+            String description,
+            DisclosureType disclosureType,
+            String email,
+            String imageKey,
+            Set<String> articleHashtagSet,
+            Long constellationId
+    ) {
+        UserEntity userEntity = getUserEntityOrExceptionByEmail(email);
+        ConstellationEntity constellationEntity = constellationId == null
+                ? null
+                : getAdminConstellationEntityOrException(constellationId, userEntity);
 
-            url = s3uploader.upload(imageFile, "articles");
-            thumbnailUrl = s3uploader.uploadThumbnail(imageFile, "thumbnails");
-            ImageEntity imageEntity = imageService.saveImage(imageFile.getOriginalFilename(), url, thumbnailUrl, imageType);
+        ImageEntity imageEntity = imageDirectUploadService.savePending(imageKey, ImageType.ARTICLE);
+        ArticleEntity articleEntity = saveArticle(title, description, disclosureType, userEntity, imageEntity, articleHashtagSet);
 
-            ArticleEntity articleEntity = ArticleEntity.of(title,
-                    description,
-                    disclosureType,
-                    userEntity,
-                    null,
-                    imageEntity
-            );
+        if (constellationEntity != null) {
+            articleEntity.selectConstellation(constellationEntity);
+        }
 
-            articleRepository.save(articleEntity);
+        followTimelineService.fanOut(articleEntity);
+    }
 
-            articleHashtagRelationService.saveHashtag(articleEntity, articleHashtagSet);
+    // 이미지 S3에 업로드 (DB 커넥션을 잡기 전에 처리)
+    private UploadedImage uploadArticleImage(MultipartFile imageFile) {
+        try {
+            // 한 번 디코딩한 이미지로 원본, 썸네일, 반응형 사본을 함께 만든다 (이미 올라간 사진이면 재사용)
+            return imageUploadService.upload(imageFile, ImageType.ARTICLE);
         } catch (IOException e) {
-            s3uploader.deleteImageFromS3(url);
-            s3uploader.deleteImageFromS3(thumbnailUrl);
+            throw new ByeolDamException(ErrorCode.INTERNAL_SERVER_ERROR, "Failed to upload article image");
         }
     }
 
+    private ArticleEntity saveArticle(
+            String title,
+            String description,
+            DisclosureType disclosureType,
+            UserEntity userEntity,
+            ImageEntity imageEntity,
+            Set<String> articleHashtagSet
+    ) {
+        ArticleEntity articleEntity = ArticleEntity.of(title,
+                description,
+                disclosureType,
+                userEntity,
+                null,
+                imageEntity
+        );
+
+        articleRepository.save(articleEntity);
+
+        articleHashtagRelationService.saveHashtag(articleEntity, articleHashtagSet);
+        return articleEntity;
+    }
+
     /**
      * 게시물 수정
      */
@@ -162,7 +216,17 @@ public class ArticleService {
         articleHashtagRelationService.deleteByArticleEntity(articleEntity);
         articleHashtagRelationService.saveHashtag(articleEntity, articleHashtagSet);
 
+        DisclosureType oldDisclosure = articleEntity.getDisclosure();
         articleEntity.update(title, description, disclosure);
+
+        // 공개여부가 바뀐 경우 팔로워들의 타임라인 갱신
+        if (oldDisclosure != disclosure) {
+            if (disclosure == DisclosureType.VISIBLE) {
+                followTimelineService.fanOut(articleEntity);
+            } else {
+                followTimelineService.retract(articleEntity);
+            }
+        }
     }
 
     /**
@@ -176,8 +240,10 @@ public class ArticleService {
             throw new ByeolDamException(ErrorCode.ARTICLE_DELETED, String.format("article %d has already deleted", articleId));
         } else {
             articleLikeRepository.deleteAllByArticleEntity(articleEntity);
+            likeService.evict(LikeTarget.ARTICLE, List.of(articleId));
             articleRepository.delete(articleEntity);
             articleHashtagRelationService.deleteByArticleEntity(articleEntity);
+            followTimelineService.retract(articleEntity);
         }
     }
 
@@ -185,9 +251,9 @@ public class ArticleService {
      * 휴지통 조회
      */
     @Transactional
-    public Page<Article> trashcan(String email, Pageable pageable) {
+    public Page<ArticleSummary> trashcan(String email, Pageable pageable) {
         UserEntity userEntity = getUserEntityOrExceptionByEmail(email);
-        return articleRepository.findAllByOwnerEntityAndDeleted(userEntity, pageable).map(articleEntity -> getArticle(articleEntity));
+        return articleAssembler.complete(articleRepository.findSummariesByOwnerEntityAndDeleted(userEntity, pageable));
     }
 
     /**
@@ -205,70 +271,108 @@ public class ArticleService {
         if(articleEntity.getDeletedAt() != null) {
             articleEntity.undoDeletion();
             articleLikeRepository.findAllByArticleEntity(articleEntity).forEach(ArticleLikeEntity::undoDeletion);
+            likeService.evict(LikeTarget.ARTICLE, List.of(articleId));
             articleHashtagRelationRepository.findAllByArticleEntity(articleEntity).forEach(ArticleHashtagRelationEntity::undoDeletion);
+            followTimelineService.fanOut(articleEntity);
 
         } else {
             throw new ByeolDamException(ErrorCode.INVALID_REQUEST, String.format("article %d is not abandoned", articleId));
         }
 
-        return getArticle(articleEntity);
+        return articleAssembler.toArticle(articleEntity);
     }
 
     /**
      * 팔로우 피드
      */
     // 팔로우한 사람들의 게시물들을 최신순으로 나열해서 보여준다
+    // 타임라인(Redis)에서 한 페이지의 게시물 id만 읽고, 해당 게시물의 요약만 조회한다
+    // 타임라인에 남아 있던 지워졌거나 비공개인 게시물은 타임라인에서 빼고 같은 페이지를 다시 읽어 채운다
     @Transactional(readOnly = true)
-    public Page<Article> followFeed(String email, Pageable pageable) {
+    public Page<ArticleSummary> followFeed(String email, Pageable pageable) {
         UserEntity userEntity = getUserEntityOrExceptionByEmail(email);
-        Set<UserEntity> userEntitySet = followRepository.findByFromUserAndStatus(userEntity, ApprovalStatus.ACCEPT).stream().map(FollowEntity::getToUser).collect(Collectors.toSet());
-
-        List<ArticleEntity> articleEntityList = new ArrayList<>();
 
-        for (UserEntity tmpUserEntity : userEntitySet) {
-            List<ArticleEntity> tmpArticleEntities = articleRepository.findAllByOwnerEntity(tmpUserEntity)
+        for (int attempt = 1; ; attempt++) {
+            Page<Long> articleIdPage = followTimelineService.readPage(userEntity, pageable);
+            List<ArticleSummary> dtoList = articleAssembler.findSummaries(articleIdPage.getContent())
                     .stream()
-                    .filter(articleEntity -> articleEntity.getDeletedAt() == null) // deletedAt이 null인 것들만 필터링
-                    .collect(Collectors.toList());
+                    .filter(summary -> summary.deletedAt() == null && summary.disclosure() == DisclosureType.VISIBLE)
+                    .toList();
 
-            articleEntityList.addAll(tmpArticleEntities);
+            int staleCount = articleIdPage.getNumberOfElements() - dtoList.size();
+            if (staleCount == 0 || attempt == MAX_FEED_READ_ATTEMPTS) {
+                return new PageImpl<>(dtoList, pageable, Math.max(articleIdPage.getTotalElements() - staleCount, dtoList.size()));
+            }
+
+            Set<Long> visibleIds = new HashSet<>();
+            dtoList.forEach(summary -> visibleIds.add(summary.id()));
+            followTimelineService.discard(userEntity, articleIdPage.getContent().stream().filter(articleId -> !visibleIds.contains(articleId)).toList());
         }
+    }
 
-        // 최신순 정렬
-        Collections.sort(articleEntityList, new Comparator<ArticleEntity>() {
-            @Override
-            public int compare(ArticleEntity a1, ArticleEntity a2) {
-                return a2.getCreatedAt().compareTo(a1.getCreatedAt());
-            }
-        });
+    /**
+     * 팔로우 피드 (커서)
+     */
+    // 팔로잉 중인 유저들의 게시물을 한 번의 쿼리로 (createdAt, id) 커서 이후 size개만 조회한다
+    @Transactional(readOnly = true)
+    public CursorSlice<ArticleSummary> followFeedByCursor(String email, String cursor, int size) {
+        UserEntity userEntity = getUserEntityOrExceptionByEmail(email);
+        FeedCursor feedCursor = FeedCursor.decode(cursor);
 
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), articleEntityList.size());
-        List<Article> dtoList = articleEntityList.subList(start, end)
-                .stream().map(articleEntity -> getArticle(articleEntity)).toList();
+        Slice<ArticleSummary> summarySlice = articleRepository.findFollowFeed(userEntity, ApprovalStatus.ACCEPT,
+                feedCursor.createdAt(), feedCursor.id(), PageRequest.of(0, size));
 
-        // 페이징처리
-        return new PageImpl<>(dtoList, pageable, articleEntityList.size());
+        return toCursorSlice(summarySlice);
     }
 
     /**
-     * 유저의 게시물 전체 조회
+     * 유저의 게시물 페이지 조회
+     * - 요청한 페이지의 게시물만 DB에서 조회한다
      */
     @Transactional(readOnly = true)
-    public List<Article> userArticleList(String nickname, String email) {
-        // 찾는 유저가 접속자라면 전체 조회한다
+    public Page<ArticleSummary> userArticlePage(String nickname, String email, Pageable pageable) {
         UserEntity myEntity = getUserEntityOrExceptionByEmail(email);
         UserEntity userEntity = getUserEntityOrExceptionByNickname(nickname);
-        if(!myEntity.equals(userEntity)) {
 
-            if(!followRepository.findByFromUserAndToUser(myEntity, userEntity).isPresent()) {
+        Page<ArticleSummary> summaryPage = canSeeAllArticles(myEntity, userEntity)
+                ? articleRepository.findSummariesByOwnerEntityAndNotDeleted(userEntity, pageable)
+                : articleRepository.findSummariesByOwnerEntityAndNotDeletedAndDisclosure(userEntity, pageable);
 
-                // disclosureType에 따라 조회여부 판단
-                return articleRepository.findAllByOwnerEntityAndNotDeletedAndDisclosure(userEntity).stream().map(articleEntity -> getArticle(articleEntity)).toList();
-            }
-            // following 중이라면 전체 조회한다
-        }
-        return articleRepository.findAllByOwnerEntityAndNotDeleted(userEntity).stream().map(articleEntity -> getArticle(articleEntity)).toList();
+        return articleAssembler.complete(summaryPage);
+    }
+
+    /**
+     * 유저의 게시물 커서 조회
+     * - (createdAt, id) 커서 이후 size개만 조회한다
+     */
+    @Transactional(readOnly = true)
+    public CursorSlice<ArticleSummary> userArticleSlice(String nickname, String email, String cursor, int size) {
+        UserEntity myEntity = getUserEntityOrExceptionByEmail(email);
+        UserEntity userEntity = getUserEntityOrExceptionByNickname(nickname);
+        FeedCursor feedCursor = FeedCursor.decode(cursor);
+        PageRequest limit = PageRequest.of(0, size);
+
+        Slice<ArticleSummary> summarySlice = canSeeAllArticles(myEntity, userEntity)
+                ? articleRepository.findSummariesByOwnerEntityAndNotDeletedBefore(userEntity, feedCursor.createdAt(), feedCursor.id(), limit)
+                : articleRepository.findSummariesByOwnerEntityAndNotDeletedAndDisclosureBefore(userEntity, feedCursor.createdAt(), feedCursor.id(), limit);
+
+        return toCursorSlice(summarySlice);
+    }
+
+    // 마지막 게시물의 (createdAt, id)를 다음 커서로 사용한다
+    private CursorSlice<ArticleSummary> toCursorSlice(Slice<ArticleSummary> summarySlice) {
+        List<ArticleSummary> summaries = summarySlice.getContent();
+        String nextCursor = summarySlice.hasNext()
+                ? FeedCursor.fromSummary(summaries.get(summaries.size() - 1)).encode()
+                : null;
+
+        return new CursorSlice<>(articleAssembler.complete(summaries), nextCursor, summarySlice.hasNext());
+    }
+
+    // 찾는 유저가 접속자이거나, 접속자가 following 중이라면 전체 조회한다
+    // 그 외에는 disclosureType이 VISIBLE인 게시물만 조회한다
+    private boolean canSeeAllArticles(UserEntity myEntity, UserEntity userEntity) {
+        return myEntity.equals(userEntity) || followRepository.findByFromUserAndToUser(myEntity, userEntity).isPresent();
     }
 
     /**
@@ -283,9 +387,10 @@ public class ArticleService {
 
         // articleId AND deletedAt == null AND (내 게시물이거나 VISIBLE)
         if(articleRepository.findByArticleIdAndNotDeleted(articleId, userEntity)) {
-            articleEntity.addHits();
+            // 조회수는 바로 UPDATE하지 않고 HitCounter에 모았다가 반영한다
+            hitCounter.increase(HitTarget.ARTICLE, articleId);
 
-            return getArticle(articleRepository.saveAndFlush(articleEntity));
+            return articleAssembler.toArticle(articleEntity);
         } else {
             // Deletion 예외처리
             if(articleEntity.getDeletedAt() != null) {
@@ -339,21 +444,22 @@ public class ArticleService {
      * 별자리의 전체 게시물 조회
      */
     @Transactional
-    public List<Article> articlesInConstellation(Long constellationId, String email) {
+    public List<ArticleSummary> articlesInConstellation(Long constellationId, String email) {
         // email로 userEntity 구하고 별자리 공개여부와 해당 게시물 공유여부를 확인해 Error 반환
         UserEntity userEntity = getUserEntityOrExceptionByEmail(email);
         ConstellationEntity constellationEntity = getConstellationEntityOrException(constellationId);
-        return articleRepository.findAllByConstellationEntitySearch(constellationEntity, userEntity).stream().map(articleEntity -> getArticle(articleEntity)).toList();
+        hitCounter.increase(HitTarget.CONSTELLATION, constellationId);
+        return articleAssembler.complete(articleRepository.findSummariesByConstellationEntitySearch(constellationEntity, userEntity));
     }
 
     /**
      * 미분류 별자리의 전체 게시물 조회
      */
     @Transactional
-    public List<Article> articlesInNoConstellation(String email) {
+    public List<ArticleSummary> articlesInNoConstellation(String email) {
         // email로 userEntity 구하고 별자리 공개여부와 해당 게시물 공유여부를 확인해 Error 반환
         UserEntity userEntity = getUserEntityOrExceptionByEmail(email);
-        return articleRepository.findAllByConstellationEntityNullAndOwnerEntity(userEntity).stream().map(articleEntity -> getArticle(articleEntity)).toList();
+        return articleAssembler.complete(articleRepository.findSummariesByConstellationEntityNullAndOwnerEntity(userEntity));
     }
 
     // 포스트가 존재하는지
@@ -374,6 +480,16 @@ public class ArticleService {
                 new ByeolDamException(ErrorCode.USER_NOT_FOUND, String.format("%s not founded", nickname)));
     }
 
+    // 별자리 관리자인지 확인하고 별자리 Entity 반환
+    private ConstellationEntity getAdminConstellationEntityOrException(Long constellationId, UserEntity userEntity) {
+        ConstellationEntity constellationEntity = getConstellationEntityOrException(constellationId);
+        if(constellationEntity.getAdminEntity() != userEntity) {
+            throw new ByeolDamException(ErrorCode.INVALID_PERMISSION,
+                    String.format("%s has no permission with constellation %d", userEntity.getNickname(), constellationId));
+        }
+        return constellationEntity;
+    }
+
     // 별자리가 존재하는지
     private ConstellationEntity getConstellationEntityOrException(Long constellationId) {
         return constellationRepository.findById(constellationId).orElseThrow(() ->
@@ -395,36 +511,25 @@ public class ArticleService {
         return articleEntity;
     }
 
-    //게시물 좋아요 요청
-    @Transactional
+    //게시물 좋아요 요청 (DB에는 LikeService가 모아서 반영)
     public void like(Long articleId, String email) {
-        ArticleEntity articleEntity = getArticleEntityOrException(articleId);
-        UserEntity userEntity = getUserEntityOrExceptionByEmail(email);
-
-        // 좋아요 상태인지 확인
-        articleLikeRepository.findByUserEntityAndArticleEntity(userEntity, articleEntity).ifPresentOrElse(
-                articleLikeRepository::delete,
-                () -> articleLikeRepository.save(ArticleLikeEntity.of(userEntity, articleEntity))
-        );
+        likeService.toggle(LikeTarget.ARTICLE, articleId, email);
     }
 
     //게시물 좋아요 상태 확인
-    @Transactional
     public Boolean checkLike(Long articleId, String email) {
-        ArticleEntity articleEntity = getArticleEntityOrException(articleId);
-        UserEntity userEntity = getUserEntityOrExceptionByEmail(email);
-
-        //좋아요 상태인지 확인
-        return articleLikeRepository.findByUserEntityAndArticleEntity(userEntity, articleEntity).isPresent();
+        return likeService.isLiked(LikeTarget.ARTICLE, articleId, email);
     }
 
     //게시물 좋아요 갯수 확인
-    @Transactional
     public Integer likeCount(Long articleId) {
-        ArticleEntity articleEntity = getArticleEntityOrException(articleId);
+        return likeService.count(LikeTarget.ARTICLE, articleId);
+    }
 
-        //좋아요 갯수 확인
-        return articleLikeRepository.countByArticleEntity(articleEntity);
+    //게시물(별자리) 여러 개의 좋아요 상태와 갯수 한 번에 확인
+    public List<LikeStatus> likeStatuses(LikeTarget target, List<Long> targetIds, String email) {
+        if (targetIds == null || targetIds.isEmpty()) return List.of();
+        return likeService.findStatuses(target, targetIds, email);
     }
 
 //    //게시물 좋아요한 사람들의 목록 확인
@@ -444,52 +549,4 @@ public class ArticleService {
         UserEntity userEntity = getUserEntityOrExceptionByEmail(email);
         return articleRepository.countArticlesByUser(userEntity);
     }
-
-    public Article getArticle(ArticleEntity entity) {
-        Set<String> hashtags = new HashSet<>();
-        try{
-            hashtags = entity.getArticleHashtagRelationEntities()
-                    .stream()
-                    .map(ArticleHashtagRelationEntity::getArticleHashtagEntity)
-                    .map(ArticleHashtagEntity::getTagName)
-                    .collect(Collectors.toSet());
-        } catch(NullPointerException e) {
-            hashtags = null;
-        }
-
-        List<CommentDto> comments = null;
-        try {
-            comments = entity.getCommentEntities()
-                    .stream()
-                    .map(CommentDto::from)
-                    .collect(Collectors.toList());
-        } catch (NullPointerException e) {
-            comments = null;
-        }
-
-        Constellation constellation = null;
-        try{
-            constellation = Constellation.fromEntity(entity.getConstellationEntity());
-        } catch(NullPointerException e) {
-            constellation = null;
-        }
-
-        return new Article(
-                entity.getId(),
-                entity.getTitle(),
-                entity.getHits(),
-                entity.getDescription(),
-                entity.getDisclosure(),
-                hashtags,
-                constellation,
-                User.fromEntity(entity.getOwnerEntity()),
-                comments,
-                entity.getCreatedAt(),
-                entity.getModifiedAt(),
-                entity.getDeletedAt(),
-                Image.fromEntity(entity.getImageEntity())
-        );
-    }
-
-
 }
@@ -0,0 +1,157 @@
+package com.ssafy.star.article.application;
+
+import com.ssafy.star.article.dao.ArticleRepository;
+import com.ssafy.star.article.dao.FollowTimelineRepository;
+import com.ssafy.star.article.domain.ArticleEntity;
+import com.ssafy.star.article.dto.TimelineEntry;
+import com.ssafy.star.common.types.DisclosureType;
+import com.ssafy.star.user.domain.ApprovalStatus;
+import com.ssafy.star.user.domain.UserEntity;
+import com.ssafy.star.user.repository.FollowRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 팔로우 피드 타임라인
+ * - 게시물 작성, 삭제, 복원, 공개여부 변경 시 팔로워들의 타임라인을 갱신한다 (fan-out on write)
+ * - 팔로우 관계가 바뀌면 타임라인을 비우고, 다음 조회 시 DB에서 다시 만든다
+ * - 타임라인에는 최신 CAPACITY개만 담고, 그보다 오래된 페이지는 DB에서 조회한다
+ * - 재구성하는 동안 커밋된 게시물의 추가, 제거는 FollowTimelineRepository가 모아 두었다가 교체할 때 반영한다
+ */
+@Slf4j
+@Service
+public class FollowTimelineService {
+
+    private final FollowTimelineRepository followTimelineRepository;
+    private final FollowRepository followRepository;
+    private final ArticleRepository articleRepository;
+    private final TransactionTemplate rebuildTransactionTemplate;
+
+    public FollowTimelineService(
+            FollowTimelineRepository followTimelineRepository,
+            FollowRepository followRepository,
+            ArticleRepository articleRepository,
+            TransactionTemplate transactionTemplate
+    ) {
+        this.followTimelineRepository = followTimelineRepository;
+        this.followRepository = followRepository;
+        this.articleRepository = articleRepository;
+        // 재구성 표시 후에 읽어야 하므로, 호출한 쪽 트랜잭션의 이전 snapshot이 아닌 새 트랜잭션에서 읽는다
+        this.rebuildTransactionTemplate = new TransactionTemplate(Objects.requireNonNull(transactionTemplate.getTransactionManager()));
+        this.rebuildTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.rebuildTransactionTemplate.setReadOnly(true);
+    }
+
+    // 공개 게시물을 팔로워들의 타임라인에 추가
+    public void fanOut(ArticleEntity articleEntity) {
+        if (articleEntity.getDeletedAt() != null || articleEntity.getDisclosure() != DisclosureType.VISIBLE) return;
+
+        List<Long> followerIds = followRepository.findFromUserIdsByToUserAndStatus(articleEntity.getOwnerEntity(), ApprovalStatus.ACCEPT);
+        Long articleId = articleEntity.getId();
+        double score = toScore(articleEntity.getCreatedAt());
+        afterCommit(() -> followTimelineRepository.push(followerIds, articleId, score));
+    }
+
+    // 팔로워들의 타임라인에서 게시물 제거
+    public void retract(ArticleEntity articleEntity) {
+        List<Long> followerIds = followRepository.findFromUserIdsByToUserAndStatus(articleEntity.getOwnerEntity(), ApprovalStatus.ACCEPT);
+        Long articleId = articleEntity.getId();
+        afterCommit(() -> followTimelineRepository.remove(followerIds, articleId));
+    }
+
+    // 팔로우, 언팔로우 시 타임라인 비우기
+    public void evict(UserEntity userEntity) {
+        Long userId = userEntity.getId();
+        afterCommit(() -> followTimelineRepository.evict(userId));
+    }
+
+    /**
+     * 타임라인 한 페이지의 게시물 id (최신순)
+     * - 타임라인이 없거나 만료된 경우 DB에서 다시 만든다
+     * - 타임라인이 CAPACITY에서 잘렸다면, 타임라인을 넘어서는 페이지와 전체 갯수는 DB에서 조회한다
+     */
+    public Page<Long> readPage(UserEntity userEntity, Pageable pageable) {
+        Long userId = userEntity.getId();
+        if (!followTimelineRepository.exists(userId) && !rebuild(userEntity)) {
+            // 재구성 중에 팔로우 관계가 바뀌어 교체하지 못한 경우, 이번 페이지는 DB에서 조회한다
+            return articleRepository.findFollowFeedIds(userEntity, ApprovalStatus.ACCEPT, pageable);
+        }
+
+        long timelineSize = followTimelineRepository.count(userId);
+        if (!followTimelineRepository.isTruncated(userId)) {
+            List<Long> articleIds = followTimelineRepository.findPage(userId, pageable.getOffset(), pageable.getPageSize());
+            return new PageImpl<>(articleIds, pageable, timelineSize);
+        }
+        if (pageable.getOffset() + pageable.getPageSize() > timelineSize) {
+            return articleRepository.findFollowFeedIds(userEntity, ApprovalStatus.ACCEPT, pageable);
+        }
+        List<Long> articleIds = followTimelineRepository.findPage(userId, pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(articleIds, pageable, articleRepository.countFollowFeed(userEntity, ApprovalStatus.ACCEPT));
+    }
+
+    // 조회 중 발견한 지워졌거나 비공개로 바뀐 게시물을 타임라인에서 제거
+    public void discard(UserEntity userEntity, Collection<Long> articleIds) {
+        followTimelineRepository.discard(userEntity.getId(), articleIds);
+    }
+
+    // 팔로잉 중인 유저들의 최신 게시물로 타임라인 재구성 (CAPACITY보다 하나 더 조회해서 잘렸는지 확인)
+    // 교체하지 않았으면 false (이미 다른 재구성이 끝났다면 타임라인은 있다)
+    public boolean rebuild(UserEntity userEntity) {
+        int capacity = FollowTimelineRepository.TIMELINE_CAPACITY;
+        followTimelineRepository.startRebuild(userEntity.getId());
+        List<TimelineEntry> entries = rebuildTransactionTemplate.execute(status -> articleRepository.findFollowTimelineEntries(
+                userEntity,
+                ApprovalStatus.ACCEPT,
+                PageRequest.of(0, capacity + 1)
+        ));
+        boolean truncated = entries.size() > capacity;
+
+        Map<Long, Double> scoreByArticleId = new LinkedHashMap<>();
+        entries.stream().limit(capacity).forEach(entry -> scoreByArticleId.put(entry.articleId(), toScore(entry.createdAt())));
+        boolean replaced = followTimelineRepository.replace(userEntity.getId(), scoreByArticleId, truncated);
+        log.debug("rebuild timeline of user {} with {} articles (truncated : {}, replaced : {})", userEntity.getId(), scoreByArticleId.size(), truncated, replaced);
+        return replaced || followTimelineRepository.exists(userEntity.getId());
+    }
+
+    private double toScore(LocalDateTime createdAt) {
+        return createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    // 트랜잭션이 커밋된 후에 Redis에 반영 (롤백된 게시물이 타임라인에 남지 않도록)
+    private void afterCommit(Runnable task) {
+        Runnable safeTask = () -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.warn("Failed to update follow timeline : {}", e.toString());
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    safeTask.run();
+                }
+            });
+        } else {
+            safeTask.run();
+        }
+    }
+}
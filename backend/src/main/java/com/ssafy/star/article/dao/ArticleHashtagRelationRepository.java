@@ -2,11 +2,13 @@ package com.ssafy.star.article.dao;
 
 import com.ssafy.star.article.domain.ArticleEntity;
 import com.ssafy.star.article.domain.ArticleHashtagRelationEntity;
+import com.ssafy.star.article.dto.ArticleHashtagName;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ArticleHashtagRelationRepository extends JpaRepository<ArticleHashtagRelationEntity, Long> {
@@ -19,4 +21,8 @@ public interface ArticleHashtagRelationRepository extends JpaRepository<ArticleH
 
     @Query("SELECT a FROM ArticleHashtagRelationEntity a WHERE a.articleHashtagEntity.tagName = :tagName")
     List<ArticleHashtagRelationEntity> findAllByTagName(@Param("tagName") String tagName);
+
+    // 여러 게시물의 해시태그 이름 한 번에 조회
+    @Query("SELECT new com.ssafy.star.article.dto.ArticleHashtagName(a.articleEntity.id, h.tagName) FROM ArticleHashtagRelationEntity a JOIN a.articleHashtagEntity h WHERE a.articleEntity.id IN :articleIds")
+    List<ArticleHashtagName> findHashtagNamesByArticleIdIn(@Param("articleIds") Collection<Long> articleIds);
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.ssafy.star.article.dao;
 
 import com.ssafy.star.article.domain.ArticleEntity;
 import com.ssafy.star.article.domain.ArticleLikeEntity;
+import com.ssafy.star.like.dto.LikeMember;
 import com.ssafy.star.user.domain.UserEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -10,6 +11,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,6 +33,23 @@ public interface ArticleLikeRepository extends JpaRepository<ArticleLikeEntity,
 
     @Query("SELECT entity FROM ArticleLikeEntity entity WHERE entity.articleEntity = :articleEntity AND entity.deletedAt IS NULL")
     List<ArticleLikeEntity> findAllByArticleEntity(ArticleEntity articleEntity);
-    @Query("SELECT e FROM ArticleLikeEntity e WHERE e.userEntity = :userEntity AND e.deletedAt IS NULL ORDER BY e.createdAt DESC")
+    @Query(value = "SELECT e FROM ArticleLikeEntity e JOIN FETCH e.articleEntity WHERE e.userEntity = :userEntity AND e.deletedAt IS NULL ORDER BY e.createdAt DESC",
+            countQuery = "SELECT COUNT(e) FROM ArticleLikeEntity e WHERE e.userEntity = :userEntity AND e.deletedAt IS NULL")
     Page<ArticleLikeEntity> findAllByUserEntityOrderByCreatedAtDesc(UserEntity userEntity, Pageable pageable);
+
+    @Query("SELECT e.userEntity.id FROM ArticleLikeEntity e WHERE e.articleEntity.id = :articleId AND e.deletedAt IS NULL")
+    List<Long> findUserIdsByArticleId(Long articleId);
+
+    @Query("SELECT new com.ssafy.star.like.dto.LikeMember(e.articleEntity.id, e.userEntity.id) FROM ArticleLikeEntity e WHERE e.articleEntity.id IN :articleIds AND e.deletedAt IS NULL")
+    List<LikeMember> findLikeMembersByArticleIdIn(Collection<Long> articleIds);
+
+    @Query("SELECT e.articleEntity.id FROM ArticleLikeEntity e WHERE e.userEntity = :userEntity AND e.deletedAt IS NULL")
+    List<Long> findArticleIdsByUserEntity(UserEntity userEntity);
+
+    @Query("SELECT COUNT(e) > 0 FROM ArticleLikeEntity e WHERE e.articleEntity.id = :articleId AND e.userEntity.id = :userId AND e.deletedAt IS NULL")
+    boolean existsByArticleIdAndUserId(Long articleId, Long userId);
+
+    @Modifying
+    @Query("UPDATE ArticleLikeEntity e SET e.deletedAt = CURRENT_TIMESTAMP WHERE e.articleEntity.id = :articleId AND e.userEntity.id = :userId AND e.deletedAt IS NULL")
+    void softDeleteByArticleIdAndUserId(Long articleId, Long userId);
 }
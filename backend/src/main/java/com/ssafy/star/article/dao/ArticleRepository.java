@@ -1,39 +1,79 @@
 package com.ssafy.star.article.dao;
 
 import com.ssafy.star.article.domain.ArticleEntity;
+import com.ssafy.star.article.dto.ArticleSummary;
+import com.ssafy.star.article.dto.TimelineEntry;
 import com.ssafy.star.constellation.domain.ConstellationEntity;
+import com.ssafy.star.user.domain.ApprovalStatus;
 import com.ssafy.star.user.domain.UserEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ArticleRepository extends JpaRepository<ArticleEntity, Long> {
+        // 존재하는 게시물 id만 조회
+        @Query("SELECT a.id FROM ArticleEntity a WHERE a.id IN :articleIds")
+        List<Long> findIdsByIdIn(@Param("articleIds") Collection<Long> articleIds);
+
+        // 게시물 목록용 요약 조회 (작성자, 이미지는 필요한 컬럼만, 댓글은 갯수만), 목록 쿼리는 뒤에 조건을 붙여서 사용한다
+        String SUMMARY_SELECT = "SELECT new com.ssafy.star.article.dto.ArticleSummary(" +
+                "a.id, a.title, a.hits, a.description, a.disclosure, ce.id, o.nickname, oi.url, " +
+                "i.id, i.name, i.url, i.thumbnailUrl, i.renditions, i.blurHash, i.dominantColor, i.imageType, i.status, " +
+                "(SELECT COUNT(c) FROM CommentEntity c WHERE c.articleEntity = a), " +
+                "a.createdAt, a.modifiedAt, a.deletedAt) " +
+                "FROM ArticleEntity a LEFT JOIN a.constellationEntity ce LEFT JOIN a.ownerEntity o LEFT JOIN o.imageEntity oi LEFT JOIN a.imageEntity i ";
+
+        @Query(SUMMARY_SELECT + "WHERE a.id IN :articleIds")
+        List<ArticleSummary> findSummariesByIdIn(@Param("articleIds") Collection<Long> articleIds);
+
         // 게시물 상세 조회(지워지지 않은)
         @Query("SELECT COUNT(a) > 0 FROM ArticleEntity a WHERE a.id = :articleId AND a.deletedAt IS NULL AND (a.ownerEntity = :ownerEntity OR a.disclosure = 'VISIBLE')")
         boolean findByArticleIdAndNotDeleted(@Param("articleId") Long articleId, @Param("ownerEntity") UserEntity ownerEntity);
 
         /**
-         * 유저 게시물 전체 조회(지워지지 않은)
+         * 유저 게시물 페이지 조회(지워지지 않은), 최신순
           */
         // userEntity, deletedAt == Null, VISIBLE
-        @Query("SELECT a FROM ArticleEntity a WHERE a.ownerEntity = :ownerEntity AND a.deletedAt IS NULL AND a.disclosure = 'VISIBLE'")
-        List<ArticleEntity> findAllByOwnerEntityAndNotDeletedAndDisclosure(@Param("ownerEntity") UserEntity ownerEntity);
+        @Query(value = SUMMARY_SELECT + "WHERE a.ownerEntity = :ownerEntity AND a.deletedAt IS NULL AND a.disclosure = 'VISIBLE' ORDER BY a.createdAt DESC, a.id DESC",
+                countQuery = "SELECT COUNT(a) FROM ArticleEntity a WHERE a.ownerEntity = :ownerEntity AND a.deletedAt IS NULL AND a.disclosure = 'VISIBLE'")
+        Page<ArticleSummary> findSummariesByOwnerEntityAndNotDeletedAndDisclosure(@Param("ownerEntity") UserEntity ownerEntity, Pageable pageable);
+
+        // userEntity, deletedAt == Null
+        @Query(value = SUMMARY_SELECT + "WHERE a.ownerEntity = :ownerEntity AND a.deletedAt IS NULL ORDER BY a.createdAt DESC, a.id DESC",
+                countQuery = "SELECT COUNT(a) FROM ArticleEntity a WHERE a.ownerEntity = :ownerEntity AND a.deletedAt IS NULL")
+        Page<ArticleSummary> findSummariesByOwnerEntityAndNotDeleted(@Param("ownerEntity") UserEntity ownerEntity, Pageable pageable);
+
+        /**
+         * 유저 게시물 keyset 조회(지워지지 않은), (createdAt, id) < cursor
+         * - cursor(createdAt, articleId)가 null이면 첫 페이지
+         */
+        // userEntity, deletedAt == Null, VISIBLE
+        @Query(SUMMARY_SELECT + "WHERE a.ownerEntity = :ownerEntity AND a.deletedAt IS NULL AND a.disclosure = 'VISIBLE' " +
+                "AND (:createdAt IS NULL OR a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :articleId)) ORDER BY a.createdAt DESC, a.id DESC")
+        Slice<ArticleSummary> findSummariesByOwnerEntityAndNotDeletedAndDisclosureBefore(@Param("ownerEntity") UserEntity ownerEntity,
+                                                                                        @Param("createdAt") LocalDateTime createdAt, @Param("articleId") Long articleId, Pageable pageable);
 
         // userEntity, deletedAt == Null
-        @Query("SELECT a FROM ArticleEntity a WHERE a.ownerEntity = :ownerEntity AND a.deletedAt IS NULL")
-        List<ArticleEntity> findAllByOwnerEntityAndNotDeleted(@Param("ownerEntity") UserEntity ownerEntity);
+        @Query(SUMMARY_SELECT + "WHERE a.ownerEntity = :ownerEntity AND a.deletedAt IS NULL " +
+                "AND (:createdAt IS NULL OR a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :articleId)) ORDER BY a.createdAt DESC, a.id DESC")
+        Slice<ArticleSummary> findSummariesByOwnerEntityAndNotDeletedBefore(@Param("ownerEntity") UserEntity ownerEntity,
+                                                                           @Param("createdAt") LocalDateTime createdAt, @Param("articleId") Long articleId, Pageable pageable);
 
         /**
          * 휴지통 조회
          */
-        @Query("SELECT a FROM ArticleEntity a WHERE a.ownerEntity = :ownerEntity AND a.deletedAt IS NOT NULL")
-        Page<ArticleEntity> findAllByOwnerEntityAndDeleted(@Param("ownerEntity") UserEntity ownerEntity, Pageable pageable);
+        @Query(value = SUMMARY_SELECT + "WHERE a.ownerEntity = :ownerEntity AND a.deletedAt IS NOT NULL",
+                countQuery = "SELECT COUNT(a) FROM ArticleEntity a WHERE a.ownerEntity = :ownerEntity AND a.deletedAt IS NOT NULL")
+        Page<ArticleSummary> findSummariesByOwnerEntityAndDeleted(@Param("ownerEntity") UserEntity ownerEntity, Pageable pageable);
 
         List<ArticleEntity> findAllByOwnerEntity(UserEntity userEntity);
 
@@ -41,16 +81,58 @@ public interface ArticleRepository extends JpaRepository<ArticleEntity, Long> {
         @Query("SELECT a FROM ArticleEntity a WHERE a.constellationEntity = :constellationEntity AND a.deletedAt IS NULL AND (a.disclosure = 'VISIBLE' OR a.ownerEntity = :userEntity)")
         List<ArticleEntity> findAllByConstellationEntitySearch(@Param("constellationEntity")ConstellationEntity constellationEntity, @Param("userEntity")UserEntity userEntity);
 
+        @Query(SUMMARY_SELECT + "WHERE a.constellationEntity = :constellationEntity AND a.deletedAt IS NULL AND (a.disclosure = 'VISIBLE' OR a.ownerEntity = :userEntity)")
+        List<ArticleSummary> findSummariesByConstellationEntitySearch(@Param("constellationEntity") ConstellationEntity constellationEntity, @Param("userEntity") UserEntity userEntity);
+
+        // 여러 별자리의 게시물을 이미지와 함께 한 번에 조회 (우주 보기)
+        @Query("SELECT a FROM ArticleEntity a JOIN FETCH a.imageEntity " +
+                "WHERE a.constellationEntity.id IN :constellationIds AND a.deletedAt IS NULL AND (a.disclosure = 'VISIBLE' OR a.ownerEntity = :userEntity)")
+        List<ArticleEntity> findAllWithImageByConstellationIdInSearch(@Param("constellationIds") Collection<Long> constellationIds, @Param("userEntity") UserEntity userEntity);
+
         // 별자리 삭제 시 별자리의 모든 게시물 가져오기
 //        @Query("SELECT a FROM ArticleEntity a WHERE a.constellationEntity = :constellationEntity")
         List<ArticleEntity> findByConstellationEntity(ConstellationEntity constellationEntity);
 
         // 미분류 별자리 게시물 전체 조회
-        @Query("SELECT a FROM ArticleEntity a WHERE a.constellationEntity IS NULL AND a.ownerEntity = :userEntity AND a.deletedAt IS NULL")
-        List<ArticleEntity> findAllByConstellationEntityNullAndOwnerEntity(@Param("userEntity") UserEntity userEntity);
+        @Query(SUMMARY_SELECT + "WHERE a.constellationEntity IS NULL AND a.ownerEntity = :userEntity AND a.deletedAt IS NULL")
+        List<ArticleSummary> findSummariesByConstellationEntityNullAndOwnerEntity(@Param("userEntity") UserEntity userEntity);
+
+        // 좋아요한 게시물 (좋아요한 최신순)
+        @Query(value = SUMMARY_SELECT + "JOIN ArticleLikeEntity e ON e.articleEntity = a WHERE e.userEntity = :userEntity AND e.deletedAt IS NULL ORDER BY e.createdAt DESC",
+                countQuery = "SELECT COUNT(e) FROM ArticleLikeEntity e WHERE e.userEntity = :userEntity AND e.deletedAt IS NULL")
+        Page<ArticleSummary> findLikedSummaries(@Param("userEntity") UserEntity userEntity, Pageable pageable);
 
         // 게시물 숫자
         @Query(value = "SELECT COUNT(*) FROM ArticleEntity entity WHERE entity.ownerEntity = :ownerEntity AND entity.deletedAt IS NULL")
         Integer countArticlesByUser(@Param("ownerEntity") UserEntity ownerEntity);
+
+        // 팔로우 타임라인 재구성 - 팔로잉 중인 유저들의 공개 게시물 id, 작성 시각
+        @Query("SELECT new com.ssafy.star.article.dto.TimelineEntry(a.id, a.createdAt) FROM ArticleEntity a " +
+                "WHERE a.ownerEntity IN (SELECT f.toUser FROM FollowEntity f WHERE f.fromUser = :fromUser AND f.status = :status) " +
+                "AND a.deletedAt IS NULL AND a.disclosure = 'VISIBLE' ORDER BY a.createdAt DESC")
+        List<TimelineEntry> findFollowTimelineEntries(@Param("fromUser") UserEntity fromUser, @Param("status") ApprovalStatus status, Pageable pageable);
+
+        // 팔로우 피드 게시물 id 페이지 (타임라인 CAPACITY보다 오래된 페이지는 DB에서)
+        @Query(value = "SELECT a.id FROM ArticleEntity a JOIN FollowEntity f ON a.ownerEntity = f.toUser " +
+                "WHERE f.fromUser = :fromUser AND f.status = :status AND a.deletedAt IS NULL AND a.disclosure = 'VISIBLE' " +
+                "ORDER BY a.createdAt DESC, a.id DESC",
+                countQuery = "SELECT COUNT(a) FROM ArticleEntity a JOIN FollowEntity f ON a.ownerEntity = f.toUser " +
+                "WHERE f.fromUser = :fromUser AND f.status = :status AND a.deletedAt IS NULL AND a.disclosure = 'VISIBLE'")
+        Page<Long> findFollowFeedIds(@Param("fromUser") UserEntity fromUser, @Param("status") ApprovalStatus status, Pageable pageable);
+
+        @Query("SELECT COUNT(a) FROM ArticleEntity a JOIN FollowEntity f ON a.ownerEntity = f.toUser " +
+                "WHERE f.fromUser = :fromUser AND f.status = :status AND a.deletedAt IS NULL AND a.disclosure = 'VISIBLE'")
+        long countFollowFeed(@Param("fromUser") UserEntity fromUser, @Param("status") ApprovalStatus status);
+
+        /**
+         * 팔로우 피드 (keyset 페이지네이션), (createdAt, id) < cursor
+         * - cursor(createdAt, articleId)가 null이면 첫 페이지
+         */
+        @Query(SUMMARY_SELECT + "JOIN FollowEntity f ON a.ownerEntity = f.toUser " +
+                "WHERE f.fromUser = :fromUser AND f.status = :status AND a.deletedAt IS NULL AND a.disclosure = 'VISIBLE' " +
+                "AND (:createdAt IS NULL OR a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :articleId)) " +
+                "ORDER BY a.createdAt DESC, a.id DESC")
+        Slice<ArticleSummary> findFollowFeed(@Param("fromUser") UserEntity fromUser, @Param("status") ApprovalStatus status,
+                                            @Param("createdAt") LocalDateTime createdAt, @Param("articleId") Long articleId, Pageable pageable);
 }
 
@@ -0,0 +1,201 @@
+package com.ssafy.star.article.dao;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 팔로우 피드 타임라인 (유저별 Redis Sorted Set)
+ * - member : 게시물 id, score : 게시물 작성 시각(epoch millis)
+ * - 타임라인이 만들어졌음을 표시하기 위해 score가 가장 낮은 sentinel member를 함께 저장한다
+ * - sentinel의 score로 CAPACITY를 넘어 오래된 게시물이 잘렸는지 표시한다 (-1 : 전부 담김, -2 : 잘림)
+ * - 재구성 중(:rebuilding 표시가 있는 동안)에는 아직 없는 타임라인에 대한 추가, 제거를 따로 모아 두고, 교체할 때 함께 반영한다
+ *   (DB를 읽은 후 커밋된 게시물이 재구성한 타임라인에서 빠지지 않도록)
+ * - 팔로워가 많아도 Redis를 오래 막지 않도록 여러 타임라인 갱신은 KEY_CHUNK_SIZE개씩 나눠서 실행한다
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class FollowTimelineRepository {
+
+    public final static int TIMELINE_CAPACITY = 800;
+    private final static Duration TIMELINE_TTL = Duration.ofDays(7);
+    private final static String SENTINEL = "0";
+    private final static double SENTINEL_SCORE = -1;
+    private final static double TRUNCATED_SENTINEL_SCORE = -2;
+    private final static Duration REBUILD_TTL = Duration.ofMinutes(1);
+    private final static int KEY_CHUNK_SIZE = 500;
+    private final static String REBUILDING_SUFFIX = ":rebuilding";
+    private final static String PUSHED_SUFFIX = ":rebuild:pushed";
+    private final static String REMOVED_SUFFIX = ":rebuild:removed";
+
+    // 이미 만들어진 타임라인에만 추가하고, sentinel(rank 0)을 제외한 나머지를 CAPACITY개로 자른다 (잘렸으면 sentinel에 표시)
+    // 재구성 중인 타임라인이면 추가할 게시물을 모아 둔다
+    private final static RedisScript<Long> PUSH_SCRIPT = new DefaultRedisScript<>(
+            "local pushed = 0 " +
+            "for _, key in ipairs(KEYS) do " +
+            "  if redis.call('EXISTS', key) == 1 then " +
+            "    redis.call('ZADD', key, ARGV[2], ARGV[1]) " +
+            "    if redis.call('ZREMRANGEBYRANK', key, 1, -(tonumber(ARGV[3]) + 1)) > 0 then " +
+            "      redis.call('ZADD', key, ARGV[4], ARGV[5]) " +
+            "    end " +
+            "    pushed = pushed + 1 " +
+            "  elseif redis.call('EXISTS', key .. '" + REBUILDING_SUFFIX + "') == 1 then " +
+            "    redis.call('ZADD', key .. '" + PUSHED_SUFFIX + "', ARGV[2], ARGV[1]) " +
+            "    redis.call('SREM', key .. '" + REMOVED_SUFFIX + "', ARGV[1]) " +
+            "    redis.call('EXPIRE', key .. '" + PUSHED_SUFFIX + "', ARGV[6]) " +
+            "  end " +
+            "end " +
+            "return pushed",
+            Long.class
+    );
+
+    // 재구성 중인 타임라인이면 제거할 게시물을 모아 둔다
+    private final static RedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>(
+            "local removed = 0 " +
+            "for _, key in ipairs(KEYS) do " +
+            "  if redis.call('EXISTS', key) == 1 then " +
+            "    removed = removed + redis.call('ZREM', key, ARGV[1]) " +
+            "  elseif redis.call('EXISTS', key .. '" + REBUILDING_SUFFIX + "') == 1 then " +
+            "    redis.call('SADD', key .. '" + REMOVED_SUFFIX + "', ARGV[1]) " +
+            "    redis.call('ZREM', key .. '" + PUSHED_SUFFIX + "', ARGV[1]) " +
+            "    redis.call('EXPIRE', key .. '" + REMOVED_SUFFIX + "', ARGV[2]) " +
+            "  end " +
+            "end " +
+            "return removed",
+            Long.class
+    );
+
+    /**
+     * 임시 key(KEYS[1])에 만든 타임라인으로 교체
+     * - 재구성 중 표시(KEYS[3])가 없으면(그 사이 evict 되었거나 다른 재구성이 끝난 경우) 교체하지 않는다
+     * - 이미 타임라인이 있으면(다른 재구성이 먼저 끝난 경우) 교체하지 않는다
+     * - 재구성 중 모아 둔 추가(KEYS[4]), 제거(KEYS[5])를 반영한 후 CAPACITY개로 자른다
+     * ARGV : ttl(초), capacity, 잘림 표시 score, sentinel
+     */
+    private final static RedisScript<Long> REPLACE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 1 or redis.call('EXISTS', KEYS[3]) == 0 then " +
+            "  redis.call('DEL', KEYS[1]) " +
+            "  return 0 " +
+            "end " +
+            "if redis.call('EXISTS', KEYS[4]) == 1 then " +
+            "  redis.call('ZUNIONSTORE', KEYS[1], 2, KEYS[1], KEYS[4], 'AGGREGATE', 'MAX') " +
+            "end " +
+            "for _, member in ipairs(redis.call('SMEMBERS', KEYS[5])) do " +
+            "  redis.call('ZREM', KEYS[1], member) " +
+            "end " +
+            "if redis.call('ZREMRANGEBYRANK', KEYS[1], 1, -(tonumber(ARGV[2]) + 1)) > 0 then " +
+            "  redis.call('ZADD', KEYS[1], ARGV[3], ARGV[4]) " +
+            "end " +
+            "redis.call('RENAME', KEYS[1], KEYS[2]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[1]) " +
+            "redis.call('DEL', KEYS[3], KEYS[4], KEYS[5]) " +
+            "return 1",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> timelineRedisTemplate;
+
+    public void push(Collection<Long> userIds, Long articleId, double score) {
+        long pushed = 0;
+        for (List<String> keys : getKeyChunks(userIds)) {
+            Long count = timelineRedisTemplate.execute(PUSH_SCRIPT, keys,
+                    String.valueOf(articleId), String.valueOf(score), String.valueOf(TIMELINE_CAPACITY),
+                    String.valueOf(TRUNCATED_SENTINEL_SCORE), SENTINEL, String.valueOf(REBUILD_TTL.toSeconds()));
+            pushed += count == null ? 0 : count;
+        }
+        log.debug("push article {} to {} timelines", articleId, pushed);
+    }
+
+    public void remove(Collection<Long> userIds, Long articleId) {
+        long removed = 0;
+        for (List<String> keys : getKeyChunks(userIds)) {
+            Long count = timelineRedisTemplate.execute(REMOVE_SCRIPT, keys,
+                    String.valueOf(articleId), String.valueOf(REBUILD_TTL.toSeconds()));
+            removed += count == null ? 0 : count;
+        }
+        log.debug("remove article {} from {} timelines", articleId, removed);
+    }
+
+    // 한 유저의 타임라인에서 여러 게시물 제거 (조회 시 발견한 지워진 게시물 정리)
+    public void discard(Long userId, Collection<Long> articleIds) {
+        if (articleIds.isEmpty()) return;
+        timelineRedisTemplate.opsForZSet().remove(getKey(userId), articleIds.stream().map(String::valueOf).toArray());
+    }
+
+    public boolean exists(Long userId) {
+        return Boolean.TRUE.equals(timelineRedisTemplate.hasKey(getKey(userId)));
+    }
+
+    // 최신순으로 offset부터 size개의 게시물 id
+    public List<Long> findPage(Long userId, long offset, int size) {
+        String key = getKey(userId);
+        Set<String> members = timelineRedisTemplate.opsForZSet().reverseRange(key, offset, offset + size - 1);
+        timelineRedisTemplate.expire(key, TIMELINE_TTL);
+        if (members == null) return List.of();
+        return members.stream()
+                .filter(member -> !SENTINEL.equals(member))
+                .map(Long::valueOf)
+                .toList();
+    }
+
+    public long count(Long userId) {
+        Long size = timelineRedisTemplate.opsForZSet().zCard(getKey(userId));
+        return size == null ? 0 : Math.max(size - 1, 0);
+    }
+
+    // CAPACITY보다 오래된 게시물이 타임라인에서 잘렸는지
+    public boolean isTruncated(Long userId) {
+        Double score = timelineRedisTemplate.opsForZSet().score(getKey(userId), SENTINEL);
+        return score != null && score == TRUNCATED_SENTINEL_SCORE;
+    }
+
+    // 재구성 시작 표시 (DB를 읽기 전에 호출해야 그 후의 추가, 제거를 모아 둔다)
+    public void startRebuild(Long userId) {
+        timelineRedisTemplate.opsForValue().set(getKey(userId) + REBUILDING_SUFFIX, SENTINEL, REBUILD_TTL);
+    }
+
+    // 타임라인 전체 교체 (임시 key에 만든 후, 재구성 중 모아 둔 변경과 합쳐서 RENAME), 교체하지 않았으면 false
+    public boolean replace(Long userId, Map<Long, Double> scoreByArticleId, boolean truncated) {
+        String key = getKey(userId);
+        String tmpKey = key + ":rebuild:" + UUID.randomUUID();
+
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        tuples.add(new DefaultTypedTuple<>(SENTINEL, truncated ? TRUNCATED_SENTINEL_SCORE : SENTINEL_SCORE));
+        scoreByArticleId.forEach((articleId, score) -> tuples.add(new DefaultTypedTuple<>(String.valueOf(articleId), score)));
+
+        timelineRedisTemplate.opsForZSet().add(tmpKey, tuples);
+        Long replaced = timelineRedisTemplate.execute(REPLACE_SCRIPT,
+                List.of(tmpKey, key, key + REBUILDING_SUFFIX, key + PUSHED_SUFFIX, key + REMOVED_SUFFIX),
+                String.valueOf(TIMELINE_TTL.toSeconds()), String.valueOf(TIMELINE_CAPACITY),
+                String.valueOf(TRUNCATED_SENTINEL_SCORE), SENTINEL);
+        return replaced != null && replaced == 1;
+    }
+
+    // 진행 중인 재구성도 취소한다 (바뀌기 전의 팔로우 관계로 읽은 타임라인이 들어가지 않도록)
+    public void evict(Long userId) {
+        String key = getKey(userId);
+        timelineRedisTemplate.delete(List.of(key, key + REBUILDING_SUFFIX, key + PUSHED_SUFFIX, key + REMOVED_SUFFIX));
+    }
+
+    private List<List<String>> getKeyChunks(Collection<Long> userIds) {
+        List<String> keys = userIds.stream().map(this::getKey).toList();
+        List<List<String>> chunks = new ArrayList<>();
+        for (int from = 0; from < keys.size(); from += KEY_CHUNK_SIZE) {
+            chunks.add(keys.subList(from, Math.min(from + KEY_CHUNK_SIZE, keys.size())));
+        }
+        return chunks;
+    }
+
+    private String getKey(Long userId) {
+        return "TIMELINE:" + userId;
+    }
+}
@@ -18,14 +18,15 @@ import java.util.List;
 import java.util.Set;
 
 @Entity
-@Table(name = "article")
+@Table(name = "article", indexes = {
+        @Index(name = "idx_article_owner_created", columnList = "user_id, created_at, id")
+})
 @Getter
 @NoArgsConstructor
 @SQLDelete(sql = "UPDATE `article` SET deleted_at = NOW() where id=?")
 //@Where(clause = "deleted_at is NULL")
 public class ArticleEntity {
 
-    // TODO : Article 인덱싱 ownerEntity 기준으로
     @Id
     @Column(name = "id")
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -38,7 +39,8 @@ public class ArticleEntity {
     @OneToMany(mappedBy = "articleEntity", cascade = CascadeType.ALL)
     private Set<ArticleHashtagRelationEntity> articleHashtagRelationEntities = new HashSet<>();
 
-    @Column(name = "hits", nullable = false)
+    // 조회수는 HitCounter가 batch UPDATE로만 증가시킨다
+    @Column(name = "hits", nullable = false, updatable = false)
     private long hits;
 
     @Column(name = "description", length = 300)
@@ -92,8 +94,6 @@ public class ArticleEntity {
         this.deletedAt = null;
     }
 
-    public void addHits() { this.hits++; }
-
     public void selectConstellation(ConstellationEntity constellationEntity) { this.constellationEntity = constellationEntity; }
 
     public void update(String title, String description, DisclosureType disclosure) {
@@ -0,0 +1,7 @@
+package com.ssafy.star.article.dto;
+
+public record ArticleHashtagName(
+        Long articleId,
+        String tagName
+) {
+}
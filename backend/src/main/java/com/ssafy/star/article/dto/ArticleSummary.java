@@ -0,0 +1,93 @@
+package com.ssafy.star.article.dto;
+
+import com.ssafy.star.common.types.DisclosureType;
+import com.ssafy.star.image.ImageStatus;
+import com.ssafy.star.image.ImageType;
+import com.ssafy.star.image.dto.Image;
+import com.ssafy.star.image.dto.ImageRendition;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 게시물 목록용 요약
+ * - 댓글 목록, 작성자 전체 정보 없이 목록 화면에 필요한 값만 담는다 (상세 조회는 Article)
+ */
+public record ArticleSummary(
+        Long id,
+        String title,
+        long hits,
+        String description,
+        DisclosureType disclosure,
+        Long constellationId,
+        String ownerNickname,
+        String ownerProfileImageUrl,
+        Image image,
+        long commentCount,
+        Set<String> articleHashtags,
+        LocalDateTime createdAt,
+        LocalDateTime modifiedAt,
+        LocalDateTime deletedAt
+) {
+    // JPQL constructor expression용 (해시태그는 따로 조회해서 채운다)
+    public ArticleSummary(
+            Long id,
+            String title,
+            Long hits,
+            String description,
+            DisclosureType disclosure,
+            Long constellationId,
+            String ownerNickname,
+            String ownerProfileImageUrl,
+            Long imageId,
+            String imageName,
+            String imageUrl,
+            String thumbnailUrl,
+            List<ImageRendition> imageRenditions,
+            String imageBlurHash,
+            String imageDominantColor,
+            ImageType imageType,
+            ImageStatus imageStatus,
+            Long commentCount,
+            LocalDateTime createdAt,
+            LocalDateTime modifiedAt,
+            LocalDateTime deletedAt
+    ) {
+        this(
+                id,
+                title,
+                hits,
+                description,
+                disclosure,
+                constellationId,
+                ownerNickname,
+                ownerProfileImageUrl,
+                imageId == null ? null : Image.of(imageId, imageName, imageUrl, thumbnailUrl, imageRenditions, imageBlurHash, imageDominantColor, imageType, imageStatus),
+                commentCount,
+                Set.of(),
+                createdAt,
+                modifiedAt,
+                deletedAt
+        );
+    }
+
+    public ArticleSummary with(long hits, Set<String> articleHashtags) {
+        return new ArticleSummary(
+                id,
+                title,
+                hits,
+                description,
+                disclosure,
+                constellationId,
+                ownerNickname,
+                ownerProfileImageUrl,
+                image,
+                commentCount,
+                articleHashtags,
+                createdAt,
+                modifiedAt,
+                deletedAt
+        );
+    }
+}
@@ -0,0 +1,47 @@
+package com.ssafy.star.article.dto;
+
+import com.ssafy.star.common.exception.ByeolDamException;
+import com.ssafy.star.common.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 게시물 목록 keyset 페이지네이션 커서
+ * - 마지막으로 받은 게시물의 (createdAt, id)를 "createdAt_id" 형태로 Base64 인코딩한다
+ */
+public record FeedCursor(
+        LocalDateTime createdAt,
+        Long id
+) {
+    private static final String DELIMITER = "_";
+
+    // 첫 페이지 조회용 커서 (조회 쿼리에서 cursor 조건을 건너뛴다)
+    private static final FeedCursor FIRST = new FeedCursor(null, null);
+
+    public static FeedCursor fromSummary(ArticleSummary summary) {
+        return new FeedCursor(summary.createdAt(), summary.id());
+    }
+
+    // 빈 문자열이면 첫 페이지
+    public static FeedCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return FIRST;
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = decoded.lastIndexOf(DELIMITER);
+            return new FeedCursor(
+                    LocalDateTime.parse(decoded.substring(0, index)),
+                    Long.parseLong(decoded.substring(index + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new ByeolDamException(ErrorCode.INVALID_REQUEST, String.format("cursor %s is invalid", cursor));
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt.toString() + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
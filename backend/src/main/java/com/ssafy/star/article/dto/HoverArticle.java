@@ -1,15 +1,24 @@
 package com.ssafy.star.article.dto;
 
 import com.ssafy.star.article.domain.ArticleEntity;
+import com.ssafy.star.image.dto.ImageRendition;
+
+import java.util.List;
 
 public record HoverArticle(
         Long id,
-        String articleThumbnail
+        String articleThumbnail,
+        List<ImageRendition> articleRenditions,
+        String articleBlurHash,
+        String articleDominantColor
 ) {
     public static HoverArticle fromEntity(ArticleEntity entity) {
         return new HoverArticle(
                 entity.getId(),
-                entity.getImageEntity().getThumbnailUrl()
+                entity.getImageEntity().getThumbnailUrl(),
+                entity.getImageEntity().getRenditions(),
+                entity.getImageEntity().getBlurHash(),
+                entity.getImageEntity().getDominantColor()
         );
     }
 }
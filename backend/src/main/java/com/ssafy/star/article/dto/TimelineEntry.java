@@ -0,0 +1,9 @@
+package com.ssafy.star.article.dto;
+
+import java.time.LocalDateTime;
+
+public record TimelineEntry(
+        Long articleId,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,16 @@
+package com.ssafy.star.article.dto.request;
+
+import com.ssafy.star.common.types.DisclosureType;
+
+import java.util.Set;
+
+// imageKey : /images/upload-url로 발급받은 key (constellationId가 없으면 미분류)
+public record ArticleCreateDirectRequest(
+
+    String title,
+    String description,
+    DisclosureType disclosureType,
+    Set<String> articleHashtagSet,
+    Long constellationId,
+    String imageKey
+){}
@@ -0,0 +1,9 @@
+package com.ssafy.star.article.dto.request;
+
+import java.util.List;
+
+public record BulkLikeRequest(
+        List<Long> articleIds,
+        List<Long> constellationIds
+) {
+}
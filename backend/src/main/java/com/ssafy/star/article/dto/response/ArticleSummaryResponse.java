@@ -0,0 +1,46 @@
+package com.ssafy.star.article.dto.response;
+
+import com.ssafy.star.article.dto.ArticleSummary;
+import com.ssafy.star.common.types.DisclosureType;
+import com.ssafy.star.image.dto.response.ImageResponse;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+// 목록 응답, ArticleResponse와 같은 필드 이름을 사용한다
+public record ArticleSummaryResponse(
+        Long id,
+        String title,
+        long hits,
+        String description,
+        DisclosureType disclosure,
+        Set<String> articleHashtags,
+        Long constellationId,
+        String ownerEntityNickname,
+        String ownerProfileImageUrl,
+        long commentCount,
+        LocalDateTime createdAt,
+        LocalDateTime modifiedAt,
+        LocalDateTime deletedAt,
+        ImageResponse imageResponse
+) {
+
+    public static ArticleSummaryResponse fromSummary(ArticleSummary summary) {
+        return new ArticleSummaryResponse(
+                summary.id(),
+                summary.title(),
+                summary.hits(),
+                summary.description(),
+                summary.disclosure(),
+                summary.articleHashtags(),
+                summary.constellationId(),
+                summary.ownerNickname(),
+                summary.ownerProfileImageUrl(),
+                summary.commentCount(),
+                summary.createdAt(),
+                summary.modifiedAt(),
+                summary.deletedAt(),
+                summary.image() == null ? null : ImageResponse.fromImage(summary.image())
+        );
+    }
+}
@@ -0,0 +1,11 @@
+package com.ssafy.star.article.dto.response;
+
+import com.ssafy.star.like.dto.LikeStatus;
+
+import java.util.List;
+
+public record BulkLikeResponse(
+        List<LikeStatus> articles,
+        List<LikeStatus> constellations
+) {
+}
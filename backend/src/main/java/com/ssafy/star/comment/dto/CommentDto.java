@@ -17,6 +17,23 @@ public record CommentDto(
         LocalDateTime modifiedAt,
         List<CommentChildrenDto> childrenComments
 ) {
+    // 대댓글을 미리 조회해둔 경우 (ArticleAssembler)
+    public static CommentDto of(CommentEntity entity, List<CommentEntity> childrenComments) {
+        return new CommentDto(
+            entity.getId(),
+            entity.getArticleEntity().getId(),
+            entity.getUserEntity().getNickname(),
+            entity.getContent(),
+            entity.getParentId(),
+            entity.getCreatedAt(),
+            entity.getModifiedAt(),
+            childrenComments.stream()
+                    .map(CommentChildrenDto::from)
+                    .sorted(Comparator.comparing(CommentChildrenDto::createdAt))
+                    .collect(Collectors.toList())
+        );
+    }
+
     public static CommentDto from(CommentEntity entity) {
         return new CommentDto(
             entity.getId(),
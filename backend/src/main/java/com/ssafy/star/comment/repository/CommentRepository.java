@@ -9,6 +9,9 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 
 @Repository
 public interface CommentRepository extends JpaRepository<CommentEntity, Long> {
@@ -16,4 +19,8 @@ public interface CommentRepository extends JpaRepository<CommentEntity, Long> {
     Page<CommentEntity> findAllByArticleEntity(ArticleEntity article, Pageable pageable);
     @Query("SELECT c FROM CommentEntity c WHERE c.articleEntity = :article AND c.parentId IS NULL")
     Page<CommentEntity> findByArticleEntityAndParentId(@Param("article")ArticleEntity article, Pageable pageable);
+
+    // 여러 게시물의 댓글과 작성자 한 번에 조회
+    @Query("SELECT c FROM CommentEntity c JOIN FETCH c.userEntity WHERE c.articleEntity.id IN :articleIds ORDER BY c.id")
+    List<CommentEntity> findAllWithUserByArticleIdIn(@Param("articleIds") Collection<Long> articleIds);
 }
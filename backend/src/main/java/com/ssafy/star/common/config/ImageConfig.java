@@ -0,0 +1,57 @@
+package com.ssafy.star.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class ImageConfig {
+
+    // 이미지 리사이징, 인코딩은 CPU 작업이므로 코어 수만큼의 스레드에서 처리
+    @Bean(name = "imageExecutor", destroyMethod = "shutdown")
+    public ExecutorService imageExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+            Thread thread = new Thread(runnable, "image-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // S3 업로드는 네트워크 대기가 대부분이므로 코어 수보다 많은 스레드를 쓰고, 대기열이 차면 요청 스레드에서 직접 업로드
+    @Bean(name = "uploadExecutor", destroyMethod = "shutdown")
+    public ExecutorService uploadExecutor(@Value("${cloud.aws.s3.upload-threads:16}") int uploadThreads) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return new ThreadPoolExecutor(
+                uploadThreads,
+                uploadThreads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(uploadThreads * 4),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "s3-upload-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
+    // 직접 업로드 이미지의 사본 생성 작업 (작업 하나가 imageExecutor, uploadExecutor를 기다리므로 별도 풀에서 실행)
+    @Bean(name = "imageJobExecutor", destroyMethod = "shutdown")
+    public ExecutorService imageJobExecutor(@Value("${image.processing.threads:2}") int threads) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "image-job-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -0,0 +1,16 @@
+package com.ssafy.star.common.config;
+
+import com.ssafy.star.contour.utils.PackedPolygonsConverters;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+
+@Configuration
+public class MongoConfig {
+
+    // 윤곽선 좌표는 압축해서 binary로 저장 (PackedPolygons)
+    @Bean
+    public MongoCustomConversions mongoCustomConversions() {
+        return new MongoCustomConversions(PackedPolygonsConverters.converters());
+    }
+}
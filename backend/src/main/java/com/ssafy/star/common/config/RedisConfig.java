@@ -1,5 +1,6 @@
 package com.ssafy.star.common.config;
 
+import com.ssafy.star.contour.dto.ContourOutline;
 import com.ssafy.star.user.dto.User;
 import io.lettuce.core.RedisURI;
 import lombok.RequiredArgsConstructor;
@@ -47,4 +48,42 @@ public class RedisConfig {
         return redisTemplate;
     }
 
+    @Bean(name = "timelineRedisTemplate")
+    public RedisTemplate<String, String> timelineRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
+        RedisTemplate<String, String> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(redisConnectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        return redisTemplate;
+    }
+
+    // 배치 작업 checkpoint, lock
+    @Bean(name = "jobRedisTemplate")
+    public RedisTemplate<String, String> jobRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
+        RedisTemplate<String, String> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(redisConnectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        return redisTemplate;
+    }
+
+    // 윤곽선 캐시 2단계 (ContourCache)
+    @Bean(name = "contourRedisTemplate")
+    public RedisTemplate<String, ContourOutline> contourRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
+        RedisTemplate<String, ContourOutline> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(redisConnectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new Jackson2JsonRedisSerializer<>(ContourOutline.class));
+        return redisTemplate;
+    }
+
+    @Bean(name = "likeRedisTemplate")
+    public RedisTemplate<String, String> likeRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
+        RedisTemplate<String, String> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(redisConnectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        return redisTemplate;
+    }
+
 }
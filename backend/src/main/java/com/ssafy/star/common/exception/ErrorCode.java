@@ -32,8 +32,11 @@ public enum ErrorCode {
     INVALID_EMAIL_CODE(HttpStatus.BAD_REQUEST, "인증코드가 일치하지 않음"),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server error"),
     IMAGE_NOT_FOUND(HttpStatus.NOT_FOUND, "Image Not Founded"),
+    AMBIGUOUS_IMAGE(HttpStatus.CONFLICT, "Image url is shared by several images"),
     CONTOUR_NOT_FOUND(HttpStatus.NOT_FOUND, "Contour Not Founded"),
-    ALREADY_DEFAULT_IMAGE(HttpStatus.CONFLICT, "Profile already Default");
+    ALREADY_DEFAULT_IMAGE(HttpStatus.CONFLICT, "Profile already Default"),
+    IMAGE_PROCESSING_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "Too many images are being processed"),
+    INVALID_IMAGE_UPLOAD(HttpStatus.BAD_REQUEST, "Uploaded image is invalid");
 
     final private HttpStatus status;
     final private String message;
@@ -2,6 +2,7 @@ package com.ssafy.star.common.exception;
 
 import com.ssafy.star.common.response.Response;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -11,11 +12,17 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 @RestControllerAdvice
 public class GlobalControllerAdvice {
 
+    private static final String RETRY_AFTER_SECONDS = "5";
+
     @ExceptionHandler(ByeolDamException.class)
     public ResponseEntity<?> applicationHandler(ByeolDamException e) {
         log.error("Error occur {}", e.toString());
-        return ResponseEntity.status(e.getErrorCode().getStatus())
-                .body(Response.error(e.getErrorCode().name()));
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(e.getErrorCode().getStatus());
+        // 일시적인 과부하는 잠시 후 다시 요청하도록 안내
+        if (e.getErrorCode().getStatus() == HttpStatus.SERVICE_UNAVAILABLE) {
+            builder.header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        }
+        return builder.body(Response.error(e.getErrorCode().name()));
     }
 
     @ExceptionHandler(RuntimeException.class)
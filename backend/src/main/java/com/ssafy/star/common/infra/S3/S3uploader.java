@@ -1,106 +1,139 @@
-package com.ssafy.star.common.infra.S3;
-
-import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.model.CannedAccessControlList;
-import com.amazonaws.services.s3.model.DeleteObjectRequest;
-import com.amazonaws.services.s3.model.PutObjectRequest;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
-
-import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.IOException;
-import java.util.UUID;
-
-import static com.ssafy.star.common.utils.ImageUtils.*;
-
-@Slf4j
-@RequiredArgsConstructor
-@Service
-public class S3uploader {
-
-    private final AmazonS3 amazonS3;
-    private static final int TARGET_HEIGHT = 1024;
-    private static final int PROFILE_HEIGHT = 128;
-
-    @Value("${cloud.aws.s3.bucket}")
-    private String bucket;
-
-    public String upload(MultipartFile multipartFile, String dirName) throws IOException {
-
-        BufferedImage resizedImage = resizeImage(multipartFile, TARGET_HEIGHT);
-        File uploadFile = convert(resizedImage, multipartFile.getOriginalFilename());
-
-        String fileName = getFileName(uploadFile, dirName);
-        String uploadImageUrl = putS3(uploadFile, fileName);
-
-        removeNewFile(uploadFile);
-
-        return uploadImageUrl;
-    }
-
-
-    public String uploadThumbnail(MultipartFile multipartFile, String dirName) throws IOException {
-
-        BufferedImage resizedThumbnail = resizeThumbnail(multipartFile);
-        File uploadThumbnail = convert(resizedThumbnail, multipartFile.getOriginalFilename());
-
-        String fileName = getFileName(uploadThumbnail, dirName);
-        String uploadThumbnailUrl = putS3(uploadThumbnail, fileName);
-
-        removeNewFile(uploadThumbnail);
-
-        return uploadThumbnailUrl;
-    }
-
-    public String uploadProfile(MultipartFile multipartFile, String dirName) throws IOException {
-
-        BufferedImage resizedProfile = resizeImage(multipartFile, PROFILE_HEIGHT);
-        File uploadProfile = convert(resizedProfile, multipartFile.getOriginalFilename());
-
-        String fileName = getFileName(uploadProfile, dirName);
-        String uploadProfileUrl = putS3(uploadProfile, fileName);
-
-        removeNewFile(uploadProfile);
-
-        return uploadProfileUrl;
-    }
-
-    public String getFileName(File file, String dirName){
-        String uuid = UUID.randomUUID().toString();
-        String extension = file.getName().substring(file.getName().lastIndexOf(".") + 1);
-        if (extension.equals("blob")) extension = "png";
-
-        return dirName + "/" + uuid + "." + extension;
-    }
-
-    private void removeNewFile(File targetFile) {
-        if(targetFile.delete()){
-            log.info("파일이 삭제되었습니다.");
-        }else {
-            log.info("파일이 삭제되지 않았습니다.");
-        }
-    }
-
-    private String putS3(File uploadFile, String fileName) {
-        amazonS3.putObject(
-                new PutObjectRequest(bucket, fileName, uploadFile)
-                        .withCannedAcl(CannedAccessControlList.PublicRead)
-        );
-        return amazonS3.getUrl(bucket, fileName).toString();
-    }
-
-    public void deleteImageFromS3(String filePath){
-        String splitStr = ".com/";
-        String fileName = filePath.substring(filePath.lastIndexOf(splitStr)+splitStr.length());
-        try{
-            amazonS3.deleteObject(new DeleteObjectRequest(bucket, fileName));
-        }catch (Exception e){
-            throw new IllegalStateException("이미지 삭제 중 문제가 발생했습니다.");
-        }
-    }
-
-}
+package com.ssafy.star.common.infra.S3;
+
+import com.ssafy.star.common.infra.image.EncodedImage;
+import com.ssafy.star.common.infra.image.ImagePipeline;
+import com.ssafy.star.common.infra.image.Rendition;
+import com.ssafy.star.common.infra.storage.StorageBackend;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 업로드 이미지 저장
+ * - 실제 저장은 StorageBackend(S3, 로컬 파일, 메모리)에 맡긴다
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class S3uploader {
+
+    private final StorageBackend storageBackend;
+    private final ImagePipeline imagePipeline;
+    private final ExecutorService uploadExecutor;
+
+    public String upload(MultipartFile multipartFile, String dirName) throws IOException {
+        return upload(imagePipeline.process(multipartFile, Rendition.MAIN).get(Rendition.MAIN), dirName);
+    }
+
+    public String uploadThumbnail(MultipartFile multipartFile, String dirName) throws IOException {
+        return upload(imagePipeline.process(multipartFile, Rendition.THUMBNAIL).get(Rendition.THUMBNAIL), dirName);
+    }
+
+    public String uploadProfile(MultipartFile multipartFile, String dirName) throws IOException {
+        return upload(imagePipeline.process(multipartFile, Rendition.PROFILE).get(Rendition.PROFILE), dirName);
+    }
+
+    /**
+     * 여러 이미지를 동시에 업로드하고, 요청 순서대로 url 반환
+     * - 하나라도 실패하면 아직 시작하지 않은 업로드는 취소하고, 이미 올라간(또는 나중에 끝난) 이미지는 지운다
+     */
+    public List<String> uploadAll(List<MultipartFile> multipartFiles, List<String> dirNames) throws IOException {
+        AtomicBoolean aborted = new AtomicBoolean();
+        CompletableFuture<Void> failed = new CompletableFuture<>();
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+
+        for (int i = 0; i < multipartFiles.size(); i++) {
+            MultipartFile multipartFile = multipartFiles.get(i);
+            String dirName = dirNames.get(i);
+            CompletableFuture<String> future = CompletableFuture.supplyAsync(() -> {
+                if (aborted.get()) throw new CancellationException("Upload aborted");
+                try {
+                    return upload(multipartFile, dirName);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, uploadExecutor);
+            future.whenComplete((url, e) -> {
+                if (e != null) failed.completeExceptionally(e);
+            });
+            futures.add(future);
+        }
+
+        try {
+            // 모두 끝나거나, 하나라도 실패하면 바로 반환
+            CompletableFuture.anyOf(CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)), failed).join();
+            return futures.stream().map(CompletableFuture::join).toList();
+        } catch (CompletionException e) {
+            aborted.set(true);
+            futures.forEach(future -> future.thenAccept(url -> deleteQuietly(url)));
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException uncheckedIOException) throw uncheckedIOException.getCause();
+            if (cause instanceof RuntimeException runtimeException) throw runtimeException;
+            throw e;
+        }
+    }
+
+    // ImagePipeline에서 인코딩한 사본 업로드 (업로드 후 버퍼를 반납한다)
+    public String upload(EncodedImage encodedImage, String dirName) throws IOException {
+        String fileName = getFileName(encodedImage.extension(), dirName);
+
+        try (encodedImage) {
+            storageBackend.put(fileName, encodedImage.inputStream(), encodedImage.size(), encodedImage.contentType());
+        }
+        return storageBackend.url(fileName);
+    }
+
+    public String getFileName(String extension, String dirName){
+        String uuid = UUID.randomUUID().toString();
+        return dirName + "/" + uuid + "." + extension;
+    }
+
+    public void deleteImageFromS3(String filePath){
+        try{
+            storageBackend.delete(storageBackend.keyOf(filePath));
+        }catch (Exception e){
+            throw new IllegalStateException("이미지 삭제 중 문제가 발생했습니다.");
+        }
+    }
+
+    /**
+     * 여러 이미지를 한 번의 요청으로 삭제 (최대 1000개)
+     * - 삭제하지 못한 이미지의 url과 실패 이유를 반환한다
+     */
+    public Map<String, String> deleteImagesFromS3(List<String> filePaths){
+        Map<String, String> urlByKey = new HashMap<>();
+        filePaths.forEach(filePath -> urlByKey.put(storageBackend.keyOf(filePath), filePath));
+        if (urlByKey.isEmpty()) return Map.of();
+
+        Map<String, String> failedUrls = new HashMap<>();
+        storageBackend.batchDelete(urlByKey.keySet()).forEach((key, error) -> failedUrls.put(urlByKey.get(key), error));
+        return failedUrls;
+    }
+
+    // 동시 업로드 실패 시 정리용 삭제 (실패해도 원래 예외를 가리지 않도록 로그만 남긴다)
+    private void deleteQuietly(String... filePaths) {
+        for (String filePath : filePaths) {
+            if (filePath == null || filePath.isBlank()) continue;
+            try {
+                deleteImageFromS3(filePath);
+            } catch (RuntimeException e) {
+                log.warn("Failed to delete orphaned image {} : {}", filePath, e.toString());
+            }
+        }
+    }
+
+}
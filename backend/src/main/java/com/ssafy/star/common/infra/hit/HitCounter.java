@@ -0,0 +1,96 @@
+package com.ssafy.star.common.infra.hit;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 조회수 write-behind 카운터
+ * - 조회 시에는 메모리의 LongAdder만 증가시키고, 주기적으로 쌓인 증가분을 batch UPDATE로 반영한다
+ * - 조회수를 보여줄 때는 DB 값에 아직 반영되지 않은 증가분을 더한다
+ * - 증가와 빈 카운터 정리는 같은 map의 compute 안에서 하므로, 정리된 카운터에 조회가 더해져 유실되지 않는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HitCounter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<HitTarget, ConcurrentHashMap<Long, LongAdder>> pendingHits = createPendingHits();
+
+    public void increase(HitTarget target, Long id) {
+        pendingHits.get(target).compute(id, (key, adder) -> {
+            LongAdder counter = adder == null ? new LongAdder() : adder;
+            counter.increment();
+            return counter;
+        });
+    }
+
+    // DB에 저장된 조회수 + 아직 반영되지 않은 조회수
+    public long merge(HitTarget target, Long id, long persistedHits) {
+        LongAdder adder = pendingHits.get(target).get(id);
+        return adder == null ? persistedHits : persistedHits + adder.sum();
+    }
+
+    @Scheduled(fixedDelayString = "${hits.flush-interval-ms:5000}")
+    public void flush() {
+        pendingHits.keySet().forEach(this::flush);
+    }
+
+    // 종료 전에 남은 증가분 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void flush(HitTarget target) {
+        ConcurrentHashMap<Long, LongAdder> hits = pendingHits.get(target);
+        List<Object[]> batchArgs = new ArrayList<>();
+        List<LongAdder> flushedAdders = new ArrayList<>();
+
+        hits.forEach((id, adder) -> {
+            long delta = adder.sum();
+            if (delta == 0) {
+                // 한 주기 동안 조회가 없던 카운터 정리 (그 사이 들어온 조회가 있으면 남겨 둔다)
+                hits.computeIfPresent(id, (key, current) -> current.sum() == 0 ? null : current);
+                return;
+            }
+            // sumThenReset 대신 읽은 만큼만 빼서, 그 사이에 들어온 조회는 다음 주기에 반영한다
+            adder.add(-delta);
+            batchArgs.add(new Object[]{delta, id});
+            flushedAdders.add(adder);
+        });
+
+        if (batchArgs.isEmpty()) return;
+
+        try {
+            jdbcTemplate.batchUpdate(target.updateSql(), batchArgs);
+            log.debug("flush {} {} hit counters", batchArgs.size(), target);
+        } catch (DataAccessException e) {
+            // 반영에 실패한 증가분은 되돌려 다음 주기에 다시 시도한다
+            for (int i = 0; i < batchArgs.size(); i++) {
+                flushedAdders.get(i).add((long) batchArgs.get(i)[0]);
+            }
+            log.warn("Failed to flush {} hits : {}", target, e.toString());
+        }
+    }
+
+    private static Map<HitTarget, ConcurrentHashMap<Long, LongAdder>> createPendingHits() {
+        Map<HitTarget, ConcurrentHashMap<Long, LongAdder>> pendingHits = new EnumMap<>(HitTarget.class);
+        for (HitTarget target : HitTarget.values()) {
+            pendingHits.put(target, new ConcurrentHashMap<>());
+        }
+        return pendingHits;
+    }
+}
@@ -0,0 +1,19 @@
+package com.ssafy.star.common.infra.hit;
+
+/**
+ * 조회수를 집계하는 대상과 반영할 테이블
+ */
+public enum HitTarget {
+    ARTICLE("article"),
+    CONSTELLATION("constellation");
+
+    private final String tableName;
+
+    HitTarget(String tableName) {
+        this.tableName = tableName;
+    }
+
+    String updateSql() {
+        return "UPDATE " + tableName + " SET hits = hits + ? WHERE id = ?";
+    }
+}
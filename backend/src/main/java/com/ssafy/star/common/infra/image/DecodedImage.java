@@ -0,0 +1,13 @@
+package com.ssafy.star.common.infra.image;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * 한 번 디코딩하고 회전까지 마친 원본 이미지
+ * - 모든 사본이 이 이미지를 공유하므로 수정하지 않는다
+ */
+public record DecodedImage(
+        BufferedImage image,
+        String extension
+) {
+}
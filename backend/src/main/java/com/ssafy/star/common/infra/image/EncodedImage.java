@@ -0,0 +1,31 @@
+package com.ssafy.star.common.infra.image;
+
+import java.io.InputStream;
+
+/**
+ * 업로드할 수 있게 인코딩된 사본 (width : 사본의 가로 크기)
+ * - 업로드가 끝나면 close()로 버퍼를 풀에 반납한다
+ */
+public record EncodedImage(
+        int width,
+        ImageBuffer buffer,
+        String extension
+) implements AutoCloseable {
+
+    public String contentType() {
+        return "image/" + (extension.equalsIgnoreCase("jpg") ? "jpeg" : extension.toLowerCase());
+    }
+
+    public long size() {
+        return buffer.size();
+    }
+
+    public InputStream inputStream() {
+        return buffer.toInputStream();
+    }
+
+    @Override
+    public void close() {
+        buffer.release();
+    }
+}
@@ -0,0 +1,41 @@
+package com.ssafy.star.common.infra.image;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 인코딩 결과를 담는 재사용 버퍼 (ImageBufferPool에서 빌려 쓴다)
+ * - 업로드할 때 내부 배열을 복사하지 않고 그대로 읽는다
+ */
+public class ImageBuffer extends ByteArrayOutputStream {
+
+    private final ImageBufferPool pool;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    ImageBuffer(ImageBufferPool pool, int initialCapacity) {
+        super(initialCapacity);
+        this.pool = pool;
+    }
+
+    public synchronized InputStream toInputStream() {
+        return new ByteArrayInputStream(buf, 0, count);
+    }
+
+    // 풀에 반납 (여러 번 호출해도 한 번만 반납된다)
+    public void release() {
+        if (released.compareAndSet(false, true)) {
+            pool.release(this);
+        }
+    }
+
+    synchronized int capacity() {
+        return buf.length;
+    }
+
+    void acquired() {
+        reset();
+        released.set(false);
+    }
+}
@@ -0,0 +1,47 @@
+package com.ssafy.star.common.infra.image;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 인코딩 버퍼 풀
+ * - 사본마다 새 배열을 할당하고 늘리는 대신, 한 번 커진 버퍼를 다음 업로드에서 다시 쓴다
+ * - 너무 커진 버퍼와 최대 개수를 넘는 버퍼는 보관하지 않는다 (반납하지 않은 버퍼는 GC가 정리한다)
+ */
+@Component
+public class ImageBufferPool {
+
+    private static final int INITIAL_CAPACITY = 256 * 1024;
+    private static final int MAX_RETAINED_CAPACITY = 8 * 1024 * 1024;
+
+    private final int maxPooledBuffers;
+    private final Queue<ImageBuffer> buffers = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooledBuffers = new AtomicInteger();
+
+    public ImageBufferPool(@Value("${image.buffer-pool.size:32}") int maxPooledBuffers) {
+        this.maxPooledBuffers = maxPooledBuffers;
+    }
+
+    public ImageBuffer acquire() {
+        ImageBuffer buffer = buffers.poll();
+        if (buffer == null) {
+            return new ImageBuffer(this, INITIAL_CAPACITY);
+        }
+        pooledBuffers.decrementAndGet();
+        buffer.acquired();
+        return buffer;
+    }
+
+    void release(ImageBuffer buffer) {
+        if (buffer.capacity() > MAX_RETAINED_CAPACITY) return;
+        if (pooledBuffers.incrementAndGet() > maxPooledBuffers) {
+            pooledBuffers.decrementAndGet();
+            return;
+        }
+        buffers.offer(buffer);
+    }
+}
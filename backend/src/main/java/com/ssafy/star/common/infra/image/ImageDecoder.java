@@ -0,0 +1,85 @@
+package com.ssafy.star.common.infra.image;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Dimension;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * 크기를 제한한 이미지 디코딩
+ * - 헤더에서 가로, 세로 크기만 먼저 읽고, 만들 사본 크기에 가깝게 subsampling 해서 디코딩한다
+ * - 디코딩 결과가 max-pixels를 넘지 않도록 subsampling을 더 키운다 (48MP 원본도 전체 해상도로 올리지 않는다)
+ */
+@Slf4j
+@Component
+public class ImageDecoder {
+
+    private final long maxPixels;
+
+    public ImageDecoder(@Value("${image.decode.max-pixels:16777216}") long maxPixels) {
+        this.maxPixels = maxPixels;
+    }
+
+    // 디코딩하지 않고 헤더에서 가로, 세로 크기만 읽는다
+    public Dimension readSize(byte[] bytes) throws IOException {
+        try (ImageInputStream inputStream = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(inputStream);
+            if (!readers.hasNext()) {
+                throw new IOException("Unsupported image format");
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(inputStream, true, true);
+                return new Dimension(reader.getWidth(0), reader.getHeight(0));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    public BufferedImage decode(byte[] bytes, int targetSize) throws IOException {
+        try (ImageInputStream inputStream = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(inputStream);
+            if (!readers.hasNext()) {
+                throw new IOException("Unsupported image format");
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(inputStream, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                int subsampling = getSubsampling(width, height, targetSize);
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                if (subsampling > 1) {
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                }
+                log.debug("decode {}x{} image with subsampling {}", width, height, subsampling);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 가로, 세로 중 짧은 쪽이 targetSize 이상으로 남는 가장 큰 subsampling
+     * 단, 디코딩할 픽셀 수가 maxPixels를 넘으면 그보다 크게 한다
+     */
+    int getSubsampling(int width, int height, int targetSize) {
+        int qualitySubsampling = Math.min(width, height) / targetSize;
+        int budgetSubsampling = (int) Math.ceil(Math.sqrt((double) width * height / maxPixels));
+        return Math.max(1, Math.max(qualitySubsampling, budgetSubsampling));
+    }
+}
@@ -0,0 +1,166 @@
+package com.ssafy.star.common.infra.image;
+
+import com.ssafy.star.common.utils.ImageUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.awt.Dimension;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * 업로드 이미지 처리
+ * - 원본 bytes를 한 번만 읽고, 회전 정보 파싱과 디코딩도 한 번만 한다
+ * - 디코딩은 가장 큰 사본 크기에 맞춰 subsampling 한다 (ImageDecoder)
+ * - 디코딩된 이미지 하나로 요청한 사본들을 만들고, 사본별 리사이징과 인코딩은 병렬로 처리한다
+ * - 고정 크기 사본(Rendition) 외에, 설정한 너비들(image.ladder.widths)로 비율을 유지한 반응형 사본도 만든다
+ * - 디코딩한 이미지로 미리보기 값(BlurHash, 평균 색)도 함께 계산한다
+ * - 인코딩 결과는 풀의 메모리 버퍼에 담기므로, 사용한 EncodedImage는 close 해야 한다
+ * - 업로드 1건의 처리 전체는 ImageProcessingExecutor에서 실행한다 (요청 스레드는 결과만 기다린다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImagePipeline {
+
+    private final ImageProcessingExecutor imageProcessingExecutor;
+    private final ExecutorService imageExecutor;
+    private final ImageDecoder imageDecoder;
+    private final ImageBufferPool imageBufferPool;
+
+    @Value("${image.ladder.widths:200,480,768,1024,2048}")
+    private List<Integer> ladderWidths;
+
+    public Map<Rendition, EncodedImage> process(MultipartFile multipartFile, Rendition... renditions) throws IOException {
+        return process(multipartFile.getBytes(), multipartFile.getOriginalFilename(), renditions);
+    }
+
+    // 이미 읽어 둔 원본 bytes로 처리 (ImageUploadService에서 hash 계산에 쓴 bytes를 다시 읽지 않도록)
+    public Map<Rendition, EncodedImage> process(byte[] bytes, String sourceFileName, Rendition... renditions) throws IOException {
+        return process(bytes, sourceFileName, List.of(), renditions).renditions();
+    }
+
+    // 고정 크기 사본과 반응형 사본을 한 번의 디코딩으로 함께 만든다
+    public RenderedImages process(byte[] bytes, String sourceFileName, Collection<Integer> widths, Rendition... renditions) throws IOException {
+        int targetSize = Stream.concat(Arrays.stream(renditions).map(Rendition::size), widths.stream())
+                .mapToInt(Integer::intValue)
+                .max()
+                .orElse(Rendition.MAIN.size());
+        return imageProcessingExecutor.execute(() ->
+                render(decode(bytes, sourceFileName, targetSize), widths, renditions)
+        );
+    }
+
+    /**
+     * 원본에 맞춘 반응형 사본 너비
+     * - 원본(회전 반영)보다 넓은 너비는 만들지 않고, 대신 원본 너비 하나를 넣는다
+     * - 헤더만 읽으므로 디코딩 전에 어떤 사본이 필요한지 알 수 있다
+     */
+    public List<Integer> ladderWidths(byte[] bytes) throws IOException {
+        Dimension size = imageDecoder.readSize(bytes);
+        int orientation = ImageUtils.readOrientation(bytes);
+        int sourceWidth = orientation == 6 || orientation == 8 ? size.height : size.width;
+
+        SortedSet<Integer> widths = new TreeSet<>();
+        ladderWidths.forEach(width -> widths.add(Math.min(width, sourceWidth)));
+        return List.copyOf(widths);
+    }
+
+    public DecodedImage decode(byte[] bytes, String sourceFileName, int targetSize) throws IOException {
+        int orientation = ImageUtils.readOrientation(bytes);
+        BufferedImage sourceImage;
+        try {
+            sourceImage = imageDecoder.decode(bytes, targetSize);
+        } catch (IOException e) {
+            throw new IOException("Cannot decode image : " + sourceFileName, e);
+        }
+        return new DecodedImage(ImageUtils.rotate(sourceImage, orientation), ImageUtils.getExtension(sourceFileName));
+    }
+
+    public Map<Rendition, EncodedImage> render(DecodedImage decodedImage, Rendition... renditions) throws IOException {
+        return render(decodedImage, List.of(), renditions).renditions();
+    }
+
+    public RenderedImages render(DecodedImage decodedImage, Collection<Integer> widths, Rendition... renditions) throws IOException {
+        // 고정 크기 사본은 Rendition, 반응형 사본은 너비(Integer)를 key로 한꺼번에 병렬 처리
+        Map<Object, UnaryOperator<BufferedImage>> resizers = new LinkedHashMap<>();
+        for (Rendition rendition : renditions) {
+            resizers.put(rendition, rendition::resize);
+        }
+        for (Integer width : widths) {
+            resizers.put(width, image -> ImageUtils.resizeToWidth(image, width));
+        }
+
+        ImagePlaceholder placeholder = ImagePlaceholder.of(decodedImage.image());
+        Map<Object, EncodedImage> encodedImages = encodeAll(decodedImage, resizers);
+        RenderedImages renderedImages = new RenderedImages(new EnumMap<>(Rendition.class), new TreeMap<>(), placeholder);
+        encodedImages.forEach((key, encodedImage) -> {
+            if (key instanceof Rendition rendition) {
+                renderedImages.renditions().put(rendition, encodedImage);
+            } else {
+                renderedImages.widths().put((Integer) key, encodedImage);
+            }
+        });
+        return renderedImages;
+    }
+
+    private Map<Object, EncodedImage> encodeAll(DecodedImage decodedImage, Map<Object, UnaryOperator<BufferedImage>> resizers) throws IOException {
+        Map<Object, EncodedImage> encodedImages = new LinkedHashMap<>();
+
+        // 사본이 하나면 스레드를 넘기지 않고 바로 처리
+        if (resizers.size() == 1) {
+            Map.Entry<Object, UnaryOperator<BufferedImage>> resizer = resizers.entrySet().iterator().next();
+            encodedImages.put(resizer.getKey(), encode(decodedImage, resizer.getKey(), resizer.getValue()));
+            return encodedImages;
+        }
+
+        Map<Object, CompletableFuture<EncodedImage>> futures = new LinkedHashMap<>();
+        resizers.forEach((key, resizer) ->
+                futures.put(key, CompletableFuture.supplyAsync(() -> encodeUnchecked(decodedImage, key, resizer), imageExecutor))
+        );
+
+        try {
+            futures.forEach((key, future) -> encodedImages.put(key, future.join()));
+            return encodedImages;
+        } catch (CompletionException e) {
+            futures.values().forEach(future -> future.cancel(true));
+            // 이미 인코딩된 사본의 버퍼 반납
+            futures.values().forEach(future -> future.thenAccept(EncodedImage::close));
+            if (e.getCause() instanceof UncheckedIOException uncheckedIOException) {
+                throw uncheckedIOException.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private EncodedImage encode(DecodedImage decodedImage, Object key, UnaryOperator<BufferedImage> resizer) throws IOException {
+        BufferedImage resizedImage = resizer.apply(decodedImage.image());
+        ImageBuffer buffer = imageBufferPool.acquire();
+        try {
+            ImageUtils.encode(resizedImage, decodedImage.extension(), buffer);
+        } catch (IOException | RuntimeException e) {
+            buffer.release();
+            throw e;
+        }
+        log.debug("encode {} rendition ({} bytes)", key, buffer.size());
+        return new EncodedImage(resizedImage.getWidth(), buffer, decodedImage.extension());
+    }
+
+    private EncodedImage encodeUnchecked(DecodedImage decodedImage, Object key, UnaryOperator<BufferedImage> resizer) {
+        try {
+            return encode(decodedImage, key, resizer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.ssafy.star.common.infra.image;
+
+import com.ssafy.star.common.utils.BlurHash;
+import org.imgscalr.Scalr;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * 이미지가 로딩되기 전에 클라이언트가 바로 그리는 미리보기 값
+ * - blurHash : 흐린 미리보기 (BlurHash 문자열)
+ * - dominantColor : 평균 색 (#rrggbb)
+ */
+public record ImagePlaceholder(
+        String blurHash,
+        String dominantColor
+) {
+
+    // BlurHash 계산은 픽셀 수에 비례하므로 32px로 줄인 이미지로 계산한다
+    private static final int SAMPLE_SIZE = 32;
+
+    public static ImagePlaceholder of(BufferedImage image) {
+        BufferedImage sample = Scalr.resize(image, Scalr.Method.SPEED, Scalr.Mode.AUTOMATIC, SAMPLE_SIZE, SAMPLE_SIZE);
+        boolean portrait = sample.getHeight() > sample.getWidth();
+        return new ImagePlaceholder(
+                BlurHash.encode(sample, portrait ? 3 : 4, portrait ? 4 : 3),
+                BlurHash.averageColor(sample)
+        );
+    }
+}
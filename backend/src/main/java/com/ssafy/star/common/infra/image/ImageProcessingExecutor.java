@@ -0,0 +1,118 @@
+package com.ssafy.star.common.infra.image;
+
+import com.ssafy.star.common.exception.ByeolDamException;
+import com.ssafy.star.common.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 이미지 처리(디코딩, 리사이징, 인코딩) 전용 executor
+ * - 요청 스레드 대신 정해진 수의 스레드에서만 처리하고, 대기열도 제한한다
+ * - 대기열이 가득 차면 바로 IMAGE_PROCESSING_BUSY(503)로 거절한다 (업로드가 몰려도 heap을 넘지 않도록)
+ * - 스레드 수, 대기열 크기를 설정하지 않으면 코어 수와 업로드 1건의 디코딩 메모리(max-pixels 기준)로 정한다
+ * - 대기열 길이, 대기 시간, 처리 시간을 image.executor.* metric으로 노출한다
+ */
+@Slf4j
+@Component
+public class ImageProcessingExecutor {
+
+    // 디코딩된 원본 + 회전, 리사이징 중간 결과 (ARGB 4byte)
+    private static final int BYTES_PER_PIXEL_IN_FLIGHT = 4 * 2;
+
+    private final ThreadPoolExecutor executor;
+    private final Timer waitTimer;
+    private final Timer processingTimer;
+    private final Counter rejectedCounter;
+
+    public ImageProcessingExecutor(
+            @Value("${image.executor.threads:0}") int threads,
+            @Value("${image.executor.queue-capacity:0}") int queueCapacity,
+            @Value("${image.decode.max-pixels:16777216}") long maxPixels,
+            MeterRegistry meterRegistry
+    ) {
+        // heap의 절반 안에서 동시에 디코딩할 수 있는 업로드 수
+        long bytesPerUpload = maxPixels * BYTES_PER_PIXEL_IN_FLIGHT;
+        int heapSlots = (int) Math.max(1, Runtime.getRuntime().maxMemory() / 2 / bytesPerUpload);
+        int poolSize = threads > 0 ? threads : Math.min(Runtime.getRuntime().availableProcessors(), heapSlots);
+        int capacity = queueCapacity > 0 ? queueCapacity : poolSize * 4;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-processing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        Gauge.builder("image.executor.queue.size", executor, e -> e.getQueue().size()).register(meterRegistry);
+        Gauge.builder("image.executor.queue.remaining", executor, e -> e.getQueue().remainingCapacity()).register(meterRegistry);
+        Gauge.builder("image.executor.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+        this.waitTimer = Timer.builder("image.executor.wait").register(meterRegistry);
+        this.processingTimer = Timer.builder("image.executor.processing").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("image.executor.rejected").register(meterRegistry);
+        log.info("image processing executor : {} threads, queue capacity {}", poolSize, capacity);
+    }
+
+    /**
+     * 이미지 작업을 executor에서 실행하고 결과를 기다린다
+     */
+    public <T> T execute(ImageTask<T> task) throws IOException {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                waitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    return task.call();
+                } finally {
+                    processingTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new ByeolDamException(ErrorCode.IMAGE_PROCESSING_BUSY);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IOException("Image processing interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) throw ioException;
+            if (cause instanceof RuntimeException runtimeException) throw runtimeException;
+            if (cause instanceof Error error) throw error;
+            throw new IOException(cause);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @FunctionalInterface
+    public interface ImageTask<T> {
+        T call() throws IOException;
+    }
+}
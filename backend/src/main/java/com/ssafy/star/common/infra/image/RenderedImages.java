@@ -0,0 +1,26 @@
+package com.ssafy.star.common.infra.image;
+
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * 한 번 디코딩한 이미지로 만든 사본들
+ * - renditions : 고정 크기 사본 (Rendition)
+ * - widths : 반응형 사본 (너비 -> 사본)
+ * - placeholder : 디코딩한 이미지로 계산한 미리보기 값
+ * - 꺼내 간 사본은 꺼낸 쪽에서 close 하고, 남은 사본은 close()로 버퍼를 반납한다
+ */
+public record RenderedImages(
+        Map<Rendition, EncodedImage> renditions,
+        SortedMap<Integer, EncodedImage> widths,
+        ImagePlaceholder placeholder
+) implements AutoCloseable {
+
+    @Override
+    public void close() {
+        renditions.values().forEach(EncodedImage::close);
+        widths.values().forEach(EncodedImage::close);
+        renditions.clear();
+        widths.clear();
+    }
+}
@@ -0,0 +1,31 @@
+package com.ssafy.star.common.infra.image;
+
+import com.ssafy.star.common.utils.ImageUtils;
+
+import java.awt.image.BufferedImage;
+import java.util.function.BiFunction;
+
+/**
+ * 업로드 이미지에서 만드는 사본 종류와 크기(px)
+ */
+public enum Rendition {
+    MAIN(1024, ImageUtils::resizeImage),
+    THUMBNAIL(200, ImageUtils::resizeThumbnail),
+    PROFILE(128, ImageUtils::resizeImage);
+
+    private final int size;
+    private final BiFunction<BufferedImage, Integer, BufferedImage> resizer;
+
+    Rendition(int size, BiFunction<BufferedImage, Integer, BufferedImage> resizer) {
+        this.size = size;
+        this.resizer = resizer;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    BufferedImage resize(BufferedImage source) {
+        return resizer.apply(source, size);
+    }
+}
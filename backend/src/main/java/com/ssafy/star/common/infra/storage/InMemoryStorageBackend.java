@@ -0,0 +1,74 @@
+package com.ssafy.star.common.infra.storage;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리 저장소 (통합 테스트, 벤치마크용)
+ */
+@Component
+@ConditionalOnProperty(name = "storage.backend", havingValue = "memory")
+public class InMemoryStorageBackend implements StorageBackend {
+
+    private static final String BASE_URL = "memory://storage/";
+
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+
+    @Override
+    public void put(String key, InputStream content, long contentLength, String contentType) throws IOException {
+        byte[] bytes = content.readNBytes((int) contentLength);
+        if (bytes.length != contentLength) {
+            throw new IOException(String.format("Expected %d bytes but got %d : %s", contentLength, bytes.length, key));
+        }
+        objects.put(key, bytes);
+    }
+
+    @Override
+    public InputStream get(String key) throws IOException {
+        byte[] bytes = objects.get(key);
+        if (bytes == null) throw new FileNotFoundException(key);
+        return new ByteArrayInputStream(bytes);
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return objects.containsKey(key);
+    }
+
+    @Override
+    public void delete(String key) {
+        objects.remove(key);
+    }
+
+    @Override
+    public Map<String, String> batchDelete(Collection<String> keys) {
+        keys.forEach(objects::remove);
+        return Map.of();
+    }
+
+    @Override
+    public String url(String key) {
+        return BASE_URL + key;
+    }
+
+    @Override
+    public String keyOf(String url) {
+        return url.startsWith(BASE_URL) ? url.substring(BASE_URL.length()) : url;
+    }
+
+    public boolean contains(String key) {
+        return objects.containsKey(key);
+    }
+
+    public int size() {
+        return objects.size();
+    }
+}
@@ -0,0 +1,124 @@
+package com.ssafy.star.common.infra.storage;
+
+import com.amazonaws.HttpMethod;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.DeleteObjectRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * S3 저장소 (public-read)
+ * - threshold 이상인 파일은 TransferManager로 multipart 업로드
+ * - 클라이언트 직접 업로드용 서명된 PUT url 발급
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.backend", havingValue = "s3", matchIfMissing = true)
+public class S3StorageBackend implements StorageBackend {
+
+    private static final String URL_SEPARATOR = ".com/";
+
+    private final AmazonS3 amazonS3;
+    private final TransferManager transferManager;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+
+    @Value("${cloud.aws.s3.multipart-threshold:16777216}")
+    private long multipartThreshold;
+
+    @Override
+    public void put(String key, InputStream content, long contentLength, String contentType) throws IOException {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(contentLength);
+        metadata.setContentType(contentType);
+
+        PutObjectRequest request = new PutObjectRequest(bucket, key, content, metadata)
+                .withCannedAcl(CannedAccessControlList.PublicRead);
+
+        if (contentLength < multipartThreshold) {
+            amazonS3.putObject(request);
+            return;
+        }
+        try {
+            transferManager.upload(request).waitForCompletion();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("S3 multipart upload interrupted : " + key, e);
+        }
+    }
+
+    @Override
+    public InputStream get(String key) {
+        return amazonS3.getObject(bucket, key).getObjectContent();
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return amazonS3.doesObjectExist(bucket, key);
+    }
+
+    @Override
+    public void delete(String key) {
+        amazonS3.deleteObject(new DeleteObjectRequest(bucket, key));
+    }
+
+    @Override
+    public Map<String, String> batchDelete(Collection<String> keys) {
+        if (keys.isEmpty()) return Map.of();
+
+        List<DeleteObjectsRequest.KeyVersion> keyVersions = keys.stream()
+                .map(DeleteObjectsRequest.KeyVersion::new)
+                .toList();
+        try {
+            amazonS3.deleteObjects(new DeleteObjectsRequest(bucket).withKeys(keyVersions).withQuiet(true));
+            return Map.of();
+        } catch (MultiObjectDeleteException e) {
+            Map<String, String> failedKeys = new HashMap<>();
+            e.getErrors().forEach(error -> failedKeys.put(error.getKey(), error.getCode() + " " + error.getMessage()));
+            return failedKeys;
+        }
+    }
+
+    @Override
+    public String url(String key) {
+        return amazonS3.getUrl(bucket, key).toString();
+    }
+
+    // 설정한 endpoint 기준 url이면 그 앞부분을, 아니면(기존 S3 url) ".com/" 앞부분을 뗀다
+    @Override
+    public String keyOf(String url) {
+        String baseUrl = url("");
+        if (url.startsWith(baseUrl)) return url.substring(baseUrl.length());
+        return url.substring(url.lastIndexOf(URL_SEPARATOR) + URL_SEPARATOR.length());
+    }
+
+    // 원본은 public-read로 올리지 않으므로, 서명에 ACL 헤더를 넣지 않는다
+    @Override
+    public URL presignPut(String key, String contentType, Duration expiry) {
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, key, HttpMethod.PUT)
+                .withContentType(contentType)
+                .withExpiration(Date.from(Instant.now().plus(expiry)));
+        return amazonS3.generatePresignedUrl(request);
+    }
+}
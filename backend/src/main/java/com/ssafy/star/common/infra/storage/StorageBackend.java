@@ -0,0 +1,44 @@
+package com.ssafy.star.common.infra.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 이미지 등 업로드 파일 저장소
+ * - storage.backend 설정으로 구현체를 고른다 : s3(기본), local(파일 시스템), memory(테스트, 벤치마크용)
+ * - key는 "디렉터리/파일명" 형태의 저장소 안 경로이고, url은 클라이언트에 내려주는 공개 주소다
+ */
+public interface StorageBackend {
+
+    void put(String key, InputStream content, long contentLength, String contentType) throws IOException;
+
+    InputStream get(String key) throws IOException;
+
+    boolean exists(String key);
+
+    void delete(String key);
+
+    /**
+     * 여러 파일을 한 번에 삭제
+     * @return 삭제하지 못한 key와 실패 이유
+     */
+    Map<String, String> batchDelete(Collection<String> keys);
+
+    String url(String key);
+
+    // url에서 key 추출
+    String keyOf(String url);
+
+    /**
+     * 클라이언트가 서버를 거치지 않고 key에 직접 PUT 할 수 있는 서명된 url
+     * - 클라이언트는 같은 Content-Type 헤더로 PUT 해야 한다
+     * - 서명된 url을 만들 수 없는 저장소(local, memory)는 지원하지 않는다
+     */
+    default URL presignPut(String key, String contentType, Duration expiry) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support presigned uploads");
+    }
+}
@@ -0,0 +1,18 @@
+package com.ssafy.star.common.response;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지
+ * - nextCursor를 다음 요청의 cursor로 보내면 이어서 조회된다 (hasNext가 false이면 null)
+ */
+public record CursorSlice<T>(
+        List<T> content,
+        String nextCursor,
+        boolean hasNext
+) {
+    public <R> CursorSlice<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorSlice<>(content.stream().<R>map(mapper).toList(), nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,123 @@
+package com.ssafy.star.common.utils;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * BlurHash 인코더 (https://blurha.sh)
+ * - 이미지를 색 성분 몇 개로 줄여 20~30자 문자열로 만든다, 클라이언트는 이 문자열만으로 흐린 미리보기를 그린다
+ * - 인코딩은 픽셀 수에 비례하므로 작게 줄인 이미지를 넘긴다
+ */
+public class BlurHash {
+
+    private static final char[] BASE83 =
+            "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz#$%*+,-.:;=?@[]^_{|}~".toCharArray();
+
+    public static String encode(BufferedImage image, int componentsX, int componentsY) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
+
+        // 픽셀을 미리 linear RGB로 바꿔 둔다
+        double[][] linear = new double[pixels.length][3];
+        for (int p = 0; p < pixels.length; p++) {
+            linear[p][0] = toLinear((pixels[p] >> 16) & 0xff);
+            linear[p][1] = toLinear((pixels[p] >> 8) & 0xff);
+            linear[p][2] = toLinear(pixels[p] & 0xff);
+        }
+
+        double[][] factors = new double[componentsX * componentsY][];
+        for (int j = 0; j < componentsY; j++) {
+            for (int i = 0; i < componentsX; i++) {
+                factors[j * componentsX + i] = factor(linear, width, height, i, j);
+            }
+        }
+
+        StringBuilder hash = new StringBuilder();
+        encode83(hash, (componentsX - 1) + (componentsY - 1) * 9, 1);
+
+        double maximumValue;
+        if (factors.length > 1) {
+            double actualMaximumValue = 0;
+            for (int k = 1; k < factors.length; k++) {
+                for (double value : factors[k]) {
+                    actualMaximumValue = Math.max(actualMaximumValue, Math.abs(value));
+                }
+            }
+            int quantisedMaximumValue = (int) Math.max(0, Math.min(82, Math.floor(actualMaximumValue * 166 - 0.5)));
+            maximumValue = (quantisedMaximumValue + 1) / 166.0;
+            encode83(hash, quantisedMaximumValue, 1);
+        } else {
+            maximumValue = 1;
+            encode83(hash, 0, 1);
+        }
+
+        encode83(hash, encodeDC(factors[0]), 4);
+        for (int k = 1; k < factors.length; k++) {
+            encode83(hash, encodeAC(factors[k], maximumValue), 2);
+        }
+        return hash.toString();
+    }
+
+    // 평균 색 (BlurHash의 DC 성분), #rrggbb
+    public static String averageColor(BufferedImage image) {
+        int[] pixels = image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+        double r = 0, g = 0, b = 0;
+        for (int pixel : pixels) {
+            r += toLinear((pixel >> 16) & 0xff);
+            g += toLinear((pixel >> 8) & 0xff);
+            b += toLinear(pixel & 0xff);
+        }
+        return String.format("#%06x", encodeDC(new double[]{r / pixels.length, g / pixels.length, b / pixels.length}));
+    }
+
+    private static double[] factor(double[][] linear, int width, int height, int i, int j) {
+        double normalisation = i == 0 && j == 0 ? 1 : 2;
+        double r = 0, g = 0, b = 0;
+        for (int y = 0; y < height; y++) {
+            double basisY = Math.cos(Math.PI * j * y / height);
+            for (int x = 0; x < width; x++) {
+                double basis = normalisation * Math.cos(Math.PI * i * x / width) * basisY;
+                double[] pixel = linear[y * width + x];
+                r += basis * pixel[0];
+                g += basis * pixel[1];
+                b += basis * pixel[2];
+            }
+        }
+        double scale = 1.0 / (width * height);
+        return new double[]{r * scale, g * scale, b * scale};
+    }
+
+    private static int encodeDC(double[] value) {
+        return (toSRGB(value[0]) << 16) + (toSRGB(value[1]) << 8) + toSRGB(value[2]);
+    }
+
+    private static int encodeAC(double[] value, double maximumValue) {
+        int quantR = quantise(value[0] / maximumValue);
+        int quantG = quantise(value[1] / maximumValue);
+        int quantB = quantise(value[2] / maximumValue);
+        return quantR * 19 * 19 + quantG * 19 + quantB;
+    }
+
+    private static int quantise(double value) {
+        return (int) Math.max(0, Math.min(18, Math.floor(Math.copySign(Math.sqrt(Math.abs(value)), value) * 9 + 9.5)));
+    }
+
+    private static double toLinear(int value) {
+        double v = value / 255.0;
+        return v <= 0.04045 ? v / 12.92 : Math.pow((v + 0.055) / 1.055, 2.4);
+    }
+
+    private static int toSRGB(double value) {
+        double v = Math.max(0, Math.min(1, value));
+        return v <= 0.0031308
+                ? (int) (v * 12.92 * 255 + 0.5)
+                : (int) ((1.055 * Math.pow(v, 1 / 2.4) - 0.055) * 255 + 0.5);
+    }
+
+    private static void encode83(StringBuilder hash, int value, int length) {
+        for (int i = 1; i <= length; i++) {
+            int digit = (value / (int) Math.pow(83, length - i)) % 83;
+            hash.append(BASE83[digit]);
+        }
+    }
+}
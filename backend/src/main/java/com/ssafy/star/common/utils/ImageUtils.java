@@ -1,114 +1,83 @@
-package com.ssafy.star.common.utils;
-
-import com.drew.imaging.ImageMetadataReader;
-import com.drew.metadata.Directory;
-import com.drew.metadata.Metadata;
-import com.drew.metadata.exif.ExifIFD0Directory;
-import com.drew.metadata.jpeg.JpegDirectory;
-import org.imgscalr.Scalr;
-import org.springframework.web.multipart.MultipartFile;
-
-import javax.imageio.ImageIO;
-import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.IOException;
-
-public class ImageUtils {
-
-    //이미지 리사이징
-    public static BufferedImage resizeImage(MultipartFile multipartFile, int height) throws IOException {
-
-        BufferedImage sourceImage = turnImage(multipartFile);
-
-        int newWidth, newHeight;
-
-        if(sourceImage.getWidth() > height || sourceImage.getHeight() > height){
-            // 가로가 세로보다 큰 경우
-            if (sourceImage.getWidth() >= sourceImage.getHeight()) {
-                newWidth = height;
-                newHeight = height;
-            } else { // 세로가 가로보다 큰 경우
-                newWidth = height;
-                newHeight = height;
-            }
-        } else {
-            newWidth = height;
-            newHeight = height;
-        }
-
-        return Scalr.resize(sourceImage, Scalr.Method.QUALITY, Scalr.Mode.FIT_EXACT, newWidth, newHeight);
-    }
-
-
-    //썸네일 리사이징
-    public static BufferedImage resizeThumbnail(MultipartFile multipartFile) throws IOException {
-
-        BufferedImage sourceThumbnail = turnImage(multipartFile);
-
-        int width = sourceThumbnail.getWidth();
-        int height = sourceThumbnail.getHeight();
-        int minLen = Math.min(width, height);
-
-        BufferedImage thumbImage = Scalr.crop(sourceThumbnail, (width - minLen) / 2, (height - minLen) / 2, minLen, minLen);
-
-        return Scalr.resize(thumbImage, Scalr.Method.AUTOMATIC, Scalr.Mode.FIT_TO_HEIGHT, 200);
-    }
-
-    //BufferedImage를 File로 변환
-    public static File convert(BufferedImage bufferedImage, String sourceFileName) throws IOException {
-        try {
-            File file = new File(sourceFileName);
-            String extension = sourceFileName.substring(sourceFileName.lastIndexOf(".") + 1);
-            if (extension.equals("blob")) extension = "png";
-            ImageIO.write(bufferedImage, extension, file);
-            return file;
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-        throw new IllegalStateException("Cannot convert BufferedImage to File");
-    }
-
-
-    private static BufferedImage turnImage(MultipartFile multipartFile) throws IOException {
-        //원본 파일의 Orientation 정보를 읽는다.
-        int orientation = 1;    // 회전정보, 1. 0도 3. 180도 6. 270도 8. 90도 회전한 정보
-
-        Metadata metadata;  //이미지 메타 데이터 객체
-        Directory directory;
-        JpegDirectory jpegDirectory;
-
-
-        try {
-            metadata = ImageMetadataReader.readMetadata(multipartFile.getInputStream());
-            directory = metadata.getFirstDirectoryOfType(ExifIFD0Directory.class);
-            jpegDirectory = metadata.getFirstDirectoryOfType(JpegDirectory.class);
-            if (directory != null) {
-                orientation = directory.getInt(ExifIFD0Directory.TAG_ORIENTATION);  //회전 정보
-            }
-        } catch (Exception e) {
-            orientation = 1;
-        }
-
-        //imageFile
-        BufferedImage sourceImage = ImageIO.read(multipartFile.getInputStream());    //현재 여기서 오류가 남
-
-        //회전시키기
-        switch (orientation) {
-            case 1:
-                break;
-            case 3:
-                sourceImage = Scalr.rotate(sourceImage, Scalr.Rotation.CW_180, null);
-                break;
-            case 6:
-                sourceImage = Scalr.rotate(sourceImage, Scalr.Rotation.CW_90, null);
-            case 8:
-                sourceImage = Scalr.rotate(sourceImage, Scalr.Rotation.CW_270, null);
-            default:
-                orientation = 1;
-                break;
-        }
-        return sourceImage;
-    }
-
-
-}
+package com.ssafy.star.common.utils;
+
+import com.drew.imaging.ImageMetadataReader;
+import com.drew.metadata.Directory;
+import com.drew.metadata.Metadata;
+import com.drew.metadata.exif.ExifIFD0Directory;
+import org.imgscalr.Scalr;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+public class ImageUtils {
+
+    // ImageIO가 인코딩 중간 결과를 임시 파일에 쓰지 않고 메모리에서 처리하도록
+    static {
+        ImageIO.setUseCache(false);
+    }
+
+    //이미지 리사이징
+    public static BufferedImage resizeImage(BufferedImage sourceImage, int height) {
+        return Scalr.resize(sourceImage, Scalr.Method.QUALITY, Scalr.Mode.FIT_EXACT, height, height);
+    }
+
+    //썸네일 리사이징 (가운데를 정사각형으로 자른 후 리사이징)
+    public static BufferedImage resizeThumbnail(BufferedImage sourceThumbnail, int height) {
+
+        int width = sourceThumbnail.getWidth();
+        int sourceHeight = sourceThumbnail.getHeight();
+        int minLen = Math.min(width, sourceHeight);
+
+        BufferedImage thumbImage = Scalr.crop(sourceThumbnail, (width - minLen) / 2, (sourceHeight - minLen) / 2, minLen, minLen);
+
+        return Scalr.resize(thumbImage, Scalr.Method.AUTOMATIC, Scalr.Mode.FIT_TO_HEIGHT, height);
+    }
+
+    //반응형 사본 리사이징 (비율을 유지한 채 너비를 맞추고, 원본보다 키우지 않는다)
+    public static BufferedImage resizeToWidth(BufferedImage sourceImage, int width) {
+        if (sourceImage.getWidth() <= width) return sourceImage;
+        return Scalr.resize(sourceImage, Scalr.Method.QUALITY, Scalr.Mode.FIT_TO_WIDTH, width, width);
+    }
+
+    //BufferedImage를 outputStream에 인코딩
+    public static void encode(BufferedImage bufferedImage, String extension, OutputStream outputStream) throws IOException {
+        if (!ImageIO.write(bufferedImage, extension, outputStream)) {
+            throw new IOException("Cannot encode image to " + extension);
+        }
+    }
+
+    //파일 이름의 확장자 (blob은 png로 저장)
+    public static String getExtension(String sourceFileName) {
+        String extension = sourceFileName.substring(sourceFileName.lastIndexOf(".") + 1);
+        if (extension.equals("blob")) extension = "png";
+        return extension;
+    }
+
+    //원본 파일의 Orientation 정보, 1. 0도 3. 180도 6. 90도 8. 270도 회전이 필요한 정보
+    public static int readOrientation(byte[] bytes) {
+        try {
+            Metadata metadata = ImageMetadataReader.readMetadata(new ByteArrayInputStream(bytes));
+            Directory directory = metadata.getFirstDirectoryOfType(ExifIFD0Directory.class);
+            if (directory != null && directory.containsTag(ExifIFD0Directory.TAG_ORIENTATION)) {
+                return directory.getInt(ExifIFD0Directory.TAG_ORIENTATION);
+            }
+        } catch (Exception e) {
+            return 1;
+        }
+        return 1;
+    }
+
+    //회전시키기
+    public static BufferedImage rotate(BufferedImage sourceImage, int orientation) {
+        return switch (orientation) {
+            case 3 -> Scalr.rotate(sourceImage, Scalr.Rotation.CW_180);
+            case 6 -> Scalr.rotate(sourceImage, Scalr.Rotation.CW_90);
+            case 8 -> Scalr.rotate(sourceImage, Scalr.Rotation.CW_270);
+            default -> sourceImage;
+        };
+    }
+
+}
@@ -8,6 +8,7 @@ import com.ssafy.star.constellation.dto.request.ConstellationModifyRequest;
 import com.ssafy.star.constellation.dto.response.ConstellationForUserResponse;
 import com.ssafy.star.constellation.dto.response.ConstellationResponse;
 import com.ssafy.star.constellation.dto.response.ConstellationWithArticleResponse;
+import com.ssafy.star.contour.ContourLod;
 import com.ssafy.star.contour.dto.Contour;
 import com.ssafy.star.user.application.FollowService;
 import com.ssafy.star.user.dto.request.NicknameRequest;
@@ -112,24 +113,24 @@ public class ConstellationController {
 
     @Operation(
             summary = "나의 우주 보기 - 별자리 전체 조회",
-            description = "별자리 전체 조회입니다.",
+            description = "별자리 전체 조회입니다. lod(HIGH, MEDIUM, LOW)로 윤곽선 상세 단계를 고릅니다.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = ConstellationResponse.class)))
             }
     )
     @GetMapping("/constellations")
-    public Response<List<ConstellationWithArticleResponse>> myConstellations(Authentication authentication) {
-        return Response.success(constellationService.myConstellations(authentication.getName()).stream().map(ConstellationWithArticleResponse::fromConstellationWithArticle).toList());
+    public Response<List<ConstellationWithArticleResponse>> myConstellations(Authentication authentication, @RequestParam(defaultValue = "MEDIUM") ContourLod lod) {
+        return Response.success(constellationService.myConstellations(authentication.getName(), lod.forPreview()).stream().map(ConstellationWithArticleResponse::fromConstellationWithArticle).toList());
     }
 
     @Operation(
             summary = "유저의 별자리 전체 조회",
-            description = "유저의 별자리 전체 조회입니다."
+            description = "유저의 별자리 전체 조회입니다. lod(HIGH, MEDIUM, LOW)로 윤곽선 상세 단계를 고릅니다."
     )
     @GetMapping("/constellations/user/{nickname}")
-    public Response<List<ConstellationWithArticleResponse>> userConstellations(Authentication authentication, @PathVariable String nickname) {
+    public Response<List<ConstellationWithArticleResponse>> userConstellations(Authentication authentication, @PathVariable String nickname, @RequestParam(defaultValue = "MEDIUM") ContourLod lod) {
         return Response.success(
-                constellationService.userConstellations(nickname, authentication.getName())
+                constellationService.userConstellations(nickname, authentication.getName(), lod.forPreview())
                         .stream()
                         .map(ConstellationWithArticleResponse::fromConstellationWithArticle)
                         .toList()
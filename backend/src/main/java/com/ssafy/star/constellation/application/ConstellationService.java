@@ -2,10 +2,8 @@ package com.ssafy.star.constellation.application;
 
 import com.ssafy.star.article.dao.ArticleRepository;
 import com.ssafy.star.article.domain.ArticleEntity;
-import com.ssafy.star.article.dto.HoverArticle;
 import com.ssafy.star.common.exception.ByeolDamException;
 import com.ssafy.star.common.exception.ErrorCode;
-import com.ssafy.star.common.infra.S3.S3uploader;
 import com.ssafy.star.common.types.DisclosureType;
 import com.ssafy.star.constellation.ConstellationUserRole;
 import com.ssafy.star.constellation.dao.ConstellationLikeRepository;
@@ -14,16 +12,20 @@ import com.ssafy.star.constellation.dao.ConstellationUserRepository;
 import com.ssafy.star.constellation.domain.ConstellationEntity;
 import com.ssafy.star.constellation.domain.ConstellationLikeEntity;
 import com.ssafy.star.constellation.domain.ConstellationUserEntity;
-import com.ssafy.star.constellation.dto.ConstellationUser;
 import com.ssafy.star.constellation.dto.ConstellationWithArticle;
 import com.ssafy.star.constellation.dto.response.ConstellationForUserResponse;
+import com.ssafy.star.contour.ContourLod;
 import com.ssafy.star.contour.domain.ContourEntity;
 import com.ssafy.star.contour.dto.Contour;
 import com.ssafy.star.contour.repository.ContourRepository;
 import com.ssafy.star.image.ImageType;
+import com.ssafy.star.image.application.ImageBlobService;
 import com.ssafy.star.image.application.ImageService;
+import com.ssafy.star.image.application.ImageUploadService;
 import com.ssafy.star.image.dao.ImageRepository;
 import com.ssafy.star.image.domain.ImageEntity;
+import com.ssafy.star.like.LikeTarget;
+import com.ssafy.star.like.application.LikeService;
 import com.ssafy.star.user.domain.ApprovalStatus;
 import com.ssafy.star.user.domain.UserEntity;
 import com.ssafy.star.user.dto.User;
@@ -34,11 +36,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -56,10 +58,14 @@ public class ConstellationService {
     private final UserRepository userRepository;
     private final ContourRepository contourRepository;
     private final FollowRepository followRepository;
-    private final S3uploader s3uploader;
+    private final ImageUploadService imageUploadService;
     private final ImageService imageService;
+    private final ImageBlobService imageBlobService;
     private final ImageRepository imageRepository;
     private final ConstellationLikeRepository constellationLikeRepository;
+    private final LikeService likeService;
+    private final TransactionTemplate transactionTemplate;
+    private final UniverseLoader universeLoader;
 
     Sort sort = Sort.by(Sort.Direction.DESC, "createdAt");
 
@@ -67,29 +73,12 @@ public class ConstellationService {
      * 나의 우주 보기 - 별자리 전체 조회
      * VISIBLE, INVISIBLE 상관 없이, 개인 별자리, 공유 별자리 확인
      * 내부 게시물은 deletedAt NULL인 경우 확인 가능
+     * - 윤곽선, 게시물, 멤버는 UniverseLoader가 종류별로 한 번씩만 조회한다
      */
     @Transactional(readOnly = true)
-    public List<ConstellationWithArticle> myConstellations(String email) {
+    public List<ConstellationWithArticle> myConstellations(String email, ContourLod lod) {
         UserEntity userEntity = getUserEntityByEmailOrException(email);
-        return constellationRepository.findAllByUserEntity(userEntity)
-                .stream()
-                .sorted(Comparator.comparing(ConstellationEntity::getCreatedAt).reversed())
-                .map(constellationEntity -> {
-            ContourEntity contourEntity = contourRepository.findById(constellationEntity.getContourId())
-                    .orElseThrow(() -> new ByeolDamException(ErrorCode.CONTOUR_NOT_FOUND));
-
-            // ConstellationWithArticle DTO 생성
-            return new ConstellationWithArticle(
-                    constellationEntity.getId(),
-                    constellationEntity.getName(),
-                    Contour.fromEntity(contourEntity),
-                    constellationEntity.getHits(),
-                    constellationEntity.getConstellationUserEntities().stream().map(ConstellationUser::fromEntity).toList(),
-                    constellationEntity.getCreatedAt(),
-                    constellationEntity.getModifiedAt(),
-                    articleRepository.findAllByConstellationEntitySearch(constellationEntity,userEntity).stream().map(HoverArticle::fromEntity).toList()
-            );
-        }).toList();
+        return universeLoader.load(constellationRepository.findAllByUserEntity(userEntity), userEntity, lod);
     }
 
     /**
@@ -97,12 +86,12 @@ public class ConstellationService {
      * - 내가 다른 사람의 우주에 접근했을 때
      */
     @Transactional(readOnly = true)
-    public List<ConstellationWithArticle> userConstellations(String nickname, String email) {
+    public List<ConstellationWithArticle> userConstellations(String nickname, String email, ContourLod lod) {
         UserEntity userEntity = getUserEntityByNicknameOrException(nickname);  // 타 유저의 계정 이메일
         UserEntity myEntity = getUserEntityByEmailOrException(email);      // 로그인한 사람의 이메일
         // 내 계정으로 내 우주를 접근하는 경우
         if (userEntity.equals(myEntity)) {
-            return myConstellations(email);
+            return myConstellations(email, lod);
         }
 
         if (DisclosureType.INVISIBLE == userEntity.getDisclosureType()) {
@@ -111,24 +100,7 @@ public class ConstellationService {
                     .orElseThrow(() -> new ByeolDamException(ErrorCode.INVALID_PERMISSION));
         }
 
-        return constellationUserRepository.findConstellationByUserEntity(userEntity)
-                .stream()
-                .sorted(Comparator.comparing(ConstellationEntity::getCreatedAt).reversed())
-                .map(constellationEntity -> {
-            ContourEntity contourEntity = contourRepository.findById(constellationEntity.getContourId())
-                    .orElseThrow(() -> new ByeolDamException(ErrorCode.CONTOUR_NOT_FOUND));
-            // ConstellationWithArticle DTO 생성
-            return new ConstellationWithArticle(
-                    constellationEntity.getId(),
-                    constellationEntity.getName(),
-                    Contour.fromEntity(contourEntity),
-                    constellationEntity.getHits(),
-                    constellationEntity.getConstellationUserEntities().stream().map(ConstellationUser::fromEntity).toList(),
-                    constellationEntity.getCreatedAt(),
-                    constellationEntity.getModifiedAt(),
-                    articleRepository.findAllByConstellationEntitySearch(constellationEntity,userEntity).stream().map(HoverArticle::fromEntity).toList()
-            );
-        }).toList();
+        return universeLoader.load(constellationUserRepository.findConstellationByUserEntity(userEntity), userEntity, lod);
     }
 
     // 별자리에 공유할 유저 추가
@@ -243,8 +215,9 @@ public class ConstellationService {
      * - 사진들을 이미지 테이블에 저장
      * - 몽고 DB 저장(사진 url, 윤곽선 리스트들, 선택된 윤곽선 리스트 하나) -> 저장된 몽고 DB  ID 반환
      * - 몽고DB의 ID 값을 별자리 테이블에 id 값 저장
+     * - S3 업로드와 몽고 DB 저장을 먼저 끝낸 후, 마리아 DB 작업만 짧은 트랜잭션으로 처리한다
+     * - 트랜잭션이 실패하면 업로드한 사진과 몽고 DB 데이터를 지운다
      */
-    @Transactional
     public void create(
             String email,
             String name,
@@ -254,37 +227,85 @@ public class ConstellationService {
             List<List<List<Integer>>> contoursList,
             List<List<Integer>> ultimate
     ) throws IOException {
-        // 사용자의 user 엔터티 가져오기
-        UserEntity userEntity = getUserEntityByEmailOrException(email);
-
         // 사진들 추가
-        String originUrl = s3uploader.upload(origin, "constellation/origin");
-        String thumbUrl = s3uploader.upload(thumb, "constellation/thumb");
-        String cThumbUrl = s3uploader.upload(cthumb, "constellation/cthumb");
-
-        // image 테이블에 저장
-        imageService.saveImage(origin.getOriginalFilename(), originUrl, null, ImageType.CONSTELLATION);
-        imageService.saveImage(thumb.getOriginalFilename(), thumbUrl, null, ImageType.CONSTELLATION);
-        imageService.saveImage(cthumb.getOriginalFilename(), cThumbUrl, null, ImageType.CONSTELLATION);
+        List<String> uploadedUrls = uploadConstellationImages(origin, thumb, cthumb);
+        ContourEntity contour;
+        try {
+            // 몽고 DB에 저장
+            contour = contourRepository.save(ContourEntity.of(uploadedUrls.get(0), uploadedUrls.get(1), uploadedUrls.get(2), contoursList, ultimate));
+        } catch (RuntimeException e) {
+            imageBlobService.release(uploadedUrls);
+            throw e;
+        }
 
-        // 몽고 DB에 저장
-        ContourEntity contour = contourRepository.save(ContourEntity.of(originUrl, thumbUrl, cThumbUrl, contoursList, ultimate));
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // 사용자의 user 엔터티 가져오기
+                UserEntity userEntity = getUserEntityByEmailOrException(email);
+
+                // image 테이블에 저장
+                ImageEntity originImage = imageService.saveImage(origin.getOriginalFilename(), contour.getOriginUrl(), null, ImageType.CONSTELLATION);
+                ImageEntity thumbImage = imageService.saveImage(thumb.getOriginalFilename(), contour.getThumbUrl(), null, ImageType.CONSTELLATION);
+                ImageEntity cThumbImage = imageService.saveImage(cthumb.getOriginalFilename(), contour.getCThumbUrl(), null, ImageType.CONSTELLATION);
+
+                // 별자리 엔터티 생성
+                ConstellationEntity constellationEntity = ConstellationEntity.of(
+                        name
+                );
+                constellationEntity.setImageIds(originImage.getId(), thumbImage.getId(), cThumbImage.getId());
+                // mongo에 저장된 id 반환
+                constellationEntity.setContourId(contour.get_id());
+                ConstellationUserEntity constellationUserEntity = ConstellationUserEntity.of(
+                        constellationEntity,
+                        userEntity,
+                        ConstellationUserRole.ADMIN
+                );
+                constellationUserRepository.save(constellationUserEntity);
+
+                // 별자리를 데이터베이스에 저장
+                constellationRepository.saveAndFlush(constellationEntity);
+            });
+        } catch (RuntimeException e) {
+            deleteContourQuietly(contour);
+            imageBlobService.release(uploadedUrls);
+            throw e;
+        }
+    }
 
-        // 별자리 엔터티 생성
-        ConstellationEntity constellationEntity = ConstellationEntity.of(
-                name
+    // 원본, 썸네일, 윤곽선 썸네일 동시 업로드 (하나라도 실패하면 모두 취소)
+    private List<String> uploadConstellationImages(MultipartFile origin, MultipartFile thumb, MultipartFile cthumb) throws IOException {
+        return imageUploadService.uploadAll(
+                List.of(origin, thumb, cthumb),
+                List.of("constellation/origin", "constellation/thumb", "constellation/cthumb")
         );
-        // mongo에 저장된 id 반환
-        constellationEntity.setContourId(contour.get_id());
-        ConstellationUserEntity constellationUserEntity = ConstellationUserEntity.of(
-                constellationEntity,
-                userEntity,
-                ConstellationUserRole.ADMIN
+    }
+
+    /**
+     * 별자리 사진의 이미지 행 (원본, 썸네일, 윤곽선 썸네일 순)
+     * - 같은 사진을 올린 다른 별자리와 url을 함께 쓸 수 있으므로 별자리에 기록한 image id로 찾는다
+     * - id를 기록하기 전에 만든 별자리만 url로 찾고, 그 url을 여러 이미지가 쓰고 있으면 실패한다
+     */
+    private List<ImageEntity> getConstellationImages(ConstellationEntity constellationEntity, ContourEntity contourEntity) {
+        if (constellationEntity.getOriginImageId() != null) {
+            return List.of(
+                    imageService.getImage(constellationEntity.getOriginImageId()),
+                    imageService.getImage(constellationEntity.getThumbImageId()),
+                    imageService.getImage(constellationEntity.getCThumbImageId())
+            );
+        }
+        return List.of(
+                imageService.getImageUrl(contourEntity.getOriginUrl()),
+                imageService.getImageUrl(contourEntity.getThumbUrl()),
+                imageService.getImageUrl(contourEntity.getCThumbUrl())
         );
-        constellationUserRepository.save(constellationUserEntity);
+    }
 
-        // 별자리를 데이터베이스에 저장
-        constellationRepository.saveAndFlush(constellationEntity);
+    private void deleteContourQuietly(ContourEntity contour) {
+        try {
+            contourRepository.delete(contour);
+        } catch (RuntimeException e) {
+            log.warn("Failed to delete orphaned contour {} : {}", contour.get_id(), e.toString());
+        }
     }
 
     /**
@@ -302,6 +323,7 @@ public class ConstellationService {
         ConstellationEntity constellationEntity = getConstellationEntityIfAdminOrException(constellationId, email);
         UserEntity userEntity = getUserEntityByEmailOrException(email);
         constellationLikeRepository.deleteAllByConstellationEntity(constellationEntity);
+        likeService.evict(LikeTarget.CONSTELLATION, List.of(constellationId));
         Long contourId = constellationEntity.getContourId();
         System.out.println("contourId : " + contourId);
 
@@ -325,18 +347,11 @@ public class ConstellationService {
         // 별자리 삭제
         constellationRepository.delete(constellationEntity);
 
-        ImageEntity origin = imageService.getImageUrl(contourEntity.getOriginUrl());
-        ImageEntity thumb = imageService.getImageUrl(contourEntity.getThumbUrl());
-        ImageEntity cThumb = imageService.getImageUrl(contourEntity.getCThumbUrl());
         // 이미지 테이블에서 관련 이미지 삭제
-        imageRepository.delete(origin);
-        imageRepository.delete(thumb);
-        imageRepository.delete(cThumb);
+        imageRepository.deleteAll(getConstellationImages(constellationEntity, contourEntity));
 
         // S3에서 사진 삭제
-        s3uploader.deleteImageFromS3(contourEntity.getOriginUrl());
-        s3uploader.deleteImageFromS3(contourEntity.getThumbUrl());
-        s3uploader.deleteImageFromS3(contourEntity.getCThumbUrl());
+        imageBlobService.release(contourEntity.getOriginUrl(), contourEntity.getThumbUrl(), contourEntity.getCThumbUrl());
     }
 
     //
@@ -355,13 +370,11 @@ public class ConstellationService {
         // 별자리 조회
         ConstellationEntity constellationEntity = getConstellationEntityIfAdminOrException(constellationId, email);
         Long contourId = constellationEntity.getContourId();
-        // 몽고DB조회해서 반환
-        return Contour.fromEntity(
-                contourRepository.findById(contourId)
-                        .orElseThrow(() ->
-                                new ByeolDamException(ErrorCode.CONTOUR_NOT_FOUND, String.format("ContourId : %s is not founded", contourId))
-                        )
+        // 후보 윤곽선 목록까지 필요한 건 수정 화면뿐이므로 캐시를 거치지 않고 document 전체를 읽는다
+        ContourEntity contourEntity = contourRepository.findById(contourId).orElseThrow(() ->
+                new ByeolDamException(ErrorCode.CONTOUR_NOT_FOUND, String.format("ContourId : %s is not founded", contourId))
         );
+        return Contour.fromEntity(contourEntity);
     }
 
     /**
@@ -374,8 +387,9 @@ public class ConstellationService {
      * - 위의 S3이미지로 이미지 테이블에 추가 -> Constellation
      * - 몽고DB에서 해당 id로 들어가 값을 수정
      * - 별자리 이름, 태그 등 변경 내용이 있으면 수정
+     * - 생성과 같이 S3 업로드와 몽고 DB 저장을 먼저 끝낸 후, 마리아 DB 작업만 짧은 트랜잭션으로 처리한다
+     * - 트랜잭션이 실패하면 업로드한 사진과 새 몽고 DB 데이터를 지우고, 성공하면 기존 몽고 DB 데이터를 지운다
      */
-    @Transactional
     public void modify(
             String email,                // 사용자의 email
             Long constellationId,
@@ -386,64 +400,74 @@ public class ConstellationService {
             List<List<List<Integer>>> contoursList,
             List<List<Integer>> ultimate
     ) throws IOException {
-        // 별자리 가져오기(나의 별자리 범주이고, 내가 Admin인 경우)
-        ConstellationEntity constellationEntity = getConstellationEntityIfAdminOrException(constellationId, email);
+        // 별자리 가져오기(나의 별자리 범주이고, 내가 Admin인 경우), 권한이 없으면 업로드 전에 끝낸다
+        getConstellationEntityIfAdminOrException(constellationId, email);
 
         // 사진들 추가
-        String originUrl = s3uploader.upload(origin, "constellation/origin");
-        String thumbUrl = s3uploader.upload(thumb, "constellation/thumb");
-        String cThumbUrl = s3uploader.upload(cThumb, "constellation/cthumb");
-
-        Long contourId = constellationEntity.getContourId();
-        ContourEntity contourEntity = contourRepository.findById(contourId).orElseThrow(() ->
-                new ByeolDamException(ErrorCode.CONTOUR_NOT_FOUND, String.format("ContourId : %s is not founded", contourId))
-        );
+        List<String> uploadedUrls = uploadConstellationImages(origin, thumb, cThumb);
+        ContourEntity newContourEntity;
+        try {
+            // 몽고DB에 반영하기
+            newContourEntity = contourRepository.save(ContourEntity.of(uploadedUrls.get(0), uploadedUrls.get(1), uploadedUrls.get(2), contoursList, ultimate));
+        } catch (RuntimeException e) {
+            imageBlobService.release(uploadedUrls);
+            throw e;
+        }
 
-        // 기존 이미지 URL
-        String oldOriginUrl = contourEntity.getOriginUrl();
-        String oldThumbUrl = contourEntity.getThumbUrl();
-        String oldCThumbUrl = contourEntity.getCThumbUrl();
-
-        ImageEntity oldOriginImage = imageService.getImageUrl(oldOriginUrl);
-        log.info("oldOriginImage : {}", oldOriginImage);
-        ImageEntity oldThumbImage = imageService.getImageUrl(oldThumbUrl);
-        log.info("oldThumbImage : {}", oldThumbImage);
-        ImageEntity oldContourThumbImage = imageService.getImageUrl(oldCThumbUrl);
-        log.info("oldContourThumbImage : {}", oldContourThumbImage);
-        // 기존 이미지 삭제
-        s3uploader.deleteImageFromS3(oldOriginUrl);
-        s3uploader.deleteImageFromS3(oldThumbUrl);
-        s3uploader.deleteImageFromS3(oldCThumbUrl);
-
-        // 몽고DB에 반영하기
-        contourRepository.delete(contourEntity);
-//        contourEntity.setOriginUrl(originUrl);
-//        contourEntity.setThumbUrl(thumbUrl);
-//        contourEntity.setCThumbUrl(cThumbUrl);
-//        contourEntity.setContoursList(contoursList);
-//        contourEntity.setUltimate(ultimate);
-
-        ContourEntity newContourEntity = contourRepository.save(ContourEntity.of(originUrl, thumbUrl, cThumbUrl, contoursList, ultimate));
-        //contourRepository.delete(contourEntity);
-        //constellationEntity.setContourId(newContourEntity.getId());
-        constellationEntity.setContourId(newContourEntity.get_id());
-
-        oldOriginImage.setName(origin.getOriginalFilename());
-        oldOriginImage.setUrl(originUrl);
-        imageRepository.save(oldOriginImage);
-
-        oldThumbImage.setName(thumb.getOriginalFilename());
-        oldThumbImage.setUrl(thumbUrl);
-        imageRepository.save(oldOriginImage);
-
-        oldContourThumbImage.setName(cThumb.getOriginalFilename());
-        oldContourThumbImage.setUrl(cThumbUrl);
-        imageRepository.save(oldContourThumbImage);
-
-        if (name != null) {
-            constellationEntity.setName(name);
+        ContourEntity contourEntity;
+        try {
+            contourEntity = transactionTemplate.execute(status -> {
+                ConstellationEntity constellationEntity = getConstellationEntityIfAdminOrException(constellationId, email);
+                Long contourId = constellationEntity.getContourId();
+                ContourEntity oldContourEntity = contourRepository.findById(contourId).orElseThrow(() ->
+                        new ByeolDamException(ErrorCode.CONTOUR_NOT_FOUND, String.format("ContourId : %s is not founded", contourId))
+                );
+
+                // 기존 이미지 URL
+                String oldOriginUrl = oldContourEntity.getOriginUrl();
+                String oldThumbUrl = oldContourEntity.getThumbUrl();
+                String oldCThumbUrl = oldContourEntity.getCThumbUrl();
+
+                List<ImageEntity> oldImages = getConstellationImages(constellationEntity, oldContourEntity);
+                ImageEntity oldOriginImage = oldImages.get(0);
+                log.info("oldOriginImage : {}", oldOriginImage);
+                ImageEntity oldThumbImage = oldImages.get(1);
+                log.info("oldThumbImage : {}", oldThumbImage);
+                ImageEntity oldContourThumbImage = oldImages.get(2);
+                log.info("oldContourThumbImage : {}", oldContourThumbImage);
+                // 이전에 만든 별자리는 찾은 이미지 id를 기록해 둔다 (이미지 행은 그대로 두고 url만 바꾼다)
+                constellationEntity.setImageIds(oldOriginImage.getId(), oldThumbImage.getId(), oldContourThumbImage.getId());
+                // 기존 이미지 삭제 (트랜잭션이 실패하면 참조 해제도 함께 취소된다)
+                imageBlobService.release(oldOriginUrl, oldThumbUrl, oldCThumbUrl);
+
+                constellationEntity.setContourId(newContourEntity.get_id());
+
+                oldOriginImage.setName(origin.getOriginalFilename());
+                oldOriginImage.setUrl(newContourEntity.getOriginUrl());
+                imageRepository.save(oldOriginImage);
+
+                oldThumbImage.setName(thumb.getOriginalFilename());
+                oldThumbImage.setUrl(newContourEntity.getThumbUrl());
+                imageRepository.save(oldThumbImage);
+
+                oldContourThumbImage.setName(cThumb.getOriginalFilename());
+                oldContourThumbImage.setUrl(newContourEntity.getCThumbUrl());
+                imageRepository.save(oldContourThumbImage);
+
+                if (name != null) {
+                    constellationEntity.setName(name);
+                }
+                constellationRepository.save(constellationEntity);
+                return oldContourEntity;
+            });
+        } catch (RuntimeException e) {
+            deleteContourQuietly(newContourEntity);
+            imageBlobService.release(uploadedUrls);
+            throw e;
         }
-        constellationRepository.save(constellationEntity);
+
+        // 더 이상 참조하지 않는 기존 윤곽선
+        deleteContourQuietly(contourEntity);
     }
 
 
@@ -495,36 +519,19 @@ public class ConstellationService {
         constellationUserRepository.saveAndFlush(constellationUserEntity);
     }
 
-    //별자리 좋아요 요청
-    @Transactional
+    //별자리 좋아요 요청 (DB에는 LikeService가 모아서 반영)
     public void like(Long constellationId, String email) {
-        UserEntity userEntity = getUserEntityByEmailOrException(email);                                                            // 현재 사용자 user entity
-        ConstellationEntity constellationEntity = getConstellationEntityOrException(constellationId);
-
-        // 좋아요 상태인지 확인
-        constellationLikeRepository.findByUserEntityAndConstellationEntity(userEntity, constellationEntity).ifPresentOrElse(
-                constellationLikeRepository::delete,
-                () -> constellationLikeRepository.save(ConstellationLikeEntity.of(userEntity, constellationEntity))
-        );
+        likeService.toggle(LikeTarget.CONSTELLATION, constellationId, email);
     }
 
     //별자리 좋아요 상태 확인
-    @Transactional
     public Boolean checkLike(Long constellationId, String email) {
-        UserEntity userEntity = getUserEntityByEmailOrException(email);                                                            // 현재 사용자 user entity
-        ConstellationEntity constellationEntity = getConstellationEntityOrException(constellationId);
-
-        //좋아요 상태인지 확인
-        return constellationLikeRepository.findByUserEntityAndConstellationEntity(userEntity, constellationEntity).isPresent();
+        return likeService.isLiked(LikeTarget.CONSTELLATION, constellationId, email);
     }
 
     //별자리 좋아요 갯수 확인
-    @Transactional
     public Integer likeCount(Long constellationId) {
-        ConstellationEntity constellationEntity = getConstellationEntityOrException(constellationId);
-
-        //좋아요 갯수 확인
-        return constellationLikeRepository.countByConstellationEntity(constellationEntity);
+        return likeService.count(LikeTarget.CONSTELLATION, constellationId);
     }
 
     //별자리 좋아요한 사람들의 목록 확인
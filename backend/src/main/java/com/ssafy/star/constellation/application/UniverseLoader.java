@@ -0,0 +1,88 @@
+package com.ssafy.star.constellation.application;
+
+import com.ssafy.star.article.dao.ArticleRepository;
+import com.ssafy.star.article.dto.HoverArticle;
+import com.ssafy.star.common.exception.ByeolDamException;
+import com.ssafy.star.common.exception.ErrorCode;
+import com.ssafy.star.common.infra.hit.HitCounter;
+import com.ssafy.star.common.infra.hit.HitTarget;
+import com.ssafy.star.constellation.dao.ConstellationUserRepository;
+import com.ssafy.star.constellation.domain.ConstellationEntity;
+import com.ssafy.star.constellation.dto.ConstellationUser;
+import com.ssafy.star.constellation.dto.ConstellationWithArticle;
+import com.ssafy.star.contour.ContourLod;
+import com.ssafy.star.contour.application.ContourCache;
+import com.ssafy.star.contour.dto.ContourOutline;
+import com.ssafy.star.user.domain.UserEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 우주 보기 (별자리 목록 -> ConstellationWithArticle) 조립
+ * - 별자리마다 윤곽선, 게시물, 멤버를 따로 조회하지 않고 종류별로 한 번씩만 조회한 후 메모리에서 조립한다
+ * - 윤곽선 : ContourCache에 없는 것만 MongoDB findUltimateByIdIn 1번 (선택된 윤곽선만), 게시물(+이미지) : IN 쿼리 1번, 멤버 : IN 쿼리 1번
+ * - 별자리 수와 상관없이 조회 횟수가 고정된다
+ * - 트랜잭션 안에서 호출해야 한다
+ */
+@Component
+@RequiredArgsConstructor
+public class UniverseLoader {
+
+    private final ArticleRepository articleRepository;
+    private final ConstellationUserRepository constellationUserRepository;
+    private final ContourCache contourCache;
+    private final HitCounter hitCounter;
+
+    /**
+     * @param constellationEntities 보여줄 별자리 (최신순으로 정렬해서 반환)
+     * @param viewerEntity          비공개 게시물은 viewerEntity가 작성한 것만 포함
+     * @param lod                   윤곽선 상세 단계
+     */
+    public List<ConstellationWithArticle> load(List<ConstellationEntity> constellationEntities, UserEntity viewerEntity, ContourLod lod) {
+        if (constellationEntities.isEmpty()) return List.of();
+
+        List<Long> constellationIds = constellationEntities.stream().map(ConstellationEntity::getId).toList();
+        Map<Long, ContourOutline> contours = findContours(constellationEntities, lod);
+        Map<Long, List<ConstellationUser>> usersByConstellationId = constellationUserRepository.findConstellationUsersByConstellationIdIn(constellationIds)
+                .stream()
+                .collect(Collectors.groupingBy(ConstellationUser::constellationId));
+        Map<Long, List<HoverArticle>> articlesByConstellationId = articleRepository.findAllWithImageByConstellationIdInSearch(constellationIds, viewerEntity)
+                .stream()
+                .collect(Collectors.groupingBy(
+                        articleEntity -> articleEntity.getConstellationEntity().getId(),
+                        Collectors.mapping(HoverArticle::fromEntity, Collectors.toList())
+                ));
+
+        return constellationEntities.stream()
+                .sorted(Comparator.comparing(ConstellationEntity::getCreatedAt).reversed())
+                .map(constellationEntity -> ConstellationWithArticle.of(
+                        constellationEntity.getId(),
+                        constellationEntity.getName(),
+                        contours.get(constellationEntity.getContourId()),
+                        hitCounter.merge(HitTarget.CONSTELLATION, constellationEntity.getId(), constellationEntity.getHits()),
+                        usersByConstellationId.getOrDefault(constellationEntity.getId(), List.of()),
+                        constellationEntity.getCreatedAt(),
+                        constellationEntity.getModifiedAt(),
+                        articlesByConstellationId.getOrDefault(constellationEntity.getId(), List.of())
+                ))
+                .toList();
+    }
+
+    private Map<Long, ContourOutline> findContours(List<ConstellationEntity> constellationEntities, ContourLod lod) {
+        Set<Long> contourIds = constellationEntities.stream()
+                .map(ConstellationEntity::getContourId)
+                .collect(Collectors.toSet());
+        Map<Long, ContourOutline> contours = contourCache.getAll(contourIds, lod);
+
+        for (ConstellationEntity constellationEntity : constellationEntities) {
+            if (!contours.containsKey(constellationEntity.getContourId())) {
+                throw new ByeolDamException(ErrorCode.CONTOUR_NOT_FOUND,
+                        String.format("ContourId : %s of constellation %d is not founded", constellationEntity.getContourId(), constellationEntity.getId()));
+            }
+        }
+        return contours;
+    }
+}
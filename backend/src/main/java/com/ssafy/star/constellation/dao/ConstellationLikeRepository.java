@@ -2,14 +2,17 @@ package com.ssafy.star.constellation.dao;
 
 import com.ssafy.star.constellation.domain.ConstellationEntity;
 import com.ssafy.star.constellation.domain.ConstellationLikeEntity;
+import com.ssafy.star.like.dto.LikeMember;
 import com.ssafy.star.user.domain.UserEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,4 +27,19 @@ public interface ConstellationLikeRepository extends JpaRepository<Constellation
 
     List<ConstellationLikeEntity> findAllByConstellationEntity(ConstellationEntity constellationEntity, Sort sort);
     Page<ConstellationLikeEntity> findAllByUserEntityOrderByCreatedAtDesc(UserEntity userEntity, Pageable pageable);
+
+    @Query("SELECT e.userEntity.id FROM ConstellationLikeEntity e WHERE e.constellationEntity.id = :constellationId")
+    List<Long> findUserIdsByConstellationId(Long constellationId);
+
+    @Query("SELECT new com.ssafy.star.like.dto.LikeMember(e.constellationEntity.id, e.userEntity.id) FROM ConstellationLikeEntity e WHERE e.constellationEntity.id IN :constellationIds")
+    List<LikeMember> findLikeMembersByConstellationIdIn(Collection<Long> constellationIds);
+
+    @Query("SELECT e.constellationEntity.id FROM ConstellationLikeEntity e WHERE e.userEntity = :userEntity")
+    List<Long> findConstellationIdsByUserEntity(UserEntity userEntity);
+
+    boolean existsByConstellationEntityIdAndUserEntityId(Long constellationId, Long userId);
+
+    @Modifying
+    @Query("DELETE FROM ConstellationLikeEntity e WHERE e.constellationEntity.id = :constellationId AND e.userEntity.id = :userId")
+    void deleteByConstellationIdAndUserId(Long constellationId, Long userId);
 }
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,5 +21,9 @@ public interface ConstellationRepository extends JpaRepository<ConstellationEnti
     // 나의 별자리 전체 조회
     @Query("SELECT cu.constellationEntity FROM ConstellationUserEntity cu WHERE cu.userEntity = :userEntity")
     List<ConstellationEntity> findAllByUserEntity(@Param("userEntity") UserEntity userEntity);
+
+    // 존재하는 별자리 id만 조회
+    @Query("SELECT c.id FROM ConstellationEntity c WHERE c.id IN :constellationIds")
+    List<Long> findIdsByIdIn(@Param("constellationIds") Collection<Long> constellationIds);
 }
 
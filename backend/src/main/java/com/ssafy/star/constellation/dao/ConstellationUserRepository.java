@@ -3,12 +3,14 @@ package com.ssafy.star.constellation.dao;
 import com.ssafy.star.constellation.ConstellationUserRole;
 import com.ssafy.star.constellation.domain.ConstellationEntity;
 import com.ssafy.star.constellation.domain.ConstellationUserEntity;
+import com.ssafy.star.constellation.dto.ConstellationUser;
 import com.ssafy.star.user.domain.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +25,10 @@ public interface ConstellationUserRepository extends JpaRepository<Constellation
     @Query("SELECT cu FROM ConstellationUserEntity cu WHERE cu.userEntity = :userEntity")
     List<ConstellationUserEntity> findConstellationUserEntitiesByUserEntity(@Param("userEntity") UserEntity userEntity);
 
+    // 여러 별자리에 속한 유저 한 번에 보기
+    @Query("SELECT new com.ssafy.star.constellation.dto.ConstellationUser(cu.id, cu.constellationEntity.id, cu.userEntity.id, cu.constellationUserRole) FROM ConstellationUserEntity cu WHERE cu.constellationEntity.id IN :constellationIds")
+    List<ConstellationUser> findConstellationUsersByConstellationIdIn(@Param("constellationIds") Collection<Long> constellationIds);
+
     // 해당 별자리에 속한 모든 유저 보기
     @Query("SELECT cu FROM ConstellationUserEntity cu WHERE cu.constellationEntity = :constellationEntity")
     List<ConstellationUserEntity> findConstellationUserEntitiesByConstellationEntity(@Param("constellationEntity") ConstellationEntity constellationEntity);
@@ -29,6 +29,19 @@ public class ConstellationEntity {
     @Column(name = "contour_id")
     private Long contourId;
 
+    // 별자리 사진(원본, 썸네일, 윤곽선 썸네일)의 image id
+    // 같은 사진을 올린 다른 별자리와 url을 함께 쓸 수 있으므로, 이미지 행은 url이 아니라 id로 찾는다 (이전에 만든 별자리는 null)
+    @Column(name = "origin_image_id")
+    private Long originImageId;
+
+    @Column(name = "thumb_image_id")
+    private Long thumbImageId;
+
+    @Column(name = "c_thumb_image_id")
+    private Long cThumbImageId;
+
+    // 조회수는 HitCounter가 batch UPDATE로만 증가시킨다
+    @Column(updatable = false)
     private Long hits = 0L;
 
     @ToString.Exclude
@@ -53,10 +66,6 @@ public class ConstellationEntity {
         this.modifiedAt = LocalDateTime.from(LocalDateTime.now());
     }
 
-    public void increaseHits() {
-        this.hits++;
-    }
-
     public void addUser(ConstellationUserEntity constellationUserEntity) {
         this.constellationUserEntities.add(constellationUserEntity);
         constellationUserEntity.updateConstellationEntity(this);
@@ -76,6 +85,12 @@ public class ConstellationEntity {
         return null;
     }
 
+    public void setImageIds(Long originImageId, Long thumbImageId, Long cThumbImageId) {
+        this.originImageId = originImageId;
+        this.thumbImageId = thumbImageId;
+        this.cThumbImageId = cThumbImageId;
+    }
+
     protected ConstellationEntity() {
     }
 
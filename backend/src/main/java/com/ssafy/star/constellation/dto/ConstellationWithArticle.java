@@ -1,7 +1,7 @@
 package com.ssafy.star.constellation.dto;
 
 import com.ssafy.star.article.dto.HoverArticle;
-import com.ssafy.star.contour.dto.Contour;
+import com.ssafy.star.contour.dto.ContourOutline;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -9,7 +9,7 @@ import java.util.List;
 public record ConstellationWithArticle(
         Long id,
         String name,
-        Contour contour,
+        ContourOutline contour,
         long hits,
         List<ConstellationUser> constellationUsers,
         LocalDateTime createdAt,
@@ -19,7 +19,7 @@ public record ConstellationWithArticle(
     public static ConstellationWithArticle of(
             Long id,
             String name,
-            Contour contour,
+            ContourOutline contour,
             long hits,
             List<ConstellationUser> constellationUsers,
             LocalDateTime createdAt,
@@ -22,7 +22,7 @@ public record ConstellationWithArticleResponse(
         return new ConstellationWithArticleResponse(
                 dto.id(),
                 dto.name(),
-                ContourResponse.fromContour(dto.contour()),
+                ContourResponse.fromOutline(dto.contour()),
                 dto.hits(),
                 dto.constellationUsers(),
                 dto.createdAt(),
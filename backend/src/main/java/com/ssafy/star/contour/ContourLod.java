@@ -0,0 +1,35 @@
+package com.ssafy.star.contour;
+
+import java.util.List;
+
+/**
+ * 윤곽선 상세 단계 (tolerance : 단순화할 때 허용하는 오차, px)
+ * - FULL은 원본 좌표 그대로이고 윤곽선 수정 화면에서만 쓴다
+ * - 나머지 단계는 별자리를 만들 때 선택 윤곽선(ultimate)을 미리 단순화해 둔다
+ */
+public enum ContourLod {
+    FULL(0),
+    HIGH(1.0),
+    MEDIUM(2.5),
+    LOW(6.0);
+
+    private final double tolerance;
+
+    ContourLod(double tolerance) {
+        this.tolerance = tolerance;
+    }
+
+    public double tolerance() {
+        return tolerance;
+    }
+
+    // 미리 계산해 두는 단계
+    public static List<ContourLod> simplified() {
+        return List.of(HIGH, MEDIUM, LOW);
+    }
+
+    // 목록, 검색 화면에서는 FULL을 요청해도 HIGH까지만 내려준다
+    public ContourLod forPreview() {
+        return this == FULL ? HIGH : this;
+    }
+}
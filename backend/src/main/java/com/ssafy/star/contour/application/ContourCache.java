@@ -0,0 +1,136 @@
+package com.ssafy.star.contour.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssafy.star.common.exception.ByeolDamException;
+import com.ssafy.star.common.exception.ErrorCode;
+import com.ssafy.star.contour.ContourLod;
+import com.ssafy.star.contour.dto.ContourOutline;
+import com.ssafy.star.contour.repository.ContourRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 읽기 전용 윤곽선(ContourOutline) 캐시
+ * - 윤곽선 id와 상세 단계(ContourLod)별로 보관한다
+ * - MongoDB에서는 썸네일 url과 선택된 윤곽선만 읽는다 (후보 윤곽선 목록은 수정 화면에서만 직접 조회)
+ * - 윤곽선 document는 수정되지 않는다 (별자리 수정 시 새 id로 다시 저장) -> 무효화 없이 용량이 차면 밀어내기만 한다
+ * - 1단계 : 서버 메모리, 좌표 개수로 무게를 매겨 contour.cache.max-points까지 보관한다
+ * - 2단계 : Redis (contour.cache.redis.enabled), 서버가 재시작되거나 다른 서버가 읽은 윤곽선을 MongoDB 대신 가져온다
+ * - Redis 오류는 로그만 남기고 MongoDB에서 읽는다
+ * - 적중률은 cache.gets{cache=contour} 등 metric으로 노출한다
+ */
+@Slf4j
+@Component
+public class ContourCache {
+
+    private static final String KEY_PREFIX = "contour:outline:";
+
+    private final ContourRepository contourRepository;
+    private final RedisTemplate<String, ContourOutline> contourRedisTemplate;
+    private final boolean redisEnabled;
+    private final Duration redisTtl;
+    private final Cache<ContourKey, ContourOutline> cache;
+
+    public ContourCache(
+            ContourRepository contourRepository,
+            RedisTemplate<String, ContourOutline> contourRedisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${contour.cache.max-points:2000000}") long maxPoints,
+            @Value("${contour.cache.redis.enabled:false}") boolean redisEnabled,
+            @Value("${contour.cache.redis.ttl-hours:168}") long redisTtlHours
+    ) {
+        this.contourRepository = contourRepository;
+        this.contourRedisTemplate = contourRedisTemplate;
+        this.redisEnabled = redisEnabled;
+        this.redisTtl = Duration.ofHours(redisTtlHours);
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxPoints)
+                .weigher((ContourKey key, ContourOutline outline) -> weight(outline))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "contour");
+    }
+
+    public ContourOutline get(Long contourId, ContourLod lod) {
+        ContourOutline outline = getAll(List.of(contourId), lod).get(contourId);
+        if (outline == null) {
+            throw new ByeolDamException(ErrorCode.CONTOUR_NOT_FOUND, String.format("ContourId : %s is not founded", contourId));
+        }
+        return outline;
+    }
+
+    // 없는 윤곽선은 결과에서 빠진다
+    public Map<Long, ContourOutline> getAll(Collection<Long> contourIds, ContourLod lod) {
+        List<ContourKey> keys = contourIds.stream().map(contourId -> new ContourKey(contourId, lod)).toList();
+        Map<Long, ContourOutline> outlines = new HashMap<>();
+        cache.getAll(keys, this::load).forEach((key, outline) -> outlines.put(key.contourId(), outline));
+        return outlines;
+    }
+
+    private Map<ContourKey, ContourOutline> load(Set<? extends ContourKey> keys) {
+        Map<ContourKey, ContourOutline> loaded = new HashMap<>();
+        if (redisEnabled) {
+            loaded.putAll(loadFromRedis(keys));
+        }
+
+        Map<Long, List<ContourKey>> missingKeys = new HashMap<>();
+        for (ContourKey key : keys) {
+            if (!loaded.containsKey(key)) missingKeys.computeIfAbsent(key.contourId(), contourId -> new ArrayList<>()).add(key);
+        }
+        if (missingKeys.isEmpty()) return loaded;
+
+        Map<ContourKey, ContourOutline> fetched = new HashMap<>();
+        contourRepository.findUltimateByIdIn(missingKeys.keySet()).forEach(contourEntity -> {
+            for (ContourKey key : missingKeys.get(contourEntity.get_id())) {
+                fetched.put(key, ContourOutline.fromEntity(contourEntity, key.lod()));
+            }
+        });
+        if (redisEnabled && !fetched.isEmpty()) {
+            saveToRedis(fetched);
+        }
+        loaded.putAll(fetched);
+        return loaded;
+    }
+
+    private Map<ContourKey, ContourOutline> loadFromRedis(Set<? extends ContourKey> keys) {
+        List<ContourKey> contourKeys = List.copyOf(keys);
+        Map<ContourKey, ContourOutline> loaded = new HashMap<>();
+        try {
+            List<ContourOutline> outlines = contourRedisTemplate.opsForValue().multiGet(contourKeys.stream().map(ContourKey::redisKey).toList());
+            if (outlines == null) return loaded;
+            for (int i = 0; i < contourKeys.size(); i++) {
+                if (outlines.get(i) != null) loaded.put(contourKeys.get(i), outlines.get(i));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to read contours from redis : {}", e.toString());
+        }
+        return loaded;
+    }
+
+    private void saveToRedis(Map<ContourKey, ContourOutline> outlines) {
+        try {
+            outlines.forEach((key, outline) -> contourRedisTemplate.opsForValue().set(key.redisKey(), outline, redisTtl));
+        } catch (RuntimeException e) {
+            log.warn("Failed to write contours to redis : {}", e.toString());
+        }
+    }
+
+    private record ContourKey(Long contourId, ContourLod lod) {
+        String redisKey() {
+            return KEY_PREFIX + contourId + ":" + lod.name().toLowerCase();
+        }
+    }
+
+    // 좌표 개수 (선택된 윤곽선)
+    static int weight(ContourOutline outline) {
+        return 1 + (outline.ultimate() == null ? 0 : outline.ultimate().size());
+    }
+}
@@ -1,5 +1,7 @@
 package com.ssafy.star.contour.domain;
 
+import com.ssafy.star.contour.ContourLod;
+import com.ssafy.star.contour.utils.PolygonSimplifier;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -9,7 +11,7 @@ import org.springframework.data.annotation.Transient;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 
 @Getter
 @Setter
@@ -26,8 +28,9 @@ public class ContourEntity {
     private String originUrl; // 원본 사진 저장 url
     private String thumbUrl;  // 썸네일 사진 저장 url
     private String cThumbUrl; // 윤곽선이 합쳐진 썸네일 사진 url
-    private List<List<List<Integer>>> contoursList; //좌표 정보들
-    private List<List<Integer>> ultimate; //선택된 윤곽선 좌표 정보
+    private PackedPolygons contoursList; //좌표 정보들 (PackedPolygons로 압축해서 binary로 저장)
+    private PackedPolygons ultimate; //선택된 윤곽선 좌표 정보
+    private Map<ContourLod, PackedPolygons> ultimateLods; //단계별로 단순화한 선택 윤곽선 (FULL 제외)
 
     protected ContourEntity() {
     }
@@ -42,8 +45,9 @@ public class ContourEntity {
         this.originUrl = originUrl;
         this.thumbUrl = thumbUrl;
         this.cThumbUrl = cThumbUrl;
-        this.contoursList = contoursList;
-        this.ultimate = ultimate;
+        this.contoursList = PackedPolygons.of(contoursList);
+        this.ultimate = PackedPolygons.ofPolygon(ultimate);
+        this.ultimateLods = PolygonSimplifier.simplifiedLevels(ultimate);
     }
 
     public static ContourEntity of(String originUrl,
@@ -54,4 +58,11 @@ public class ContourEntity {
         return new ContourEntity(originUrl, thumbUrl, cThumbUrl, contoursList, ultimate);
     }
 
+    // 단계별 선택 윤곽선 (단순화 결과가 없는 예전 document는 읽을 때 계산)
+    public List<List<Integer>> ultimateAt(ContourLod lod) {
+        List<List<Integer>> full = ultimate == null ? List.of() : ultimate.polygon();
+        if (lod == ContourLod.FULL) return full;
+        PackedPolygons simplified = ultimateLods == null ? null : ultimateLods.get(lod);
+        return simplified != null ? simplified.polygon() : PolygonSimplifier.simplify(full, lod.tolerance());
+    }
 }
@@ -0,0 +1,206 @@
+package com.ssafy.star.contour.domain;
+
+import java.io.ByteArrayOutputStream;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * 압축한 윤곽선 좌표 (MongoDB에는 BSON binary 하나로 저장)
+ * - 형식 : [version][다각형 수] + 다각형마다 [점 수][x, y 차이값...] (모두 varint)
+ * - 각 점은 이전 점과의 차이를 zigzag varint로 저장한다 (윤곽선의 이웃한 점은 가까우므로 대부분 1바이트)
+ * - 풀어낸 좌표는 다각형마다 int[] 하나에 담고, List 형태의 view로 내보낸다 (Integer, ArrayList를 점마다 만들지 않는다)
+ */
+public final class PackedPolygons {
+
+    private static final int VERSION = 1;
+    private static final PackedPolygons EMPTY = of(List.of());
+
+    private final byte[] bytes;
+
+    private PackedPolygons(byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    public static PackedPolygons empty() {
+        return EMPTY;
+    }
+
+    public static PackedPolygons fromBytes(byte[] bytes) {
+        return new PackedPolygons(bytes.clone());
+    }
+
+    // 윤곽선 목록 ([다각형][점][x, y])
+    public static PackedPolygons of(List<? extends List<? extends List<Integer>>> polygons) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeVarint(out, VERSION);
+        writeVarint(out, polygons == null ? 0 : polygons.size());
+        if (polygons != null) {
+            for (List<? extends List<Integer>> polygon : polygons) {
+                writePolygon(out, polygon);
+            }
+        }
+        return new PackedPolygons(out.toByteArray());
+    }
+
+    // 다각형 하나 ([점][x, y])
+    public static PackedPolygons ofPolygon(List<? extends List<Integer>> polygon) {
+        return of(polygon == null ? List.of() : List.of(polygon));
+    }
+
+    public byte[] bytes() {
+        return bytes.clone();
+    }
+
+    public int size() {
+        return bytes.length;
+    }
+
+    public List<List<List<Integer>>> polygons() {
+        return new PolygonList(decode(bytes));
+    }
+
+    // 첫 번째 다각형 (ofPolygon으로 만든 값, 없으면 빈 목록)
+    public List<List<Integer>> polygon() {
+        int[][] polygons = decode(bytes);
+        return polygons.length == 0 ? List.of() : new PointList(polygons[0]);
+    }
+
+    public int pointCount() {
+        int points = 0;
+        for (int[] polygon : decode(bytes)) {
+            points += polygon.length / 2;
+        }
+        return points;
+    }
+
+    private static void writePolygon(ByteArrayOutputStream out, List<? extends List<Integer>> polygon) {
+        writeVarint(out, polygon.size());
+        int previousX = 0;
+        int previousY = 0;
+        for (List<Integer> point : polygon) {
+            if (point.size() != 2) {
+                throw new IllegalArgumentException("point must have 2 coordinates : " + point);
+            }
+            int x = point.get(0);
+            int y = point.get(1);
+            writeVarint(out, zigzag(x - previousX));
+            writeVarint(out, zigzag(y - previousY));
+            previousX = x;
+            previousY = y;
+        }
+    }
+
+    // 다각형마다 [x0, y0, x1, y1, ...]
+    static int[][] decode(byte[] bytes) {
+        Reader reader = new Reader(bytes);
+        int version = reader.readVarint();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("unsupported packed polygons version : " + version);
+        }
+        int[][] polygons = new int[reader.readVarint()][];
+        for (int i = 0; i < polygons.length; i++) {
+            int[] coordinates = new int[reader.readVarint() * 2];
+            int x = 0;
+            int y = 0;
+            for (int j = 0; j < coordinates.length; j += 2) {
+                x += unzigzag(reader.readVarint());
+                y += unzigzag(reader.readVarint());
+                coordinates[j] = x;
+                coordinates[j + 1] = y;
+            }
+            polygons[i] = coordinates;
+        }
+        return polygons;
+    }
+
+    private static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static final class Reader {
+        private final byte[] bytes;
+        private int position;
+
+        private Reader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        private int readVarint() {
+            int value = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                if (position >= bytes.length) {
+                    throw new IllegalArgumentException("truncated packed polygons");
+                }
+                byte b = bytes[position++];
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return value;
+            }
+            throw new IllegalArgumentException("malformed varint in packed polygons");
+        }
+    }
+
+    private static final class PolygonList extends AbstractList<List<List<Integer>>> implements RandomAccess {
+        private final int[][] polygons;
+
+        private PolygonList(int[][] polygons) {
+            this.polygons = polygons;
+        }
+
+        @Override
+        public List<List<Integer>> get(int index) {
+            return new PointList(polygons[index]);
+        }
+
+        @Override
+        public int size() {
+            return polygons.length;
+        }
+    }
+
+    private static final class PointList extends AbstractList<List<Integer>> implements RandomAccess {
+        private final int[] coordinates;
+
+        private PointList(int[] coordinates) {
+            this.coordinates = coordinates;
+        }
+
+        @Override
+        public List<Integer> get(int index) {
+            return List.of(coordinates[index * 2], coordinates[index * 2 + 1]);
+        }
+
+        @Override
+        public int size() {
+            return coordinates.length / 2;
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof PackedPolygons other && Arrays.equals(bytes, other.bytes));
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(bytes);
+    }
+
+    @Override
+    public String toString() {
+        return "PackedPolygons(" + bytes.length + " bytes)";
+    }
+}
@@ -1,5 +1,6 @@
 package com.ssafy.star.contour.dto;
 
+import com.ssafy.star.contour.ContourLod;
 import com.ssafy.star.contour.domain.ContourEntity;
 
 import java.util.List;
@@ -17,8 +18,8 @@ public record Contour(
                 entity.getOriginUrl(),
                 entity.getThumbUrl(),
                 entity.getCThumbUrl(),
-                entity.getContoursList(),
-                entity.getUltimate()
+                entity.getContoursList() == null ? List.of() : entity.getContoursList().polygons(),
+                entity.ultimateAt(ContourLod.FULL)
         );
     }
 
@@ -0,0 +1,24 @@
+package com.ssafy.star.contour.dto;
+
+import com.ssafy.star.contour.ContourLod;
+import com.ssafy.star.contour.domain.ContourEntity;
+
+import java.util.List;
+
+/**
+ * 읽기 전용 화면(우주 보기, 검색)에서 쓰는 윤곽선
+ * - 썸네일 url과 선택된 윤곽선만 담는다 (후보 윤곽선 목록은 수정 화면의 Contour에만)
+ */
+public record ContourOutline(
+        String thumbUrl,
+        String cThumbUrl,
+        List<List<Integer>> ultimate
+) {
+    public static ContourOutline fromEntity(ContourEntity entity, ContourLod lod) {
+        return new ContourOutline(
+                entity.getThumbUrl(),
+                entity.getCThumbUrl(),
+                entity.ultimateAt(lod)
+        );
+    }
+}
@@ -7,7 +7,7 @@ public record ContourResponse (
         String cThumbUrl,
         List<List<Integer>> ultimate
 ){
-    public static ContourResponse fromContour(Contour dto) {
+    public static ContourResponse fromOutline(ContourOutline dto) {
         return new ContourResponse(
                 dto.thumbUrl(),
                 dto.cThumbUrl(),
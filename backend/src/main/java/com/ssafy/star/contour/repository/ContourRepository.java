@@ -3,12 +3,19 @@ package com.ssafy.star.contour.repository;
 import com.mongodb.lang.NonNull;
 import com.ssafy.star.contour.domain.ContourEntity;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ContourRepository extends MongoRepository<ContourEntity, Long> {
     @NonNull
     Optional<ContourEntity> findById(@NonNull Long contourId);
+
+    // 썸네일 url과 선택된 윤곽선만 읽는다 (후보 윤곽선 목록 contoursList, 원본 url은 null)
+    @Query(value = "{ '_id': { $in: ?0 } }", fields = "{ 'thumbUrl': 1, 'cThumbUrl': 1, 'ultimate': 1, 'ultimateLods': 1 }")
+    List<ContourEntity> findUltimateByIdIn(Collection<Long> contourIds);
 }
@@ -0,0 +1,130 @@
+package com.ssafy.star.contour.utils;
+
+import com.ssafy.star.contour.domain.PackedPolygons;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.Binary;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 예전 형식으로 저장된 윤곽선 document 옮기기
+ * - contoursList 또는 ultimate가 아직 배열인 document는 PackedPolygons binary로 바꾼다
+ * - 단계별 단순화 결과(ultimateLods)가 없는 document는 계산해서 채운다
+ * - 대상 document를 batch-size개씩 읽어서 해당 필드만 바꾼다
+ * - 엔티티로 저장하지 않고 필드만 update 한다 (저장 시 ContourListener가 새 id를 붙이므로)
+ * - 옮기는 중에도 읽기는 PackedPolygonsConverters가 두 형식을 모두 처리하고, 단순화 결과가 없으면 읽을 때 계산한다
+ * - 여러 서버에서 동시에 돌지 않도록 Redis lock을 잡고, 변환하지 못한 document는 로그만 남기고 건너뛴다
+ */
+@Slf4j
+@Component
+public class ContourPackingMigration {
+
+    private static final String COLLECTION = "contour";
+    private static final String LOCK_KEY = "contour:packing:migration:lock";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(10);
+    private static final int BSON_ARRAY = 4;
+
+    private final MongoTemplate mongoTemplate;
+    private final RedisTemplate<String, String> jobRedisTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public ContourPackingMigration(
+            MongoTemplate mongoTemplate,
+            RedisTemplate<String, String> jobRedisTemplate,
+            @Value("${contour.packing.migration.enabled:false}") boolean enabled,
+            @Value("${contour.packing.migration.batch-size:500}") int batchSize
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.jobRedisTemplate = jobRedisTemplate;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(
+            initialDelayString = "${contour.packing.migration.initial-delay-ms:60000}",
+            fixedDelayString = "${contour.packing.migration.interval-ms:3600000}"
+    )
+    public void run() {
+        if (!enabled) return;
+        if (!Boolean.TRUE.equals(jobRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, instanceId, LOCK_TTL))) return;
+
+        try {
+            long lastId = Long.MIN_VALUE;
+            long migrated = 0;
+            List<Document> documents;
+            do {
+                documents = mongoTemplate.find(legacyAfter(lastId), Document.class, COLLECTION);
+                for (Document document : documents) {
+                    if (migrate(document)) migrated++;
+                }
+                if (!documents.isEmpty()) {
+                    lastId = ((Number) documents.get(documents.size() - 1).get("_id")).longValue();
+                    jobRedisTemplate.expire(LOCK_KEY, LOCK_TTL);
+                }
+            } while (documents.size() == batchSize);
+            if (migrated > 0) {
+                log.info("packed {} legacy contour documents", migrated);
+            }
+        } finally {
+            if (instanceId.equals(jobRedisTemplate.opsForValue().get(LOCK_KEY))) {
+                jobRedisTemplate.delete(LOCK_KEY);
+            }
+        }
+    }
+
+    // _id 순으로 lastId 다음의 예전 형식 document (변환에 실패한 document를 다시 읽지 않도록)
+    private Query legacyAfter(long lastId) {
+        Query query = Query.query(Criteria.where("_id").gt(lastId).orOperator(
+                Criteria.where("contoursList").type(BSON_ARRAY),
+                Criteria.where("ultimate").type(BSON_ARRAY),
+                Criteria.where("ultimateLods").exists(false)
+        ));
+        query.fields().include("_id", "contoursList", "ultimate", "ultimateLods");
+        return query.with(Sort.by(Sort.Direction.ASC, "_id")).limit(batchSize);
+    }
+
+    private boolean migrate(Document document) {
+        Object id = document.get("_id");
+        try {
+            Update update = new Update();
+            if (document.get("contoursList") instanceof List<?> contoursList) {
+                update.set("contoursList", new Binary(PackedPolygonsConverters.fromLegacy(contoursList).bytes()));
+            }
+            PackedPolygons ultimate = null;
+            if (document.get("ultimate") instanceof List<?> legacyUltimate) {
+                ultimate = PackedPolygonsConverters.fromLegacy(legacyUltimate);
+                update.set("ultimate", new Binary(ultimate.bytes()));
+            } else if (document.get("ultimate") instanceof Binary binary) {
+                ultimate = PackedPolygons.fromBytes(binary.getData());
+            } else if (document.get("ultimate") instanceof byte[] bytes) {
+                ultimate = PackedPolygons.fromBytes(bytes);
+            }
+            if (ultimate != null && !document.containsKey("ultimateLods")) {
+                Document levels = new Document();
+                PolygonSimplifier.simplifiedLevels(ultimate.polygon())
+                        .forEach((lod, simplified) -> levels.put(lod.name(), new Binary(simplified.bytes())));
+                update.set("ultimateLods", levels);
+            }
+            if (update.getUpdateObject().isEmpty()) return false;
+            mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(id)), update, COLLECTION);
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Failed to pack contour {} : {}", id, e.toString());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.ssafy.star.contour.utils;
+
+import com.ssafy.star.contour.domain.PackedPolygons;
+import org.bson.types.Binary;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PackedPolygons <-> MongoDB 값 변환
+ * - 저장은 BSON binary 하나로 한다
+ * - 압축 전에 저장된 document(좌표 배열)도 읽을 수 있도록 배열에서도 변환한다 (ContourPackingMigration이 옮기기 전까지)
+ */
+public final class PackedPolygonsConverters {
+
+    private PackedPolygonsConverters() {
+    }
+
+    public static List<Converter<?, ?>> converters() {
+        return List.of(
+                new PackedPolygonsToBinaryConverter(),
+                new BinaryToPackedPolygonsConverter(),
+                new BytesToPackedPolygonsConverter(),
+                new ListToPackedPolygonsConverter()
+        );
+    }
+
+    // 예전 형식의 좌표 배열 ([다각형][점][x, y] 또는 [점][x, y])
+    public static PackedPolygons fromLegacy(List<?> source) {
+        if (source.isEmpty()) return PackedPolygons.empty();
+        if (isPolygons(source)) {
+            List<List<List<Integer>>> converted = new ArrayList<>(source.size());
+            for (Object polygon : source) {
+                converted.add(toPoints((List<?>) polygon));
+            }
+            return PackedPolygons.of(converted);
+        }
+        return PackedPolygons.ofPolygon(toPoints(source));
+    }
+
+    // 비어 있지 않은 첫 원소가 점([x, y])의 목록이면 다각형 목록
+    private static boolean isPolygons(List<?> source) {
+        for (Object element : source) {
+            if (element instanceof List<?> list && !list.isEmpty()) {
+                return list.get(0) instanceof List<?>;
+            }
+        }
+        return true;
+    }
+
+    private static List<List<Integer>> toPoints(List<?> polygon) {
+        List<List<Integer>> points = new ArrayList<>(polygon.size());
+        for (Object point : polygon) {
+            List<?> coordinates = (List<?>) point;
+            List<Integer> converted = new ArrayList<>(coordinates.size());
+            for (Object coordinate : coordinates) {
+                converted.add(((Number) coordinate).intValue());
+            }
+            points.add(converted);
+        }
+        return points;
+    }
+
+    @WritingConverter
+    static class PackedPolygonsToBinaryConverter implements Converter<PackedPolygons, Binary> {
+        @Override
+        public Binary convert(PackedPolygons source) {
+            return new Binary(source.bytes());
+        }
+    }
+
+    @ReadingConverter
+    static class BinaryToPackedPolygonsConverter implements Converter<Binary, PackedPolygons> {
+        @Override
+        public PackedPolygons convert(Binary source) {
+            return PackedPolygons.fromBytes(source.getData());
+        }
+    }
+
+    @ReadingConverter
+    static class BytesToPackedPolygonsConverter implements Converter<byte[], PackedPolygons> {
+        @Override
+        public PackedPolygons convert(byte[] source) {
+            return PackedPolygons.fromBytes(source);
+        }
+    }
+
+    @ReadingConverter
+    @SuppressWarnings("rawtypes")
+    static class ListToPackedPolygonsConverter implements Converter<List, PackedPolygons> {
+        @Override
+        public PackedPolygons convert(List source) {
+            return fromLegacy(source);
+        }
+    }
+}
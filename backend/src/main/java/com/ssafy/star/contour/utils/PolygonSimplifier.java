@@ -0,0 +1,117 @@
+package com.ssafy.star.contour.utils;
+
+import com.ssafy.star.contour.ContourLod;
+import com.ssafy.star.contour.domain.PackedPolygons;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 닫힌 다각형 단순화 (Douglas-Peucker)
+ * - 첫 점과 거기서 가장 먼 점으로 다각형을 두 개의 선으로 나눠서 각각 단순화한다
+ * - tolerance(px)보다 가까운 점은 버리고, 단순화 결과가 3점보다 적으면 원본을 그대로 쓴다
+ * - 재귀 대신 stack을 써서 점이 많아도 StackOverflow가 나지 않는다
+ */
+public final class PolygonSimplifier {
+
+    private PolygonSimplifier() {
+    }
+
+    // 미리 계산해 두는 단계별 단순화 결과
+    public static Map<ContourLod, PackedPolygons> simplifiedLevels(List<? extends List<Integer>> polygon) {
+        Map<ContourLod, PackedPolygons> levels = new EnumMap<>(ContourLod.class);
+        if (polygon == null) return levels;
+        for (ContourLod lod : ContourLod.simplified()) {
+            levels.put(lod, PackedPolygons.ofPolygon(simplify(polygon, lod.tolerance())));
+        }
+        return levels;
+    }
+
+    public static List<List<Integer>> simplify(List<? extends List<Integer>> polygon, double tolerance) {
+        int size = polygon.size();
+        if (tolerance <= 0 || size <= 3) return copy(polygon);
+
+        int[] xs = new int[size];
+        int[] ys = new int[size];
+        for (int i = 0; i < size; i++) {
+            xs[i] = polygon.get(i).get(0);
+            ys[i] = polygon.get(i).get(1);
+        }
+
+        int farthest = 0;
+        long farthestDistance = -1;
+        for (int i = 1; i < size; i++) {
+            long dx = xs[i] - xs[0];
+            long dy = ys[i] - ys[0];
+            if (dx * dx + dy * dy > farthestDistance) {
+                farthestDistance = dx * dx + dy * dy;
+                farthest = i;
+            }
+        }
+
+        boolean[] keep = new boolean[size];
+        keep[0] = true;
+        keep[farthest] = true;
+        double toleranceSquared = tolerance * tolerance;
+        simplify(xs, ys, 0, farthest, toleranceSquared, keep);
+        // 마지막 점에서 첫 점으로 돌아오는 구간 (index size는 0번 점)
+        simplify(xs, ys, farthest, size, toleranceSquared, keep);
+
+        List<List<Integer>> simplified = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (keep[i]) simplified.add(List.of(xs[i], ys[i]));
+        }
+        return simplified.size() < 3 ? copy(polygon) : simplified;
+    }
+
+    private static void simplify(int[] xs, int[] ys, int first, int last, double toleranceSquared, boolean[] keep) {
+        int size = xs.length;
+        Deque<int[]> ranges = new ArrayDeque<>();
+        ranges.push(new int[]{first, last});
+        while (!ranges.isEmpty()) {
+            int[] range = ranges.pop();
+            int start = range[0];
+            int end = range[1];
+            int endIndex = end % size;
+
+            int farthest = -1;
+            double farthestDistance = toleranceSquared;
+            for (int i = start + 1; i < end; i++) {
+                double distance = distanceSquared(xs[i], ys[i], xs[start], ys[start], xs[endIndex], ys[endIndex]);
+                if (distance > farthestDistance) {
+                    farthestDistance = distance;
+                    farthest = i;
+                }
+            }
+            if (farthest < 0) continue;
+
+            keep[farthest] = true;
+            ranges.push(new int[]{start, farthest});
+            ranges.push(new int[]{farthest, end});
+        }
+    }
+
+    // 점 (px, py)와 선분 (ax, ay)-(bx, by) 사이 거리의 제곱
+    private static double distanceSquared(int px, int py, int ax, int ay, int bx, int by) {
+        double dx = bx - ax;
+        double dy = by - ay;
+        double lengthSquared = dx * dx + dy * dy;
+        double t = lengthSquared == 0 ? 0 : ((px - ax) * dx + (py - ay) * dy) / lengthSquared;
+        t = Math.max(0, Math.min(1, t));
+        double nearestX = ax + t * dx - px;
+        double nearestY = ay + t * dy - py;
+        return nearestX * nearestX + nearestY * nearestY;
+    }
+
+    private static List<List<Integer>> copy(List<? extends List<Integer>> polygon) {
+        List<List<Integer>> copied = new ArrayList<>(polygon.size());
+        for (List<Integer> point : polygon) {
+            copied.add(List.of(point.get(0), point.get(1)));
+        }
+        return copied;
+    }
+}
@@ -0,0 +1,5 @@
+package com.ssafy.star.image;
+
+public enum ImageStatus {
+    PENDING, READY, FAILED;
+}
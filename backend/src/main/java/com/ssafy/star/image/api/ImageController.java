@@ -0,0 +1,37 @@
+package com.ssafy.star.image.api;
+
+import com.ssafy.star.article.dto.response.Response;
+import com.ssafy.star.image.application.ImageDirectUploadService;
+import com.ssafy.star.image.dto.request.ImageUploadUrlRequest;
+import com.ssafy.star.image.dto.response.ImageUploadUrlResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+public class ImageController {
+
+    private final ImageDirectUploadService imageDirectUploadService;
+
+    @Operation(
+            summary = "이미지 직접 업로드 url 발급",
+            description = "서버를 거치지 않고 스토리지에 이미지를 올릴 수 있는 서명된 url을 발급합니다. 같은 Content-Type 헤더로 PUT 해야 합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "발급 성공", content = @Content(schema = @Schema(implementation = ImageUploadUrlResponse.class)))
+            }
+    )
+    @PostMapping("/images/upload-url")
+    public Response<ImageUploadUrlResponse> issueUploadUrl(@RequestBody ImageUploadUrlRequest request) {
+        return Response.success(ImageUploadUrlResponse.fromUploadUrl(
+                imageDirectUploadService.issueUploadUrl(request.fileName(), request.contentType())
+        ));
+    }
+}
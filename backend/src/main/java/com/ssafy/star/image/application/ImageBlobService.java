@@ -0,0 +1,131 @@
+package com.ssafy.star.image.application;
+
+import com.ssafy.star.image.dao.ImageBlobRepository;
+import com.ssafy.star.image.domain.ImageBlobEntity;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 저장된 이미지 사본의 참조 수 관리
+ * - 같은 내용의 사본이 있으면 참조만 늘려서 재사용한다
+ * - 참조를 해제해도 유예 시간(image.blob.grace-period-minutes) 동안은 남겨 두어, 곧 같은 사진이 같은 디렉터리로 다시 올라오면 재사용한다
+ *   (AI 윤곽선 추출을 같은 사진으로 다시 요청하는 경우)
+ * - 유예 시간이 지난 사본은 삭제 outbox로 넘긴다
+ * - image_blob에 없는 url(이전에 올라간 이미지)은 해제 시 바로 삭제 outbox로 넘긴다
+ * - 참조 획득과 등록은 호출한 쪽 트랜잭션과 상관없이 바로 커밋한다 (REQUIRES_NEW)
+ *   호출한 쪽이 롤백되어도 업로드한 사본의 기록이 남아야 하므로, 업로드는 트랜잭션 밖에서 하고 실패하면 release로 되돌린다
+ */
+@Slf4j
+@Service
+public class ImageBlobService {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final ImageBlobRepository imageBlobRepository;
+    private final ImageDeletionService imageDeletionService;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate requiresNewTransactionTemplate;
+
+    @Value("${image.blob.grace-period-minutes:60}")
+    private long gracePeriodMinutes;
+
+    public ImageBlobService(
+            ImageBlobRepository imageBlobRepository,
+            ImageDeletionService imageDeletionService,
+            TransactionTemplate transactionTemplate
+    ) {
+        this.imageBlobRepository = imageBlobRepository;
+        this.imageDeletionService = imageDeletionService;
+        this.transactionTemplate = transactionTemplate;
+        this.requiresNewTransactionTemplate = new TransactionTemplate(Objects.requireNonNull(transactionTemplate.getTransactionManager()));
+        this.requiresNewTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // 이미 저장된 사본을 찾아 참조를 늘리고, 찾은 사본의 url 반환
+    public Map<String, String> acquire(String contentHash, Collection<String> variants) {
+        return requiresNewTransactionTemplate.execute(status -> {
+            Map<String, String> urls = new HashMap<>();
+            for (ImageBlobEntity blob : imageBlobRepository.findByContentHashAndVariantIn(contentHash, variants)) {
+                if (imageBlobRepository.acquire(blob.getId()) == 1) {
+                    urls.put(blob.getVariant(), blob.getUrl());
+                }
+            }
+            return urls;
+        });
+    }
+
+    /**
+     * 새로 올린 사본 등록 (참조 수 1), 사용할 url 반환
+     * - 그 사이 같은 사본이 먼저 등록되었다면 그 사본을 쓰고, 방금 올린 사본은 지운다
+     */
+    public String register(String contentHash, String variant, String url) {
+        try {
+            return requiresNewTransactionTemplate.execute(status -> {
+                Optional<ImageBlobEntity> existing = imageBlobRepository.findByContentHashAndVariant(contentHash, variant);
+                if (existing.isPresent() && imageBlobRepository.acquire(existing.get().getId()) == 1) {
+                    imageDeletionService.enqueue(url);
+                    return existing.get().getUrl();
+                }
+                imageBlobRepository.saveAndFlush(ImageBlobEntity.of(contentHash, variant, url));
+                return url;
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 같은 사본이 등록된 경우, 방금 올린 사본은 참조 수 없이 사용한다 (해제 시 바로 삭제)
+            log.debug("image blob {} {} is already registered, {} is not shared", contentHash, variant, url);
+            return url;
+        }
+    }
+
+    @Transactional
+    public void release(String... urls) {
+        release(Arrays.asList(urls));
+    }
+
+    // 사본 참조 해제 (같은 url이 여러 번 있으면 그만큼 해제한다)
+    @Transactional
+    public void release(Collection<String> urls) {
+        Map<String, Long> releaseCounts = urls.stream()
+                .filter(url -> url != null && !url.isBlank())
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        if (releaseCounts.isEmpty()) return;
+
+        LocalDateTime now = LocalDateTime.now();
+        Set<String> untrackedUrls = new HashSet<>(releaseCounts.keySet());
+        for (ImageBlobEntity blob : imageBlobRepository.findByUrlIn(releaseCounts.keySet())) {
+            untrackedUrls.remove(blob.getUrl());
+            for (long i = 0; i < releaseCounts.get(blob.getUrl()); i++) {
+                imageBlobRepository.release(blob.getId(), now);
+            }
+        }
+        imageDeletionService.enqueue(untrackedUrls);
+    }
+
+    // 유예 시간이 지난 참조 없는 사본을 삭제 outbox로 넘긴다
+    @Scheduled(fixedDelayString = "${image.blob.sweep-interval-ms:60000}")
+    public void sweep() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(gracePeriodMinutes);
+        Integer swept;
+        do {
+            swept = transactionTemplate.execute(status -> {
+                List<ImageBlobEntity> blobs = imageBlobRepository.findReleasedBefore(cutoff, PageRequest.of(0, BATCH_SIZE));
+                if (blobs.isEmpty()) return 0;
+                imageDeletionService.enqueue(blobs.stream().map(ImageBlobEntity::getUrl).toList());
+                imageBlobRepository.deleteAllInBatch(blobs);
+                return blobs.size();
+            });
+            log.debug("swept {} unreferenced image blobs", swept);
+        } while (swept != null && swept == BATCH_SIZE);
+    }
+}
@@ -0,0 +1,119 @@
+package com.ssafy.star.image.application;
+
+import com.ssafy.star.common.infra.S3.S3uploader;
+import com.ssafy.star.image.dao.ImageDeletionRepository;
+import com.ssafy.star.image.domain.ImageDeletionEntity;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * S3 이미지 삭제 outbox
+ * - 업무 로직에서는 삭제할 이미지를 같은 트랜잭션 안에서 기록만 한다 (S3 호출, 실패가 요청에 영향을 주지 않도록)
+ * - 주기적으로 최대 1000개씩 모아서 multi-object delete로 지우고, 실패한 이미지는 backoff 후 다시 시도한다
+ * - 가장 오래 기다린 삭제 요청의 대기 시간을 image.deletion.outbox.lag metric으로 노출한다
+ */
+@Slf4j
+@Service
+public class ImageDeletionService {
+
+    // S3 multi-object delete 한 번에 지울 수 있는 최대 key 수
+    private static final int BATCH_SIZE = 1000;
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(30);
+    private static final Duration MAX_BACKOFF = Duration.ofHours(6);
+
+    private final ImageDeletionRepository imageDeletionRepository;
+    private final S3uploader s3uploader;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    public ImageDeletionService(
+            ImageDeletionRepository imageDeletionRepository,
+            S3uploader s3uploader,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry
+    ) {
+        this.imageDeletionRepository = imageDeletionRepository;
+        this.s3uploader = s3uploader;
+        this.transactionTemplate = transactionTemplate;
+        Gauge.builder("image.deletion.outbox.lag", lagSeconds, AtomicLong::get)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Transactional
+    public void enqueue(String... urls) {
+        enqueue(Arrays.asList(urls));
+    }
+
+    @Transactional
+    public void enqueue(Collection<String> urls) {
+        List<ImageDeletionEntity> deletions = urls.stream()
+                .filter(url -> url != null && !url.isBlank())
+                .map(ImageDeletionEntity::of)
+                .toList();
+        imageDeletionRepository.saveAll(deletions);
+    }
+
+    @Scheduled(fixedDelayString = "${image.deletion.flush-interval-ms:10000}")
+    public void flush() {
+        List<ImageDeletionEntity> deletions;
+        boolean allDeleted;
+        do {
+            deletions = imageDeletionRepository.findDue(LocalDateTime.now(), PageRequest.of(0, BATCH_SIZE));
+            if (deletions.isEmpty()) break;
+            allDeleted = delete(deletions);
+        } while (allDeleted && deletions.size() == BATCH_SIZE);
+
+        LocalDateTime oldest = imageDeletionRepository.findOldestCreatedAt();
+        lagSeconds.set(oldest == null ? 0 : Math.max(0, Duration.between(oldest, LocalDateTime.now()).toSeconds()));
+    }
+
+    // 한 번에 지우고, 지운 것은 outbox에서 제거, 실패한 것은 다음 시도 시각을 미룬다
+    private boolean delete(List<ImageDeletionEntity> deletions) {
+        Map<String, String> failedUrls;
+        try {
+            failedUrls = s3uploader.deleteImagesFromS3(deletions.stream().map(ImageDeletionEntity::getUrl).toList());
+        } catch (RuntimeException e) {
+            log.warn("Failed to delete {} images : {}", deletions.size(), e.toString());
+            failedUrls = deletions.stream()
+                    .collect(Collectors.toMap(ImageDeletionEntity::getUrl, deletion -> e.toString(), (a, b) -> a));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> deletedIds = new ArrayList<>();
+        List<ImageDeletionEntity> retries = new ArrayList<>();
+        for (ImageDeletionEntity deletion : deletions) {
+            String error = failedUrls.get(deletion.getUrl());
+            if (error == null) {
+                deletedIds.add(deletion.getId());
+            } else {
+                deletion.retryAt(now.plus(backoff(deletion.getAttempts())), error);
+                retries.add(deletion);
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            imageDeletionRepository.deleteAllByIdInBatch(deletedIds);
+            imageDeletionRepository.saveAll(retries);
+        });
+        log.debug("deleted {} images, {} will be retried", deletedIds.size(), retries.size());
+        return retries.isEmpty();
+    }
+
+    private Duration backoff(int attempts) {
+        Duration backoff = BASE_BACKOFF.multipliedBy(1L << Math.min(attempts, 16));
+        return backoff.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff;
+    }
+}
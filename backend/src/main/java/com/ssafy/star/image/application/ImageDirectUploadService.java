@@ -0,0 +1,84 @@
+package com.ssafy.star.image.application;
+
+import com.ssafy.star.common.exception.ByeolDamException;
+import com.ssafy.star.common.exception.ErrorCode;
+import com.ssafy.star.common.infra.storage.StorageBackend;
+import com.ssafy.star.common.utils.ImageUtils;
+import com.ssafy.star.image.ImageType;
+import com.ssafy.star.image.dao.ImageProcessingRepository;
+import com.ssafy.star.image.dao.ImageRepository;
+import com.ssafy.star.image.domain.ImageEntity;
+import com.ssafy.star.image.domain.ImageProcessingEntity;
+import com.ssafy.star.image.dto.ImageUploadUrl;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * 클라이언트가 서버를 거치지 않고 스토리지에 직접 올리는 이미지 업로드
+ * 1. issueUploadUrl : uploads/ 아래의 새 key와 서명된 PUT url을 발급한다
+ * 2. savePending : 올라간 원본으로 PENDING 이미지와 사본 생성 작업을 저장한다 (사본은 ImageProcessingWorker가 만든다)
+ */
+@Service
+@RequiredArgsConstructor
+public class ImageDirectUploadService {
+
+    private static final String UPLOAD_DIR = "uploads/";
+    private static final Pattern UPLOAD_KEY = Pattern.compile("^uploads/[0-9a-f\\-]{36}\\.[A-Za-z0-9]{1,5}$");
+
+    private final StorageBackend storageBackend;
+    private final ImageRepository imageRepository;
+    private final ImageProcessingRepository imageProcessingRepository;
+
+    @Value("${image.direct-upload.url-expiry-seconds:600}")
+    private long urlExpirySeconds;
+
+    public ImageUploadUrl issueUploadUrl(String fileName, String contentType) {
+        if (contentType == null || !contentType.startsWith("image/")) {
+            throw new ByeolDamException(ErrorCode.INVALID_IMAGE_UPLOAD, String.format("content type %s is not an image", contentType));
+        }
+        if (fileName == null || !fileName.contains(".")) {
+            throw new ByeolDamException(ErrorCode.INVALID_IMAGE_UPLOAD, String.format("file name %s has no extension", fileName));
+        }
+
+        String key = UPLOAD_DIR + UUID.randomUUID() + "." + ImageUtils.getExtension(fileName).toLowerCase();
+        if (!UPLOAD_KEY.matcher(key).matches()) {
+            throw new ByeolDamException(ErrorCode.INVALID_IMAGE_UPLOAD, String.format("file name %s has invalid extension", fileName));
+        }
+
+        Duration expiry = Duration.ofSeconds(urlExpirySeconds);
+        try {
+            String uploadUrl = storageBackend.presignPut(key, contentType, expiry).toString();
+            return new ImageUploadUrl(key, uploadUrl, contentType, LocalDateTime.now().plus(expiry));
+        } catch (UnsupportedOperationException e) {
+            throw new ByeolDamException(ErrorCode.INVALID_REQUEST, e.getMessage());
+        }
+    }
+
+    /**
+     * 직접 업로드한 원본으로 PENDING 이미지 저장
+     * - 발급한 형태의 key이고 실제로 올라와 있어야 하며, 한 번만 쓸 수 있다
+     *   (작업은 끝나면 지워지므로, 쓴 key는 이미지에 남겨 두고 확인한다)
+     * - 사본 생성 작업을 같은 트랜잭션에서 기록한다
+     */
+    @Transactional
+    public ImageEntity savePending(String key, ImageType imageType) {
+        if (key == null || !UPLOAD_KEY.matcher(key).matches()) {
+            throw new ByeolDamException(ErrorCode.INVALID_IMAGE_UPLOAD, String.format("image key %s is invalid", key));
+        }
+        if (imageRepository.existsBySourceKey(key) || !storageBackend.exists(key)) {
+            throw new ByeolDamException(ErrorCode.INVALID_IMAGE_UPLOAD, String.format("image %s is not uploaded", key));
+        }
+
+        String name = key.substring(UPLOAD_DIR.length());
+        ImageEntity imageEntity = imageRepository.save(ImageEntity.pending(name, key, storageBackend.url(key), imageType));
+        imageProcessingRepository.save(ImageProcessingEntity.of(imageEntity.getId(), key));
+        return imageEntity;
+    }
+}
@@ -0,0 +1,137 @@
+package com.ssafy.star.image.application;
+
+import com.ssafy.star.common.infra.image.ImagePipeline;
+import com.ssafy.star.common.infra.image.ImagePlaceholder;
+import com.ssafy.star.common.infra.storage.StorageBackend;
+import com.ssafy.star.image.dao.ImageRepository;
+import com.ssafy.star.image.domain.ImageEntity;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 미리보기 값(BlurHash, 평균 색)이 없는 기존 이미지 채우기
+ * - id 순으로 batch-size개씩 읽고, 썸네일(없으면 원본)을 저장소에서 받아 작게 디코딩해서 계산한다
+ * - batch 하나는 threads개의 스레드에서 병렬로 처리하고, 끝난 batch의 마지막 id를 Redis에 checkpoint로 남긴다
+ * - 다시 실행되면 checkpoint 다음 id부터 이어서 처리하고, 여러 서버에서 동시에 돌지 않도록 Redis lock을 잡는다
+ * - 받거나 디코딩하지 못한 이미지는 로그만 남기고 건너뛴다
+ */
+@Slf4j
+@Component
+public class ImagePlaceholderBackfill {
+
+    private static final String CHECKPOINT_KEY = "image:placeholder:backfill:checkpoint";
+    private static final String LOCK_KEY = "image:placeholder:backfill:lock";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(10);
+    private static final int SAMPLE_SIZE = 32;
+    private static final String UPDATE_SQL =
+            "UPDATE image SET blur_hash = ?, dominant_color = ? WHERE id = ? AND blur_hash IS NULL";
+
+    private final ImageRepository imageRepository;
+    private final StorageBackend storageBackend;
+    private final ImagePipeline imagePipeline;
+    private final JdbcTemplate jdbcTemplate;
+    private final RedisTemplate<String, String> jobRedisTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int threads;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public ImagePlaceholderBackfill(
+            ImageRepository imageRepository,
+            StorageBackend storageBackend,
+            ImagePipeline imagePipeline,
+            JdbcTemplate jdbcTemplate,
+            RedisTemplate<String, String> jobRedisTemplate,
+            @Value("${image.placeholder.backfill.enabled:false}") boolean enabled,
+            @Value("${image.placeholder.backfill.batch-size:200}") int batchSize,
+            @Value("${image.placeholder.backfill.threads:4}") int threads
+    ) {
+        this.imageRepository = imageRepository;
+        this.storageBackend = storageBackend;
+        this.imagePipeline = imagePipeline;
+        this.jdbcTemplate = jdbcTemplate;
+        this.jobRedisTemplate = jobRedisTemplate;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.threads = threads;
+    }
+
+    @Scheduled(
+            initialDelayString = "${image.placeholder.backfill.initial-delay-ms:60000}",
+            fixedDelayString = "${image.placeholder.backfill.interval-ms:600000}"
+    )
+    public void run() {
+        if (!enabled) return;
+        if (!Boolean.TRUE.equals(jobRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, instanceId, LOCK_TTL))) return;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "placeholder-backfill-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            long checkpoint = readCheckpoint();
+            List<ImageEntity> images;
+            do {
+                images = imageRepository.findWithoutPlaceholderAfter(checkpoint, PageRequest.of(0, batchSize));
+                if (images.isEmpty()) break;
+
+                List<Object[]> batchArgs = compute(images, executor);
+                if (!batchArgs.isEmpty()) {
+                    jdbcTemplate.batchUpdate(UPDATE_SQL, batchArgs);
+                }
+                checkpoint = images.get(images.size() - 1).getId();
+                jobRedisTemplate.opsForValue().set(CHECKPOINT_KEY, String.valueOf(checkpoint));
+                jobRedisTemplate.expire(LOCK_KEY, LOCK_TTL);
+                log.info("backfilled {}/{} image placeholders, checkpoint {}", batchArgs.size(), images.size(), checkpoint);
+            } while (images.size() == batchSize);
+        } finally {
+            executor.shutdownNow();
+            if (instanceId.equals(jobRedisTemplate.opsForValue().get(LOCK_KEY))) {
+                jobRedisTemplate.delete(LOCK_KEY);
+            }
+        }
+    }
+
+    private long readCheckpoint() {
+        String checkpoint = jobRedisTemplate.opsForValue().get(CHECKPOINT_KEY);
+        return checkpoint == null ? 0L : Long.parseLong(checkpoint);
+    }
+
+    private List<Object[]> compute(List<ImageEntity> images, ExecutorService executor) {
+        List<CompletableFuture<Object[]>> futures = images.stream()
+                .map(image -> CompletableFuture.supplyAsync(() -> compute(image), executor))
+                .toList();
+        return futures.stream().map(CompletableFuture::join).filter(Objects::nonNull).toList();
+    }
+
+    // UPDATE_SQL 인자 (blur_hash, dominant_color, id), 실패하면 null
+    private Object[] compute(ImageEntity image) {
+        String url = image.getThumbnailUrl() != null ? image.getThumbnailUrl() : image.getUrl();
+        try (InputStream inputStream = storageBackend.get(storageBackend.keyOf(url))) {
+            ImagePlaceholder placeholder = ImagePlaceholder.of(
+                    imagePipeline.decode(inputStream.readAllBytes(), url, SAMPLE_SIZE).image()
+            );
+            return new Object[]{placeholder.blurHash(), placeholder.dominantColor(), image.getId()};
+        } catch (Exception e) {
+            log.warn("Failed to compute placeholder of image {} ({}) : {}", image.getId(), url, e.toString());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.ssafy.star.image.application;
+
+import com.ssafy.star.common.exception.ByeolDamException;
+import com.ssafy.star.common.exception.ErrorCode;
+import com.ssafy.star.common.infra.image.Rendition;
+import com.ssafy.star.common.infra.storage.StorageBackend;
+import com.ssafy.star.image.dao.ImageProcessingRepository;
+import com.ssafy.star.image.dao.ImageRepository;
+import com.ssafy.star.image.domain.ImageEntity;
+import com.ssafy.star.image.domain.ImageProcessingEntity;
+import com.ssafy.star.image.dto.UploadedImage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 직접 업로드한 원본으로 사본을 만드는 worker
+ * - 처리할 차례인 작업을 가져가서(claim) lease 동안 다른 서버가 가져가지 못하게 하고, imageJobExecutor에서 병렬로 처리한다
+ * - 사본은 ImageUploadService로 만들어 올리므로 서버 업로드와 같은 사본, 중복 제거, 미리보기 값을 얻는다
+ * - 끝나면 이미지를 READY로 바꾸고, 작업을 지우고, 원본은 삭제 outbox로 넘긴다
+ * - 실패하면 backoff 후 다시 시도하고, max-attempts번 실패하면 이미지를 FAILED로 바꾼다
+ * - 처리할 여유가 없어 거절된 작업(IMAGE_PROCESSING_BUSY, 작업 executor 거절)은 실패로 세지 않고 BUSY_DELAY 후로 미룬다
+ *   (FAILED 이미지의 url은 원본을 가리키므로 원본은 지우지 않는다)
+ * - presigned PUT으로는 크기를 제한할 수 없으므로 원본 크기는 여기서 확인한다
+ */
+@Slf4j
+@Component
+public class ImageProcessingWorker {
+
+    private static final Duration LEASE = Duration.ofMinutes(5);
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(10);
+    private static final Duration BUSY_DELAY = Duration.ofSeconds(5);
+    private static final int MAX_ERROR_LENGTH = 512;
+
+    private final ImageProcessingRepository imageProcessingRepository;
+    private final ImageRepository imageRepository;
+    private final ImageUploadService imageUploadService;
+    private final ImageBlobService imageBlobService;
+    private final ImageDeletionService imageDeletionService;
+    private final StorageBackend storageBackend;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService imageJobExecutor;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final int maxBytes;
+
+    public ImageProcessingWorker(
+            ImageProcessingRepository imageProcessingRepository,
+            ImageRepository imageRepository,
+            ImageUploadService imageUploadService,
+            ImageBlobService imageBlobService,
+            ImageDeletionService imageDeletionService,
+            StorageBackend storageBackend,
+            TransactionTemplate transactionTemplate,
+            ExecutorService imageJobExecutor,
+            @Value("${image.processing.batch-size:16}") int batchSize,
+            @Value("${image.processing.max-attempts:5}") int maxAttempts,
+            @Value("${image.direct-upload.max-bytes:20971520}") int maxBytes
+    ) {
+        this.imageProcessingRepository = imageProcessingRepository;
+        this.imageRepository = imageRepository;
+        this.imageUploadService = imageUploadService;
+        this.imageBlobService = imageBlobService;
+        this.imageDeletionService = imageDeletionService;
+        this.storageBackend = storageBackend;
+        this.transactionTemplate = transactionTemplate;
+        this.imageJobExecutor = imageJobExecutor;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.maxBytes = maxBytes;
+    }
+
+    @Scheduled(fixedDelayString = "${image.processing.poll-interval-ms:1000}")
+    public void poll() {
+        LocalDateTime now = LocalDateTime.now();
+        List<ImageProcessingEntity> jobs = imageProcessingRepository.findDue(now, PageRequest.of(0, batchSize));
+        if (jobs.isEmpty()) return;
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (ImageProcessingEntity job : jobs) {
+            Integer claimed = transactionTemplate.execute(status ->
+                    imageProcessingRepository.claim(job.getId(), job.getNextAttemptAt(), now.plus(LEASE))
+            );
+            if (claimed == null || claimed == 0) continue;
+            try {
+                futures.add(CompletableFuture.runAsync(() -> process(job), imageJobExecutor));
+            } catch (RejectedExecutionException e) {
+                postpone(job);
+            }
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+    }
+
+    private void process(ImageProcessingEntity job) {
+        // claim에서 DB의 attempts를 올렸으므로 읽어 둔 값보다 1 크다
+        int attempt = job.getAttempts() + 1;
+        UploadedImage uploadedImage = null;
+        try {
+            ImageEntity imageEntity = imageRepository.findById(job.getImageId()).orElse(null);
+            if (imageEntity == null) {
+                // 사본을 만들기 전에 게시물과 이미지가 지워진 경우
+                transactionTemplate.executeWithoutResult(status -> complete(job));
+                return;
+            }
+
+            uploadedImage = imageUploadService.upload(read(job.getSourceKey()), job.getSourceKey(), imageEntity.getImageType());
+            Rendition primary = ImageUploadService.primaryRendition(imageEntity.getImageType());
+            UploadedImage result = uploadedImage;
+            transactionTemplate.executeWithoutResult(status -> {
+                ImageEntity current = imageRepository.findById(job.getImageId()).orElse(null);
+                if (current == null) {
+                    imageBlobService.release(result.allUrls());
+                } else {
+                    current.ready(result.url(primary), result.url(Rendition.THUMBNAIL), result.renditions(), result.placeholder());
+                }
+                complete(job);
+            });
+            log.debug("processed image {} from {}", job.getImageId(), job.getSourceKey());
+        } catch (Exception e) {
+            if (uploadedImage != null) {
+                imageBlobService.release(uploadedImage.allUrls());
+            }
+            if (e instanceof ByeolDamException byeolDamException && byeolDamException.getErrorCode() == ErrorCode.IMAGE_PROCESSING_BUSY) {
+                postpone(job);
+            } else {
+                retryOrFail(job, attempt, e);
+            }
+        }
+    }
+
+    // 업로드가 몰려 처리하지 못한 작업은 시도 횟수를 늘리지 않고 미룬다
+    private void postpone(ImageProcessingEntity job) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    imageProcessingRepository.postpone(job.getId(), LocalDateTime.now().plus(BUSY_DELAY))
+            );
+            log.debug("postponed image {} : image processing is busy", job.getImageId());
+        } catch (RuntimeException e) {
+            // 기록하지 못해도 lease가 끝나면 다시 가져간다
+            log.error("Failed to postpone image processing {}", job.getId(), e);
+        }
+    }
+
+    private byte[] read(String key) throws IOException {
+        try (InputStream inputStream = storageBackend.get(key)) {
+            byte[] bytes = inputStream.readNBytes(maxBytes + 1);
+            if (bytes.length > maxBytes) {
+                throw new IOException(String.format("image %s is larger than %d bytes", key, maxBytes));
+            }
+            return bytes;
+        }
+    }
+
+    // 작업을 지우고 원본은 삭제 outbox로 넘긴다 (트랜잭션 안에서 호출)
+    private void complete(ImageProcessingEntity job) {
+        imageProcessingRepository.deleteById(job.getId());
+        imageDeletionService.enqueue(storageBackend.url(job.getSourceKey()));
+    }
+
+    private void retryOrFail(ImageProcessingEntity job, int attempt, Exception e) {
+        String error = e.toString().length() > MAX_ERROR_LENGTH ? e.toString().substring(0, MAX_ERROR_LENGTH) : e.toString();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (attempt >= maxAttempts) {
+                    imageRepository.findById(job.getImageId()).ifPresentOrElse(imageEntity -> {
+                        imageEntity.fail();
+                        imageProcessingRepository.deleteById(job.getId());
+                    }, () -> complete(job));
+                } else {
+                    Duration backoff = BASE_BACKOFF.multipliedBy(1L << Math.min(attempt - 1, 10));
+                    imageProcessingRepository.retryAt(job.getId(), LocalDateTime.now().plus(backoff), error);
+                }
+            });
+        } catch (RuntimeException retryException) {
+            // 기록하지 못해도 lease가 끝나면 다시 가져간다
+            log.error("Failed to record image processing failure {}", job.getId(), retryException);
+        }
+        log.warn("Failed to process image {} ({}/{}) : {}", job.getImageId(), attempt, maxAttempts, error);
+    }
+}
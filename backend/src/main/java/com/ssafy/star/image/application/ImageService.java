@@ -2,13 +2,17 @@ package com.ssafy.star.image.application;
 
 import com.ssafy.star.common.exception.ByeolDamException;
 import com.ssafy.star.common.exception.ErrorCode;
+import com.ssafy.star.common.infra.image.Rendition;
 import com.ssafy.star.image.ImageType;
 import com.ssafy.star.image.dao.ImageRepository;
 import com.ssafy.star.image.domain.ImageEntity;
+import com.ssafy.star.image.dto.UploadedImage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class ImageService {
@@ -20,9 +24,35 @@ public class ImageService {
         return imageRepository.save(ImageEntity.of(name, url, thumbnailUrl, imageType));
     }
 
+    @Transactional
+    public ImageEntity saveImage(String name, UploadedImage uploadedImage, ImageType imageType) {
+        ImageEntity imageEntity = ImageEntity.of(
+                name,
+                uploadedImage.url(Rendition.MAIN),
+                uploadedImage.url(Rendition.THUMBNAIL),
+                uploadedImage.renditions(),
+                imageType
+        );
+        imageEntity.setPlaceholder(uploadedImage.placeholder());
+        return imageRepository.save(imageEntity);
+    }
+
+    @Transactional
+    public ImageEntity getImage(Long id) {
+        return imageRepository.findById(id).orElseThrow(() -> new ByeolDamException(ErrorCode.IMAGE_NOT_FOUND, String.format("image %d not founded", id)));
+    }
+
+    // url을 쓰는 이미지가 하나뿐일 때만 반환한다 (같은 사본을 여러 이미지가 쓰면 어느 행인지 알 수 없으므로 실패)
     @Transactional
     public ImageEntity getImageUrl(String url) {
-        return imageRepository.findByUrl(url).orElseThrow(() -> new ByeolDamException(ErrorCode.IMAGE_NOT_FOUND, String.format("%s not founded", url)));
+        List<ImageEntity> imageEntities = imageRepository.findAllByUrl(url);
+        if (imageEntities.isEmpty()) {
+            throw new ByeolDamException(ErrorCode.IMAGE_NOT_FOUND, String.format("%s not founded", url));
+        }
+        if (imageEntities.size() > 1) {
+            throw new ByeolDamException(ErrorCode.AMBIGUOUS_IMAGE, String.format("%s is shared by %d images", url, imageEntities.size()));
+        }
+        return imageEntities.get(0);
     }
 
 }
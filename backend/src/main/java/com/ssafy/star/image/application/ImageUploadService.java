@@ -0,0 +1,208 @@
+package com.ssafy.star.image.application;
+
+import com.ssafy.star.common.infra.S3.S3uploader;
+import com.ssafy.star.common.infra.image.ImagePipeline;
+import com.ssafy.star.common.infra.image.ImagePlaceholder;
+import com.ssafy.star.common.infra.image.RenderedImages;
+import com.ssafy.star.common.infra.image.Rendition;
+import com.ssafy.star.common.utils.ImageUtils;
+import com.ssafy.star.image.ImageType;
+import com.ssafy.star.image.dao.ImageRepository;
+import com.ssafy.star.image.dto.ImageRendition;
+import com.ssafy.star.image.dto.UploadedImage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * 업로드 이미지 저장 (내용 기준 중복 제거)
+ * - 업로드 bytes의 hash로 이미 저장된 사본을 찾고, 있으면 디코딩, 인코딩, 업로드 없이 그 사본을 재사용한다
+ * - 없는 사본만 ImagePipeline으로 만들어 올리고 image_blob에 등록한다 (반응형 사본도 너비별로 재사용한다)
+ * - 사본은 저장 디렉터리별로 따로 관리한다 (임시, 별자리용으로 올린 사본을 다른 용도의 url로 재사용하지 않는다)
+ * - 반환한 url은 참조 하나를 가지고 있으므로, 더 이상 쓰지 않으면 ImageBlobService.release로 해제해야 한다
+ */
+@Service
+@RequiredArgsConstructor
+public class ImageUploadService {
+
+    private final ImagePipeline imagePipeline;
+    private final S3uploader s3uploader;
+    private final ImageBlobService imageBlobService;
+    private final ImageDeletionService imageDeletionService;
+    private final ImageRepository imageRepository;
+
+    // 이미지 종류별로 만드는 사본과 저장 디렉터리
+    public UploadedImage upload(MultipartFile multipartFile, ImageType imageType) throws IOException {
+        return upload(multipartFile.getBytes(), multipartFile.getOriginalFilename(), imageType);
+    }
+
+    public UploadedImage upload(byte[] bytes, String fileName, ImageType imageType) throws IOException {
+        return switch (imageType) {
+            case ARTICLE -> upload(bytes, fileName, Map.of(
+                    Rendition.MAIN, "articles",
+                    Rendition.THUMBNAIL, "thumbnails"
+            ), "articles/responsive");
+            case PROFILE -> upload(bytes, fileName, Map.of(Rendition.PROFILE, "profiles"), null);
+            case CONSTELLATION -> upload(bytes, fileName, Map.of(Rendition.MAIN, "constellation/origin"), null);
+        };
+    }
+
+    // 이미지 종류별 대표 사본 (ImageEntity.url)
+    public static Rendition primaryRendition(ImageType imageType) {
+        return imageType == ImageType.PROFILE ? Rendition.PROFILE : Rendition.MAIN;
+    }
+
+    public String upload(MultipartFile multipartFile, Rendition rendition, String dirName) throws IOException {
+        return upload(multipartFile, Map.of(rendition, dirName)).get(rendition);
+    }
+
+    // 한 사진으로 여러 사본을 만들어 사본별 디렉터리에 저장
+    public Map<Rendition, String> upload(MultipartFile multipartFile, Map<Rendition, String> dirNames) throws IOException {
+        return upload(multipartFile, dirNames, null).urls();
+    }
+
+    /**
+     * 고정 크기 사본과 함께 반응형 사본(ImagePipeline.ladderWidths)을 ladderDirName에 저장
+     * - ladderDirName이 null이면 반응형 사본은 만들지 않는다
+     * - 이미 저장된 사본은 재사용하고, 없는 사본만 한 번의 디코딩으로 만든다
+     */
+    public UploadedImage upload(MultipartFile multipartFile, Map<Rendition, String> dirNames, String ladderDirName) throws IOException {
+        return upload(multipartFile.getBytes(), multipartFile.getOriginalFilename(), dirNames, ladderDirName);
+    }
+
+    // 이미 읽어 둔 원본 bytes로 저장 (직접 업로드한 원본을 저장소에서 받아 처리할 때)
+    public UploadedImage upload(byte[] bytes, String fileName, Map<Rendition, String> dirNames, String ladderDirName) throws IOException {
+        String contentHash = contentHash(bytes, fileName);
+        List<Integer> widths = ladderDirName == null ? List.of() : imagePipeline.ladderWidths(bytes);
+
+        Map<Rendition, String> renditionVariants = new EnumMap<>(Rendition.class);
+        dirNames.forEach((rendition, dirName) -> renditionVariants.put(rendition, variant(rendition, dirName)));
+        Map<Integer, String> widthVariants = new HashMap<>();
+        widths.forEach(width -> widthVariants.put(width, variant(width, ladderDirName)));
+
+        List<String> variants = new ArrayList<>(renditionVariants.values());
+        variants.addAll(widthVariants.values());
+
+        Map<String, String> urls = imageBlobService.acquire(contentHash, variants);
+        Rendition[] missingRenditions = dirNames.keySet().stream()
+                .filter(rendition -> !urls.containsKey(renditionVariants.get(rendition)))
+                .toArray(Rendition[]::new);
+        List<Integer> missingWidths = widths.stream()
+                .filter(width -> !urls.containsKey(widthVariants.get(width)))
+                .toList();
+
+        ImagePlaceholder placeholder = null;
+        if (missingRenditions.length > 0 || !missingWidths.isEmpty()) {
+            try (RenderedImages renderedImages = imagePipeline.process(bytes, fileName, missingWidths, missingRenditions)) {
+                placeholder = renderedImages.placeholder();
+                for (Rendition rendition : missingRenditions) {
+                    String url = s3uploader.upload(renderedImages.renditions().remove(rendition), dirNames.get(rendition));
+                    urls.put(renditionVariants.get(rendition), register(contentHash, renditionVariants.get(rendition), url));
+                }
+                for (Integer width : missingWidths) {
+                    String url = s3uploader.upload(renderedImages.widths().remove(width), ladderDirName);
+                    urls.put(widthVariants.get(width), register(contentHash, widthVariants.get(width), url));
+                }
+            } catch (IOException | RuntimeException e) {
+                imageBlobService.release(urls.values());
+                throw e;
+            }
+        }
+
+        Map<Rendition, String> renditionUrls = new EnumMap<>(Rendition.class);
+        dirNames.keySet().forEach(rendition -> renditionUrls.put(rendition, urls.get(renditionVariants.get(rendition))));
+        return new UploadedImage(
+                renditionUrls,
+                widths.stream().map(width -> new ImageRendition(width, urls.get(widthVariants.get(width)))).toList(),
+                placeholder != null ? placeholder : findPlaceholder(renditionUrls.values())
+        );
+    }
+
+    /**
+     * 여러 사진을 원본 크기(MAIN)로 동시에 저장하고, 요청 순서대로 url 반환
+     * - 이미 저장된 사진은 재사용하고, 나머지만 S3uploader.uploadAll로 한꺼번에 올린다
+     */
+    public List<String> uploadAll(List<MultipartFile> multipartFiles, List<String> dirNames) throws IOException {
+        String[] contentHashes = new String[multipartFiles.size()];
+        String[] urls = new String[multipartFiles.size()];
+        List<Integer> missing = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < multipartFiles.size(); i++) {
+                MultipartFile multipartFile = multipartFiles.get(i);
+                contentHashes[i] = contentHash(multipartFile.getBytes(), multipartFile.getOriginalFilename());
+                String variant = variant(Rendition.MAIN, dirNames.get(i));
+                urls[i] = imageBlobService.acquire(contentHashes[i], List.of(variant)).get(variant);
+                if (urls[i] == null) missing.add(i);
+            }
+            if (missing.isEmpty()) return Arrays.asList(urls);
+
+            List<String> uploadedUrls = s3uploader.uploadAll(
+                    missing.stream().map(multipartFiles::get).toList(),
+                    missing.stream().map(dirNames::get).toList()
+            );
+            for (int j = 0; j < missing.size(); j++) {
+                int i = missing.get(j);
+                try {
+                    urls[i] = imageBlobService.register(contentHashes[i], variant(Rendition.MAIN, dirNames.get(i)), uploadedUrls.get(j));
+                } catch (RuntimeException e) {
+                    imageDeletionService.enqueue(uploadedUrls.subList(j, uploadedUrls.size()));
+                    throw e;
+                }
+            }
+            return Arrays.asList(urls);
+        } catch (IOException | RuntimeException e) {
+            imageBlobService.release(Arrays.stream(urls).filter(Objects::nonNull).toList());
+            throw e;
+        }
+    }
+
+    // 모든 사본을 재사용해서 디코딩하지 않은 경우, 같은 사본을 쓰는 기존 이미지의 미리보기 값을 쓴다
+    private ImagePlaceholder findPlaceholder(Collection<String> urls) {
+        return urls.stream()
+                .map(imageRepository::findFirstByUrl)
+                .flatMap(Optional::stream)
+                .filter(imageEntity -> imageEntity.getBlurHash() != null)
+                .findFirst()
+                .map(imageEntity -> new ImagePlaceholder(imageEntity.getBlurHash(), imageEntity.getDominantColor()))
+                .orElse(null);
+    }
+
+    private String register(String contentHash, String variant, String url) {
+        try {
+            return imageBlobService.register(contentHash, variant, url);
+        } catch (RuntimeException e) {
+            imageDeletionService.enqueue(url);
+            throw e;
+        }
+    }
+
+    // image_blob에서 사본을 구분하는 이름 (저장 디렉터리 + 고정 크기 사본은 Rendition 이름, 반응형 사본은 W + 너비)
+    // 같은 사진이라도 디렉터리가 다르면 다른 사본이다 (임시 디렉터리 사본은 정리 대상이므로 영구 이미지로 쓰지 않는다)
+    static String variant(Rendition rendition, String dirName) {
+        return dirName + ":" + rendition.name();
+    }
+
+    static String variant(int width, String dirName) {
+        return dirName + ":W" + width;
+    }
+
+    // 같은 bytes라도 확장자에 따라 인코딩 결과가 달라지므로 확장자도 함께 hash 한다
+    static String contentHash(byte[] bytes, String fileName) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(ImageUtils.getExtension(fileName).toLowerCase().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(bytes);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.ssafy.star.image.dao;
+
+import com.ssafy.star.image.domain.ImageBlobEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ImageBlobRepository extends JpaRepository<ImageBlobEntity, Long> {
+
+    List<ImageBlobEntity> findByContentHashAndVariantIn(String contentHash, Collection<String> variants);
+
+    Optional<ImageBlobEntity> findByContentHashAndVariant(String contentHash, String variant);
+
+    List<ImageBlobEntity> findByUrlIn(Collection<String> urls);
+
+    // 참조 추가 (유예 중인 사본도 다시 살린다), 이미 정리된 사본이면 0 반환
+    @Modifying
+    @Query("UPDATE ImageBlobEntity b SET b.refCount = b.refCount + 1, b.releasedAt = NULL WHERE b.id = :id")
+    int acquire(@Param("id") Long id);
+
+    // 참조 해제, 마지막 참조였다면 해제 시각을 기록한다 (MariaDB는 SET을 왼쪽부터 적용하므로 releasedAt을 먼저 계산)
+    @Modifying
+    @Query("UPDATE ImageBlobEntity b SET b.releasedAt = CASE WHEN b.refCount = 1 THEN :now ELSE b.releasedAt END, " +
+            "b.refCount = b.refCount - 1 " +
+            "WHERE b.id = :id AND b.refCount > 0")
+    int release(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // 유예 시간이 지난 참조 없는 사본 (정리하는 동안 다시 참조되지 않도록 잠근다)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM ImageBlobEntity b WHERE b.refCount = 0 AND b.releasedAt < :cutoff ORDER BY b.releasedAt, b.id")
+    List<ImageBlobEntity> findReleasedBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+}
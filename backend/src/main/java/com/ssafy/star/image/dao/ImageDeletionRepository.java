@@ -0,0 +1,23 @@
+package com.ssafy.star.image.dao;
+
+import com.ssafy.star.image.domain.ImageDeletionEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ImageDeletionRepository extends JpaRepository<ImageDeletionEntity, Long> {
+
+    // 지금 삭제를 시도할 차례인 이미지
+    @Query("SELECT d FROM ImageDeletionEntity d WHERE d.nextAttemptAt <= :now ORDER BY d.nextAttemptAt, d.id")
+    List<ImageDeletionEntity> findDue(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 가장 오래 기다린 삭제 요청 시각 (outbox 지연 metric)
+    @Query("SELECT MIN(d.createdAt) FROM ImageDeletionEntity d")
+    LocalDateTime findOldestCreatedAt();
+}
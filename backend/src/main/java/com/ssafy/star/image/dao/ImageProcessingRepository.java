@@ -0,0 +1,39 @@
+package com.ssafy.star.image.dao;
+
+import com.ssafy.star.image.domain.ImageProcessingEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ImageProcessingRepository extends JpaRepository<ImageProcessingEntity, Long> {
+
+    // 지금 처리할 차례인 작업
+    @Query("SELECT p FROM ImageProcessingEntity p WHERE p.nextAttemptAt <= :now ORDER BY p.nextAttemptAt, p.id")
+    List<ImageProcessingEntity> findDue(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 작업 가져가기 : 읽은 뒤 다른 서버가 먼저 가져가지 않았을 때만 leaseUntil까지 다음 시도를 미룬다
+     * - 처리 중 서버가 죽으면 leaseUntil 이후 다른 서버가 다시 가져간다
+     */
+    @Modifying
+    @Query("UPDATE ImageProcessingEntity p SET p.nextAttemptAt = :leaseUntil, p.attempts = p.attempts + 1 " +
+            "WHERE p.id = :id AND p.nextAttemptAt = :nextAttemptAt")
+    int claim(@Param("id") Long id, @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 처리하지 못하고 미룰 때 (이미지 처리가 밀려 거절된 경우), claim에서 올린 시도 횟수를 되돌린다
+    @Modifying
+    @Query("UPDATE ImageProcessingEntity p SET p.nextAttemptAt = :nextAttemptAt, p.attempts = p.attempts - 1 WHERE p.id = :id")
+    int postpone(@Param("id") Long id, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    // 처리 실패 시 다음 시도 시각 기록
+    @Modifying
+    @Query("UPDATE ImageProcessingEntity p SET p.nextAttemptAt = :nextAttemptAt, p.lastError = :error WHERE p.id = :id")
+    int retryAt(@Param("id") Long id, @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("error") String error);
+}
@@ -1,14 +1,28 @@
 package com.ssafy.star.image.dao;
 
 import com.ssafy.star.image.domain.ImageEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ImageRepository extends JpaRepository<ImageEntity, Long> {
 
-    Optional<ImageEntity> findByUrl(String url);
+    // 같은 사진을 여러 곳에서 올리면 사본(url)을 함께 쓰므로 여러 행이 있을 수 있다
+    Optional<ImageEntity> findFirstByUrl(String url);
+
+    List<ImageEntity> findAllByUrl(String url);
+
+    // 직접 업로드한 원본 key를 이미 쓴 이미지가 있는지
+    boolean existsBySourceKey(String sourceKey);
+
+    // 미리보기 값이 없는 이미지 (id 순), PENDING, FAILED 이미지의 url은 크기 제한이 없는 직접 업로드 원본이므로 제외한다
+    @Query("SELECT i FROM ImageEntity i WHERE i.id > :afterId AND i.blurHash IS NULL AND i.status = 'READY' ORDER BY i.id")
+    List<ImageEntity> findWithoutPlaceholderAfter(@Param("afterId") long afterId, Pageable pageable);
 
 }
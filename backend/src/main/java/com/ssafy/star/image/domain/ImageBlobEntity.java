@@ -0,0 +1,70 @@
+package com.ssafy.star.image.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 업로드 원본 내용(hash)과 사본 종류(variant)별로 저장소에 올라간 이미지 하나
+ * - variant는 저장 디렉터리 + 고정 사본이면 Rendition 이름(articles:MAIN, ...), 반응형 사본이면 W + 너비(articles/responsive:W480, ...)
+ * - 같은 사진을 다시 올리면 저장된 사본을 재사용하고 참조 수만 늘린다
+ * - 참조 수가 0이 되어도 바로 지우지 않고, 유예 시간이 지나면 ImageBlobService가 삭제 outbox로 넘긴다
+ */
+@Entity
+@Table(name = "image_blob",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_image_blob_hash_variant", columnNames = {"content_hash", "variant"})
+        },
+        indexes = {
+                @Index(name = "idx_image_blob_url", columnList = "url"),
+                @Index(name = "idx_image_blob_released", columnList = "ref_count, released_at")
+        })
+@Getter
+@ToString
+public class ImageBlobEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 확장자와 업로드 bytes의 SHA-256 (hex)
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(name = "variant", nullable = false, length = 32)
+    private String variant;
+
+    @Column(name = "url", nullable = false, length = 512)
+    private String url;
+
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+
+    // 참조 수가 0이 된 시각
+    @Column(name = "released_at")
+    private LocalDateTime releasedAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    protected ImageBlobEntity() {
+    }
+
+    private ImageBlobEntity(String contentHash, String variant, String url) {
+        this.contentHash = contentHash;
+        this.variant = variant;
+        this.url = url;
+        this.refCount = 1;
+    }
+
+    public static ImageBlobEntity of(String contentHash, String variant, String url) {
+        return new ImageBlobEntity(contentHash, variant, url);
+    }
+
+    @PrePersist
+    void createdAt() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
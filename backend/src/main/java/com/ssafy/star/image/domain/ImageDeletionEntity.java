@@ -0,0 +1,63 @@
+package com.ssafy.star.image.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * S3 이미지 삭제 outbox
+ * - 업무 트랜잭션 안에서 삭제할 이미지를 기록하고, ImageDeletionService가 나중에 모아서 지운다
+ */
+@Entity
+@Table(name = "image_deletion", indexes = {
+        @Index(name = "idx_image_deletion_next_attempt", columnList = "next_attempt_at")
+})
+@Getter
+@ToString
+public class ImageDeletionEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "url", nullable = false, length = 512)
+    private String url;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 512)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    protected ImageDeletionEntity() {
+    }
+
+    private ImageDeletionEntity(String url) {
+        this.url = url;
+    }
+
+    public static ImageDeletionEntity of(String url) {
+        return new ImageDeletionEntity(url);
+    }
+
+    @PrePersist
+    void createdAt() {
+        this.createdAt = LocalDateTime.now();
+        this.nextAttemptAt = this.createdAt;
+    }
+
+    // 삭제 실패 시 다음 시도 시각 기록
+    public void retryAt(LocalDateTime nextAttemptAt, String error) {
+        this.attempts++;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = error == null || error.length() <= 512 ? error : error.substring(0, 512);
+    }
+}
@@ -1,15 +1,23 @@
 package com.ssafy.star.image.domain;
 
+import com.ssafy.star.common.infra.image.ImagePlaceholder;
+import com.ssafy.star.image.ImageStatus;
 import com.ssafy.star.image.ImageType;
 import com.ssafy.star.image.dto.Image;
+import com.ssafy.star.image.dto.ImageRendition;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.util.List;
 
 @Entity
-@Table(name = "\"image\"")
+@Table(name = "\"image\"", indexes = {
+        @Index(name = "idx_image_url", columnList = "url")
+})
 @Getter
 @ToString
 public class ImageEntity {
@@ -32,24 +40,53 @@ public class ImageEntity {
     @Column(length = 512)
     private String thumbnailUrl;
 
+    // 반응형 사본 (너비 오름차순)
+    @Setter
+    @Convert(converter = ImageRenditionsConverter.class)
+    @Column(columnDefinition = "TEXT")
+    private List<ImageRendition> renditions = List.of();
+
+    // 미리보기 값 (BlurHash, 평균 색 #rrggbb)
+    @Column(length = 64)
+    private String blurHash;
+
+    @Column(length = 7)
+    private String dominantColor;
+
     @Setter
     @NotNull
     @Column(nullable = false, length = 255)
     @Enumerated(EnumType.STRING)
     private ImageType imageType;
 
+    // 직접 업로드한 원본의 저장소 key (한 key는 이미지 하나에만 쓸 수 있다, 작업이 끝나도 남겨 둔다)
+    @Column(name = "source_key", unique = true, length = 512)
+    private String sourceKey;
+
+    // 직접 업로드한 이미지는 사본을 만들기 전까지 PENDING
+    @NotNull
+    @Column(nullable = false, length = 16)
+    @ColumnDefault("'READY'")
+    @Enumerated(EnumType.STRING)
+    private ImageStatus status = ImageStatus.READY;
+
     protected ImageEntity() {
     }
 
-    private ImageEntity(String name, String url, String thumbnailUrl, ImageType imageType) {
+    private ImageEntity(String name, String url, String thumbnailUrl, List<ImageRendition> renditions, ImageType imageType) {
         this.name = name;
         this.url = url;
         this.thumbnailUrl = thumbnailUrl;
+        this.renditions = renditions == null ? List.of() : renditions;
         this.imageType = imageType;
     }
 
+    public static ImageEntity of(String name, String url, String thumbnailUrl, List<ImageRendition> renditions, ImageType imageType) {
+        return new ImageEntity(name, url, thumbnailUrl, renditions, imageType);
+    }
+
     public static ImageEntity of(String name, String url, String thumbnailUrl, ImageType imageType) {
-        return new ImageEntity(name, url, thumbnailUrl, imageType);
+        return of(name, url, thumbnailUrl, List.of(), imageType);
     }
 
     public static ImageEntity of(String name, String url, ImageType imageType) {
@@ -57,12 +94,44 @@ public class ImageEntity {
     }
 
     public static ImageEntity fromDto(Image dto) {
-        return of(
+        ImageEntity imageEntity = of(
                 dto.name(),
                 dto.url(),
                 dto.thumbnailUrl(),
+                dto.renditions(),
                 dto.imageType()
         );
+        imageEntity.blurHash = dto.blurHash();
+        imageEntity.dominantColor = dto.dominantColor();
+        if (dto.status() != null) imageEntity.status = dto.status();
+        return imageEntity;
+    }
+
+    // 직접 업로드한 원본으로 사본을 만들기 전의 이미지 (url은 아직 원본 주소)
+    public static ImageEntity pending(String name, String sourceKey, String sourceUrl, ImageType imageType) {
+        ImageEntity imageEntity = of(name, sourceUrl, imageType);
+        imageEntity.sourceKey = sourceKey;
+        imageEntity.status = ImageStatus.PENDING;
+        return imageEntity;
+    }
+
+    // 사본 생성 완료
+    public void ready(String url, String thumbnailUrl, List<ImageRendition> renditions, ImagePlaceholder placeholder) {
+        this.url = url;
+        this.thumbnailUrl = thumbnailUrl;
+        this.renditions = renditions == null ? List.of() : renditions;
+        setPlaceholder(placeholder);
+        this.status = ImageStatus.READY;
+    }
+
+    // 사본 생성 실패 (url은 원본 주소 그대로 두고, 응답에서는 Image.of가 숨긴다)
+    public void fail() {
+        this.status = ImageStatus.FAILED;
+    }
+
+    public void setPlaceholder(ImagePlaceholder placeholder) {
+        this.blurHash = placeholder == null ? null : placeholder.blurHash();
+        this.dominantColor = placeholder == null ? null : placeholder.dominantColor();
     }
 
 }
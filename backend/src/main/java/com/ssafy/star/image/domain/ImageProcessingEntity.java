@@ -0,0 +1,61 @@
+package com.ssafy.star.image.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 직접 업로드한 원본으로 사본을 만드는 작업
+ * - 이미지를 PENDING으로 저장할 때 같은 트랜잭션에서 기록하고, ImageProcessingWorker가 가져가서 처리한다
+ */
+@Entity
+@Table(name = "image_processing", indexes = {
+        @Index(name = "idx_image_processing_next_attempt", columnList = "next_attempt_at")
+})
+@Getter
+@ToString
+public class ImageProcessingEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "image_id", nullable = false, unique = true)
+    private Long imageId;
+
+    // 클라이언트가 올린 원본의 저장소 key
+    @Column(name = "source_key", nullable = false, unique = true, length = 512)
+    private String sourceKey;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 512)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    protected ImageProcessingEntity() {
+    }
+
+    private ImageProcessingEntity(Long imageId, String sourceKey) {
+        this.imageId = imageId;
+        this.sourceKey = sourceKey;
+    }
+
+    public static ImageProcessingEntity of(Long imageId, String sourceKey) {
+        return new ImageProcessingEntity(imageId, sourceKey);
+    }
+
+    @PrePersist
+    void createdAt() {
+        this.createdAt = LocalDateTime.now();
+        this.nextAttemptAt = this.createdAt;
+    }
+}
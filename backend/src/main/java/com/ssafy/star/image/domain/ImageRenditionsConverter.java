@@ -0,0 +1,42 @@
+package com.ssafy.star.image.domain;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.star.image.dto.ImageRendition;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.List;
+
+/**
+ * 반응형 사본 목록을 JSON 문자열 한 컬럼으로 저장
+ * - [{"width":200,"url":"..."}, ...]
+ */
+@Converter
+public class ImageRenditionsConverter implements AttributeConverter<List<ImageRendition>, String> {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<List<ImageRendition>> TYPE = new TypeReference<>() {
+    };
+
+    @Override
+    public String convertToDatabaseColumn(List<ImageRendition> renditions) {
+        if (renditions == null || renditions.isEmpty()) return null;
+        try {
+            return OBJECT_MAPPER.writeValueAsString(renditions);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize image renditions", e);
+        }
+    }
+
+    @Override
+    public List<ImageRendition> convertToEntityAttribute(String column) {
+        if (column == null || column.isBlank()) return List.of();
+        try {
+            return OBJECT_MAPPER.readValue(column, TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot deserialize image renditions", e);
+        }
+    }
+}
@@ -1,35 +1,63 @@
 package com.ssafy.star.image.dto;
 
+import com.ssafy.star.image.ImageStatus;
 import com.ssafy.star.image.ImageType;
 import com.ssafy.star.image.domain.ImageEntity;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import java.util.List;
+
 public record Image(
         Long id,
         String name,
         String url,
         String thumbnailUrl,
-        ImageType imageType
+        List<ImageRendition> renditions,
+        String blurHash,
+        String dominantColor,
+        ImageType imageType,
+        ImageStatus status
 ) {
+    /**
+     * 응답용 이미지
+     * - 사본이 준비되지 않은(PENDING, FAILED) 이미지는 url 없이 내려주고, 클라이언트는 미리보기 값이나 기본 이미지를 보여준다
+     *   (이때 url은 공개되지 않는 직접 업로드 원본 주소이다)
+     */
+    public static Image of(
+            Long id,
+            String name,
+            String url,
+            String thumbnailUrl,
+            List<ImageRendition> renditions,
+            String blurHash,
+            String dominantColor,
+            ImageType imageType,
+            ImageStatus status
+    ) {
+        if (status == null || status == ImageStatus.READY) {
+            return new Image(id, name, url, thumbnailUrl, renditions, blurHash, dominantColor, imageType, status);
+        }
+        return new Image(id, name, null, null, List.of(), blurHash, dominantColor, imageType, status);
+    }
+
     public static Image fromEntity(ImageEntity imageEntity){
         if (imageEntity == null) return null;
-        return new Image(
+        return of(
                 imageEntity.getId(),
                 imageEntity.getName(),
                 imageEntity.getUrl(),
                 imageEntity.getThumbnailUrl(),
-                imageEntity.getImageType()
+                imageEntity.getRenditions(),
+                imageEntity.getBlurHash(),
+                imageEntity.getDominantColor(),
+                imageEntity.getImageType(),
+                imageEntity.getStatus()
         );
     }
 
     public ImageEntity toEntity(){
-        return ImageEntity.of(
-                this.name,
-                this.url,
-                this.thumbnailUrl,
-                this.imageType
-        );
+        return ImageEntity.fromDto(this);
     }
 
 }
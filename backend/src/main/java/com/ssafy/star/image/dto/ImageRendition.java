@@ -0,0 +1,10 @@
+package com.ssafy.star.image.dto;
+
+/**
+ * 반응형 사본 하나 (srcset의 "url width w")
+ */
+public record ImageRendition(
+        int width,
+        String url
+) {
+}
@@ -0,0 +1,14 @@
+package com.ssafy.star.image.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 직접 업로드용 서명된 url
+ * - 클라이언트는 uploadUrl로 contentType 헤더를 붙여 PUT 한 뒤, key로 게시물을 등록한다
+ */
+public record ImageUploadUrl(
+        String key,
+        String uploadUrl,
+        String contentType,
+        LocalDateTime expiresAt
+) {}
@@ -0,0 +1,30 @@
+package com.ssafy.star.image.dto;
+
+import com.ssafy.star.common.infra.image.ImagePlaceholder;
+import com.ssafy.star.common.infra.image.Rendition;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 저장한 업로드 이미지의 사본 url
+ * - urls : 고정 크기 사본
+ * - renditions : 반응형 사본 (너비 오름차순)
+ * - placeholder : 미리보기 값 (모든 사본을 재사용해서 디코딩하지 않았고, 기존 이미지에도 없으면 null)
+ */
+public record UploadedImage(
+        Map<Rendition, String> urls,
+        List<ImageRendition> renditions,
+        ImagePlaceholder placeholder
+) {
+
+    public String url(Rendition rendition) {
+        return urls.get(rendition);
+    }
+
+    // 참조를 해제할 때 쓰는 모든 사본 url
+    public List<String> allUrls() {
+        return Stream.concat(urls.values().stream(), renditions.stream().map(ImageRendition::url)).toList();
+    }
+}
@@ -0,0 +1,6 @@
+package com.ssafy.star.image.dto.request;
+
+public record ImageUploadUrlRequest(
+        String fileName,
+        String contentType
+) {}
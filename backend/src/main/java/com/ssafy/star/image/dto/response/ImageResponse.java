@@ -1,20 +1,32 @@
 package com.ssafy.star.image.dto.response;
 
+import com.ssafy.star.image.ImageStatus;
 import com.ssafy.star.image.ImageType;
 import com.ssafy.star.image.dto.Image;
+import com.ssafy.star.image.dto.ImageRendition;
+
+import java.util.List;
 
 public record ImageResponse (
         String imageName,
         String imageUrl,
         String thumbnailUrl,
-        ImageType imageType
+        List<ImageRendition> renditions,
+        String blurHash,
+        String dominantColor,
+        ImageType imageType,
+        ImageStatus status
 ){
     public static ImageResponse fromImage(Image image) {
         return new ImageResponse(
                 image.name(),
                 image.url(),
                 image.thumbnailUrl(),
-                image.imageType()
+                image.renditions(),
+                image.blurHash(),
+                image.dominantColor(),
+                image.imageType(),
+                image.status()
         );
     }
 }
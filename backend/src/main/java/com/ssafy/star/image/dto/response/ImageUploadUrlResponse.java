@@ -0,0 +1,21 @@
+package com.ssafy.star.image.dto.response;
+
+import com.ssafy.star.image.dto.ImageUploadUrl;
+
+import java.time.LocalDateTime;
+
+public record ImageUploadUrlResponse(
+        String key,
+        String uploadUrl,
+        String contentType,
+        LocalDateTime expiresAt
+) {
+    public static ImageUploadUrlResponse fromUploadUrl(ImageUploadUrl uploadUrl) {
+        return new ImageUploadUrlResponse(
+                uploadUrl.key(),
+                uploadUrl.uploadUrl(),
+                uploadUrl.contentType(),
+                uploadUrl.expiresAt()
+        );
+    }
+}
@@ -0,0 +1,5 @@
+package com.ssafy.star.like;
+
+public enum LikeTarget {
+    ARTICLE, CONSTELLATION;
+}
@@ -0,0 +1,134 @@
+package com.ssafy.star.like.application;
+
+import com.ssafy.star.article.dao.ArticleLikeRepository;
+import com.ssafy.star.article.dao.ArticleRepository;
+import com.ssafy.star.article.domain.ArticleLikeEntity;
+import com.ssafy.star.common.exception.ByeolDamException;
+import com.ssafy.star.common.exception.ErrorCode;
+import com.ssafy.star.constellation.dao.ConstellationLikeRepository;
+import com.ssafy.star.constellation.dao.ConstellationRepository;
+import com.ssafy.star.constellation.domain.ConstellationLikeEntity;
+import com.ssafy.star.like.LikeTarget;
+import com.ssafy.star.like.dto.LikeEvent;
+import com.ssafy.star.like.dto.LikeMember;
+import com.ssafy.star.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * 좋아요 DB 조회 및 반영
+ * - LikeService가 Redis Set을 불러올 때, 쌓인 좋아요 변경을 반영할 때만 사용한다
+ */
+@Service
+@RequiredArgsConstructor
+public class LikeRecordService {
+
+    private final ArticleRepository articleRepository;
+    private final ArticleLikeRepository articleLikeRepository;
+    private final ConstellationRepository constellationRepository;
+    private final ConstellationLikeRepository constellationLikeRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * 대상에 좋아요를 누른 유저 id 조회
+     * - 대상이 없으면 예외처리
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findUserIds(LikeTarget target, Long targetId) {
+        return switch (target) {
+            case ARTICLE -> {
+                if (!articleRepository.existsById(targetId)) {
+                    throw new ByeolDamException(ErrorCode.ARTICLE_NOT_FOUND, String.format("article %d not founded", targetId));
+                }
+                yield articleLikeRepository.findUserIdsByArticleId(targetId);
+            }
+            case CONSTELLATION -> {
+                if (!constellationRepository.existsById(targetId)) {
+                    throw new ByeolDamException(ErrorCode.CONSTELLATION_NOT_FOUND, String.format("constellation %d not founded", targetId));
+                }
+                yield constellationLikeRepository.findUserIdsByConstellationId(targetId);
+            }
+        };
+    }
+
+    /**
+     * 여러 대상에 좋아요를 누른 유저 id를 한 번에 조회
+     * - 존재하는 대상만 key로 포함한다
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, List<Long>> findUserIdsByTargetIds(LikeTarget target, Collection<Long> targetIds) {
+        List<Long> existingIds;
+        List<LikeMember> likeMembers;
+        switch (target) {
+            case ARTICLE -> {
+                existingIds = articleRepository.findIdsByIdIn(targetIds);
+                likeMembers = existingIds.isEmpty() ? List.of() : articleLikeRepository.findLikeMembersByArticleIdIn(existingIds);
+            }
+            case CONSTELLATION -> {
+                existingIds = constellationRepository.findIdsByIdIn(targetIds);
+                likeMembers = existingIds.isEmpty() ? List.of() : constellationLikeRepository.findLikeMembersByConstellationIdIn(existingIds);
+            }
+            default -> throw new IllegalArgumentException(String.valueOf(target));
+        }
+
+        Map<Long, List<Long>> userIdsByTargetId = new HashMap<>();
+        existingIds.forEach(targetId -> userIdsByTargetId.put(targetId, new ArrayList<>()));
+        likeMembers.forEach(likeMember -> userIdsByTargetId.get(likeMember.targetId()).add(likeMember.userId()));
+        return userIdsByTargetId;
+    }
+
+    /**
+     * 좋아요 변경을 한 트랜잭션에서 반영
+     * - 이미 같은 상태라면 건너뛰므로 같은 변경을 다시 반영해도 된다
+     * - 호출한 쪽의 트랜잭션과 별개로 커밋한다 (커밋된 후에 Redis에서 변경을 지운다)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void apply(List<LikeEvent> events) {
+        events.forEach(this::apply);
+    }
+
+    // 변경을 반영할 유저와 대상이 아직 있는지 (탈퇴, 삭제된 경우 반영할 수 없다)
+    @Transactional(readOnly = true)
+    public boolean isApplicable(LikeEvent event) {
+        if (!userRepository.existsById(event.userId())) return false;
+        return switch (event.target()) {
+            case ARTICLE -> articleRepository.existsById(event.targetId());
+            case CONSTELLATION -> constellationRepository.existsById(event.targetId());
+        };
+    }
+
+    private void apply(LikeEvent event) {
+        switch (event.target()) {
+            case ARTICLE -> applyArticleLike(event);
+            case CONSTELLATION -> applyConstellationLike(event);
+        }
+    }
+
+    private void applyArticleLike(LikeEvent event) {
+        boolean persisted = articleLikeRepository.existsByArticleIdAndUserId(event.targetId(), event.userId());
+        if (event.liked() && !persisted) {
+            articleLikeRepository.save(ArticleLikeEntity.of(
+                    userRepository.getReferenceById(event.userId()),
+                    articleRepository.getReferenceById(event.targetId())
+            ));
+        } else if (!event.liked() && persisted) {
+            articleLikeRepository.softDeleteByArticleIdAndUserId(event.targetId(), event.userId());
+        }
+    }
+
+    private void applyConstellationLike(LikeEvent event) {
+        boolean persisted = constellationLikeRepository.existsByConstellationEntityIdAndUserEntityId(event.targetId(), event.userId());
+        if (event.liked() && !persisted) {
+            constellationLikeRepository.save(ConstellationLikeEntity.of(
+                    userRepository.getReferenceById(event.userId()),
+                    constellationRepository.getReferenceById(event.targetId())
+            ));
+        } else if (!event.liked() && persisted) {
+            constellationLikeRepository.deleteByConstellationIdAndUserId(event.targetId(), event.userId());
+        }
+    }
+}
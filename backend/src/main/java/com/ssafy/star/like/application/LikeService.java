@@ -0,0 +1,214 @@
+package com.ssafy.star.like.application;
+
+import com.ssafy.star.common.exception.ByeolDamException;
+import com.ssafy.star.common.exception.ErrorCode;
+import com.ssafy.star.like.LikeTarget;
+import com.ssafy.star.like.dao.LikeCacheRepository;
+import com.ssafy.star.like.dto.LikeEvent;
+import com.ssafy.star.like.dto.LikeStatus;
+import com.ssafy.star.user.domain.UserEntity;
+import com.ssafy.star.user.dto.User;
+import com.ssafy.star.user.repository.UserCacheRepository;
+import com.ssafy.star.user.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 좋아요
+ * - 좋아요 여부와 갯수는 Redis Set에서 바로 조회한다 (없으면 DB에서 불러온다)
+ * - 토글은 Lua script로 원자적으로 처리하고, DB에는 주기적으로 모아서 반영한다 (write-behind)
+ * - 반영할 변경은 DB에 커밋된 후에만 Redis에서 지우므로, 반영 중에 서버가 종료되어도 다음 flush에서 다시 반영한다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LikeService {
+
+    private final static int FLUSH_BATCH_SIZE = 500;
+    private final static int MAX_LOAD_ATTEMPTS = 3;
+    private final static Duration FLUSH_LOCK_TTL = Duration.ofMinutes(1);
+
+    private final LikeCacheRepository likeCacheRepository;
+    private final LikeRecordService likeRecordService;
+    private final UserCacheRepository userCacheRepository;
+    private final UserRepository userRepository;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    // 좋아요 요청, 좋아요 상태가 되면 true
+    public boolean toggle(LikeTarget target, Long targetId, String email) {
+        Long userId = getUserIdOrException(email);
+        return likeCacheRepository.toggle(target, targetId, userId)
+                .orElseGet(() -> {
+                    load(target, targetId);
+                    return likeCacheRepository.toggle(target, targetId, userId)
+                            .orElseThrow(() -> new ByeolDamException(ErrorCode.INTERNAL_SERVER_ERROR,
+                                    String.format("like set of %s %d not loaded", target, targetId)));
+                });
+    }
+
+    // 좋아요 상태 확인
+    public boolean isLiked(LikeTarget target, Long targetId, String email) {
+        Long userId = getUserIdOrException(email);
+        loadIfAbsent(target, targetId);
+        return likeCacheRepository.isMember(target, targetId, userId);
+    }
+
+    // 좋아요 갯수 확인
+    public int count(LikeTarget target, Long targetId) {
+        loadIfAbsent(target, targetId);
+        return likeCacheRepository.count(target, targetId);
+    }
+
+    /**
+     * 여러 대상의 좋아요 여부와 갯수 확인 (요청한 순서대로, 없는 대상은 제외)
+     * - 캐시된 대상은 Redis pipeline 한 번으로 조회하고, 나머지는 DB에서 한 번에 불러와 캐시한다
+     */
+    public List<LikeStatus> findStatuses(LikeTarget target, List<Long> targetIds, String email) {
+        Long userId = getUserIdOrException(email);
+        List<Long> distinctIds = targetIds.stream().distinct().toList();
+        Map<Long, LikeStatus> statuses = new HashMap<>(likeCacheRepository.findStatuses(target, distinctIds, userId));
+
+        // 불러온 후 아직 DB에 반영되지 않은 변경까지 적용된 상태를 다시 읽는다
+        List<Long> missingIds = distinctIds.stream().filter(targetId -> !statuses.containsKey(targetId)).toList();
+        if (!missingIds.isEmpty()) {
+            String flushedVersion = likeCacheRepository.flushedVersion();
+            likeRecordService.findUserIdsByTargetIds(target, missingIds).forEach((targetId, userIds) -> {
+                if (!likeCacheRepository.loadIfAbsent(target, targetId, userIds, flushedVersion)) {
+                    load(target, targetId);
+                }
+            });
+            statuses.putAll(likeCacheRepository.findStatuses(target, missingIds, userId));
+        }
+
+        return distinctIds.stream().filter(statuses::containsKey).map(statuses::get).toList();
+    }
+
+    // 대상이 삭제, 복원되거나 유저가 탈퇴하면 캐시를 비우고 다음 조회 시 DB에서 다시 불러온다 (아직 반영되지 않은 변경은 불러올 때 적용된다)
+    public void evict(LikeTarget target, Collection<Long> targetIds) {
+        List<Long> ids = List.copyOf(targetIds);
+        afterCommit(() -> likeCacheRepository.evict(target, ids));
+    }
+
+    /**
+     * 쌓인 좋아요 변경을 DB에 반영
+     * - 같은 유저, 같은 대상의 변경은 마지막 상태만 반영한다
+     * - 한 번에 반영하지 못하면 하나씩 반영하고, 유저나 대상이 없어진 변경만 버린다
+     * - 그 외의 이유로 반영하지 못하면 processing list에 남겨 두고 다음 flush에서 다시 반영한다
+     * - 여러 서버가 동시에 반영하지 않도록 Redis lock을 잡는다
+     */
+    @Scheduled(fixedDelayString = "${likes.flush-interval-ms:1000}")
+    public void flush() {
+        if (!likeCacheRepository.lockFlush(instanceId, FLUSH_LOCK_TTL)) return;
+        try {
+            List<LikeEvent> events;
+            do {
+                events = likeCacheRepository.claimPending(FLUSH_BATCH_SIZE);
+                if (events.isEmpty()) break;
+
+                Map<String, LikeEvent> lastEvents = new LinkedHashMap<>();
+                events.forEach(event -> lastEvents.put(event.memberKey(), event));
+                List<LikeEvent> droppedEvents = write(new ArrayList<>(lastEvents.values()));
+                likeCacheRepository.ack(events.size());
+
+                // 버린 변경이 적용된 Set은 DB 상태로 다시 불러오도록 비운다
+                droppedEvents.stream()
+                        .collect(Collectors.groupingBy(LikeEvent::target, Collectors.mapping(LikeEvent::targetId, Collectors.toSet())))
+                        .forEach(this::evict);
+            } while (events.size() == FLUSH_BATCH_SIZE);
+        } catch (RuntimeException e) {
+            log.warn("Failed to flush likes, retry on next flush : {}", e.toString());
+        } finally {
+            likeCacheRepository.unlockFlush(instanceId);
+        }
+    }
+
+    // 종료 전에 남은 변경 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Failed to flush likes on shutdown : {}", e.toString());
+        }
+    }
+
+    // 반영하고, 유저나 대상이 없어서 버린 변경을 반환한다
+    private List<LikeEvent> write(List<LikeEvent> events) {
+        try {
+            likeRecordService.apply(events);
+            return List.of();
+        } catch (RuntimeException e) {
+            log.warn("Failed to flush {} likes at once, retry one by one : {}", events.size(), e.toString());
+        }
+
+        List<LikeEvent> droppedEvents = new ArrayList<>();
+        for (LikeEvent event : events) {
+            try {
+                likeRecordService.apply(List.of(event));
+            } catch (RuntimeException e) {
+                if (likeRecordService.isApplicable(event)) throw e;
+                log.info("Drop like event {} of removed user or target : {}", event.encode(), e.toString());
+                droppedEvents.add(event);
+            }
+        }
+        return droppedEvents;
+    }
+
+    private void loadIfAbsent(LikeTarget target, Long targetId) {
+        if (!likeCacheRepository.exists(target, targetId)) {
+            load(target, targetId);
+        }
+    }
+
+    // DB 조회 중에 반영된 변경이 있으면 다시 조회한다 (마지막 시도는 확인하지 않고 불러온다)
+    private void load(LikeTarget target, Long targetId) {
+        for (int attempt = 1; ; attempt++) {
+            String flushedVersion = attempt < MAX_LOAD_ATTEMPTS ? likeCacheRepository.flushedVersion() : null;
+            List<Long> userIds = likeRecordService.findUserIds(target, targetId);
+            if (likeCacheRepository.loadIfAbsent(target, targetId, userIds, flushedVersion)) {
+                log.debug("load {} likes of {} {}", userIds.size(), target, targetId);
+                return;
+            }
+        }
+    }
+
+    // 캐시된 유저 정보에서 id를 찾고, 없으면 DB에서 조회
+    private Long getUserIdOrException(String email) {
+        return userCacheRepository.getUser(email)
+                .map(User::id)
+                .orElseGet(() -> userRepository.findByEmail(email)
+                        .map(UserEntity::getId)
+                        .orElseThrow(() -> new ByeolDamException(ErrorCode.USER_NOT_FOUND, String.format("email %s not founded", email))));
+    }
+
+    // 트랜잭션이 커밋된 후에 Redis에 반영 (커밋 전에 다시 불러오면 이전 상태가 캐시되므로)
+    private void afterCommit(Runnable task) {
+        Runnable safeTask = () -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.warn("Failed to evict like cache : {}", e.toString());
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    safeTask.run();
+                }
+            });
+        } else {
+            safeTask.run();
+        }
+    }
+}
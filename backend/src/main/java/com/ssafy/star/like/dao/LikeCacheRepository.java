@@ -0,0 +1,221 @@
+package com.ssafy.star.like.dao;
+
+import com.ssafy.star.like.LikeTarget;
+import com.ssafy.star.like.dto.LikeEvent;
+import com.ssafy.star.like.dto.LikeStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 대상별 좋아요 누른 유저 (Redis Set)
+ * - member : 유저 id
+ * - DB에서 불러온 Set임을 표시하기 위해 sentinel member를 함께 저장한다
+ * - 토글 결과는 pending list에 쌓아두고 LikeService가 DB에 반영한다
+ * - 반영할 변경은 processing list로 옮긴 후(LMOVE) 처리하고, DB에 커밋된 후에 processing list에서 지운다(ack)
+ * - 아직 DB에 반영되지 않은 변경은 대상별 pending hash(유저 id -> "변경 수:마지막 liked")에도 함께 기록하고, ack할 때 줄인다
+ * - DB에서 Set을 다시 불러올 때는 그 대상의 pending hash만 이어서 적용한다 (전체 list를 훑지 않는다)
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class LikeCacheRepository {
+
+    private final static Duration LIKE_TTL = Duration.ofDays(3);
+    private final static String SENTINEL = "0";
+    private final static String PENDING_KEY = "LIKE:PENDING";
+    private final static String PENDING_HASH_PREFIX = "LIKE:PENDING:";
+    private final static String PROCESSING_KEY = "LIKE:PROCESSING";
+    private final static String FLUSHED_KEY = "LIKE:FLUSHED";
+    private final static String FLUSH_LOCK_KEY = "LIKE:FLUSH:LOCK";
+
+    // Set이 없으면 -1, 좋아요 상태가 되면 1, 취소되면 0
+    private final static RedisScript<Long> TOGGLE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end " +
+            "local liked = 1 " +
+            "if redis.call('SREM', KEYS[1], ARGV[1]) == 1 then liked = 0 " +
+            "else redis.call('SADD', KEYS[1], ARGV[1]) end " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[3]) " +
+            "redis.call('RPUSH', KEYS[2], ARGV[2] .. ':' .. liked) " +
+            "local count = tonumber(string.match(redis.call('HGET', KEYS[3], ARGV[1]) or '0:0', '^(%d+):')) " +
+            "redis.call('HSET', KEYS[3], ARGV[1], (count + 1) .. ':' .. liked) " +
+            "return liked",
+            Long.class
+    );
+
+    /**
+     * 다른 요청이 먼저 불러왔다면 덮어쓰지 않는다 (그 사이의 토글이 사라지지 않도록), SADD는 1000개씩 나눠서 실행한다
+     * - DB를 조회한 후 반영(ack)된 변경이 있으면 DB 조회 결과에 빠져 있을 수 있으므로 -1을 반환한다 (ARGV[2]가 빈 값이면 확인하지 않는다)
+     * - 불러온 후 아직 DB에 반영되지 않은 이 대상의 변경(pending hash, KEYS[2])의 마지막 상태를 적용한다
+     */
+    private final static RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "if ARGV[2] ~= '' and (redis.call('GET', KEYS[3]) or '0') ~= ARGV[2] then return -1 end " +
+            "for i = 3, #ARGV, 1000 do " +
+            "  redis.call('SADD', KEYS[1], unpack(ARGV, i, math.min(i + 999, #ARGV))) " +
+            "end " +
+            "local pending = redis.call('HGETALL', KEYS[2]) " +
+            "for i = 1, #pending, 2 do " +
+            "  if string.sub(pending[i + 1], -1) == '1' then redis.call('SADD', KEYS[1], pending[i]) " +
+            "  else redis.call('SREM', KEYS[1], pending[i]) end " +
+            "end " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+            "return 1",
+            Long.class
+    );
+
+    // processing list가 count개가 될 때까지 pending list에서 옮기고, processing list의 앞 count개를 반환한다
+    @SuppressWarnings("rawtypes")
+    private final static RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "local size = redis.call('LLEN', KEYS[2]) " +
+            "while size < tonumber(ARGV[1]) do " +
+            "  if not redis.call('LMOVE', KEYS[1], KEYS[2], 'LEFT', 'RIGHT') then break end " +
+            "  size = size + 1 " +
+            "end " +
+            "return redis.call('LRANGE', KEYS[2], 0, tonumber(ARGV[1]) - 1)",
+            List.class
+    );
+
+    // processing list의 앞 count개를 지우고 대상별 pending hash에서 그만큼 줄인 후(0이 되면 삭제), 반영 횟수를 올린다
+    private final static RedisScript<Long> ACK_SCRIPT = new DefaultRedisScript<>(
+            "for _, value in ipairs(redis.call('LRANGE', KEYS[1], 0, tonumber(ARGV[1]) - 1)) do " +
+            "  local target, targetId, userId = string.match(value, '^([%w_]+):(%d+):(%d+):%d$') " +
+            "  if target then " +
+            "    local key = ARGV[2] .. target .. ':' .. targetId " +
+            "    local state = redis.call('HGET', key, userId) " +
+            "    if state then " +
+            "      local count, liked = string.match(state, '^(%d+):(%d)$') " +
+            "      count = tonumber(count) - 1 " +
+            "      if count <= 0 then redis.call('HDEL', key, userId) " +
+            "      else redis.call('HSET', key, userId, count .. ':' .. liked) end " +
+            "    end " +
+            "  end " +
+            "end " +
+            "redis.call('LTRIM', KEYS[1], ARGV[1], -1) " +
+            "return redis.call('INCR', KEYS[2])",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> likeRedisTemplate;
+
+    public Optional<Boolean> toggle(LikeTarget target, Long targetId, Long userId) {
+        Long liked = likeRedisTemplate.execute(TOGGLE_SCRIPT, List.of(getKey(target, targetId), PENDING_KEY, getPendingKey(target, targetId)),
+                String.valueOf(userId), LikeEvent.prefix(target, targetId, userId), String.valueOf(LIKE_TTL.toSeconds()));
+        if (liked == null || liked < 0) return Optional.empty();
+        return Optional.of(liked == 1);
+    }
+
+    public boolean exists(LikeTarget target, Long targetId) {
+        return Boolean.TRUE.equals(likeRedisTemplate.hasKey(getKey(target, targetId)));
+    }
+
+    public boolean isMember(LikeTarget target, Long targetId, Long userId) {
+        return Boolean.TRUE.equals(likeRedisTemplate.opsForSet().isMember(getKey(target, targetId), String.valueOf(userId)));
+    }
+
+    public int count(LikeTarget target, Long targetId) {
+        Long size = likeRedisTemplate.opsForSet().size(getKey(target, targetId));
+        return size == null ? 0 : (int) Math.max(size - 1, 0);
+    }
+
+    // 지금까지 DB에 반영(ack)한 횟수, DB 조회 전에 읽어서 loadIfAbsent에 넘긴다
+    public String flushedVersion() {
+        String version = likeRedisTemplate.opsForValue().get(FLUSHED_KEY);
+        return version == null ? "0" : version;
+    }
+
+    /**
+     * DB에서 조회한 유저들로 Set 생성 (이미 있으면 그대로 둔다)
+     * - flushedVersion 이후에 반영된 변경이 있으면 만들지 않고 false를 반환한다 (DB를 다시 조회해야 한다)
+     * - flushedVersion이 null이면 확인하지 않는다
+     */
+    public boolean loadIfAbsent(LikeTarget target, Long targetId, Collection<Long> userIds, String flushedVersion) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(LIKE_TTL.toSeconds()));
+        args.add(flushedVersion == null ? "" : flushedVersion);
+        args.add(SENTINEL);
+        userIds.forEach(userId -> args.add(String.valueOf(userId)));
+
+        Long loaded = likeRedisTemplate.execute(LOAD_SCRIPT, List.of(getKey(target, targetId), getPendingKey(target, targetId), FLUSHED_KEY), args.toArray());
+        return loaded == null || loaded >= 0;
+    }
+
+    /**
+     * 여러 대상의 좋아요 갯수와 좋아요 여부를 pipeline 한 번으로 조회
+     * - 아직 불러오지 않은 대상은 결과에 포함하지 않는다
+     */
+    public Map<Long, LikeStatus> findStatuses(LikeTarget target, List<Long> targetIds, Long userId) {
+        String member = String.valueOf(userId);
+        List<Object> results = likeRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                SetOperations<String, String> setOps = ((RedisOperations<String, String>) operations).opsForSet();
+                targetIds.forEach(targetId -> {
+                    setOps.size(getKey(target, targetId));
+                    setOps.isMember(getKey(target, targetId), member);
+                });
+                return null;
+            }
+        });
+
+        Map<Long, LikeStatus> statuses = new HashMap<>();
+        for (int i = 0; i < targetIds.size(); i++) {
+            Long size = (Long) results.get(i * 2);
+            if (size == null || size == 0) continue;
+            statuses.put(targetIds.get(i), new LikeStatus(targetIds.get(i), Boolean.TRUE.equals(results.get(i * 2 + 1)), (int) (size - 1)));
+        }
+        return statuses;
+    }
+
+    public void evict(LikeTarget target, Collection<Long> targetIds) {
+        if (targetIds.isEmpty()) return;
+        likeRedisTemplate.delete(targetIds.stream().map(targetId -> getKey(target, targetId)).toList());
+    }
+
+    /**
+     * DB에 반영할 좋아요 변경을 오래된 순서로 count개 가져온다
+     * - 지난번에 반영하지 못하고 processing list에 남은 변경부터 가져온다
+     * - 반영이 끝나면 ack로 지워야 한다 (지우기 전에 서버가 종료되면 다음 flush에서 다시 가져온다)
+     */
+    @SuppressWarnings("unchecked")
+    public List<LikeEvent> claimPending(int count) {
+        List<String> values = likeRedisTemplate.execute(CLAIM_SCRIPT, List.of(PENDING_KEY, PROCESSING_KEY), String.valueOf(count));
+        if (values == null) return List.of();
+        return values.stream().map(LikeEvent::decode).toList();
+    }
+
+    // claimPending으로 가져온 변경 count개를 processing list에서 지운다
+    public void ack(int count) {
+        likeRedisTemplate.execute(ACK_SCRIPT, List.of(PROCESSING_KEY, FLUSHED_KEY), String.valueOf(count), PENDING_HASH_PREFIX);
+    }
+
+    // 여러 서버가 하나의 processing list를 함께 처리하지 않도록 flush 동안 잡는 lock
+    public boolean lockFlush(String owner, Duration ttl) {
+        return Boolean.TRUE.equals(likeRedisTemplate.opsForValue().setIfAbsent(FLUSH_LOCK_KEY, owner, ttl));
+    }
+
+    public void unlockFlush(String owner) {
+        if (owner.equals(likeRedisTemplate.opsForValue().get(FLUSH_LOCK_KEY))) {
+            likeRedisTemplate.delete(FLUSH_LOCK_KEY);
+        }
+    }
+
+    private String getKey(LikeTarget target, Long targetId) {
+        return "LIKE:" + target + ":" + targetId;
+    }
+
+    // 한 대상의 아직 DB에 반영되지 않은 변경 (ACK_SCRIPT에서도 같은 형태로 만든다)
+    private String getPendingKey(LikeTarget target, Long targetId) {
+        return PENDING_HASH_PREFIX + target + ":" + targetId;
+    }
+}
@@ -0,0 +1,40 @@
+package com.ssafy.star.like.dto;
+
+import com.ssafy.star.like.LikeTarget;
+
+/**
+ * DB에 아직 반영되지 않은 좋아요 변경
+ * - Redis에는 "target:targetId:userId:liked(0|1)" 형태로 저장한다
+ */
+public record LikeEvent(
+        LikeTarget target,
+        Long targetId,
+        Long userId,
+        boolean liked
+) {
+    private static final String DELIMITER = ":";
+
+    // liked 값을 제외한 앞부분 (Lua script에서 liked 값을 붙인다)
+    public static String prefix(LikeTarget target, Long targetId, Long userId) {
+        return target + DELIMITER + targetId + DELIMITER + userId;
+    }
+
+    public static LikeEvent decode(String value) {
+        String[] tokens = value.split(DELIMITER);
+        return new LikeEvent(
+                LikeTarget.valueOf(tokens[0]),
+                Long.valueOf(tokens[1]),
+                Long.valueOf(tokens[2]),
+                "1".equals(tokens[3])
+        );
+    }
+
+    public String encode() {
+        return prefix(target, targetId, userId) + DELIMITER + (liked ? "1" : "0");
+    }
+
+    // 같은 유저가 같은 대상에 누른 좋아요인지 구분하는 key
+    public String memberKey() {
+        return prefix(target, targetId, userId);
+    }
+}
@@ -0,0 +1,7 @@
+package com.ssafy.star.like.dto;
+
+public record LikeMember(
+        Long targetId,
+        Long userId
+) {
+}
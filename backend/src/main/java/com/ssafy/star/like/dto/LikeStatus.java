@@ -0,0 +1,8 @@
+package com.ssafy.star.like.dto;
+
+public record LikeStatus(
+        Long id,
+        boolean liked,
+        int likeCount
+) {
+}
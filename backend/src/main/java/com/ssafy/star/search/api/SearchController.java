@@ -2,12 +2,14 @@ package com.ssafy.star.search.api;
 
 import com.ssafy.star.article.dao.ArticleRepository;
 import com.ssafy.star.article.dto.response.ArticleResponse;
+import com.ssafy.star.article.dto.response.ArticleSummaryResponse;
 import com.ssafy.star.article.dto.response.Response;
 import com.ssafy.star.common.exception.ByeolDamException;
 import com.ssafy.star.common.exception.ErrorCode;
+import com.ssafy.star.common.infra.hit.HitCounter;
+import com.ssafy.star.common.infra.hit.HitTarget;
 import com.ssafy.star.constellation.domain.ConstellationEntity;
-import com.ssafy.star.contour.domain.ContourEntity;
-import com.ssafy.star.contour.dto.Contour;
+import com.ssafy.star.contour.ContourLod;
 import com.ssafy.star.contour.dto.ContourResponse;
 import com.ssafy.star.search.application.ArticleSearchService;
 import com.ssafy.star.search.application.ConstellationSearchService;
@@ -44,6 +46,7 @@ public class SearchController {
     private final UserSearchService userSearchService;
     private final ArticleRepository articleRepository;
     private final UserRepository userRepository;
+    private final HitCounter hitCounter;
 
 
     @Operation(
@@ -51,13 +54,13 @@ public class SearchController {
             description = "제목 검색 기능입니다. " +
                     "게시물의 제목을 기준으로 게시물 리스트를 찾습니다. 최신순 정렬합니다.",
             responses = {
-                    @ApiResponse(responseCode = "200", description = "검색 성공", content = @Content(schema = @Schema(implementation = ArticleResponse.class)))
+                    @ApiResponse(responseCode = "200", description = "검색 성공", content = @Content(schema = @Schema(implementation = ArticleSummaryResponse.class)))
             }
     )
     @GetMapping("/search/title")
-    public Response<List<ArticleResponse>> titleSearch(@RequestParam String keyword) {
+    public Response<List<ArticleSummaryResponse>> titleSearch(@RequestParam String keyword) {
         log.info("request 정보 : {}", keyword);
-        return Response.success(articleSearchService.titleSearch(keyword).stream().map(ArticleResponse::fromArticle).toList());
+        return Response.success(articleSearchService.titleSearch(keyword).stream().map(ArticleSummaryResponse::fromSummary).toList());
     }
 
     @Operation(
@@ -65,13 +68,13 @@ public class SearchController {
             description = "제목 연관 검색 기능입니다. " +
                     "게시물의 제목을 기준으로 게시물을 5개 찾습니다. 최신순 정렬합니다.",
             responses = {
-                    @ApiResponse(responseCode = "200", description = "검색 성공", content = @Content(schema = @Schema(implementation = ArticleResponse.class)))
+                    @ApiResponse(responseCode = "200", description = "검색 성공", content = @Content(schema = @Schema(implementation = ArticleSummaryResponse.class)))
             }
     )
     @GetMapping("/related-search/title")
-    public Response<List<ArticleResponse>> titleRelatedSearch(@RequestParam String keyword) {
+    public Response<List<ArticleSummaryResponse>> titleRelatedSearch(@RequestParam String keyword) {
         log.info("request 정보 : {}", keyword);
-        return Response.success(articleSearchService.titleRelatedSearch(keyword).map(ArticleResponse::fromArticle).stream().toList());
+        return Response.success(articleSearchService.titleRelatedSearch(keyword).map(ArticleSummaryResponse::fromSummary).stream().toList());
     }
 
     @Operation(
@@ -79,13 +82,13 @@ public class SearchController {
             description = "해시태그 검색 기능입니다. " +
                     "게시물의 해시태그를 기준으로 게시물을 찾습니다. 최신순 정렬합니다.",
             responses = {
-                    @ApiResponse(responseCode = "200", description = "검색 성공", content = @Content(schema = @Schema(implementation = ArticleResponse.class)))
+                    @ApiResponse(responseCode = "200", description = "검색 성공", content = @Content(schema = @Schema(implementation = ArticleSummaryResponse.class)))
             }
     )
     @GetMapping("/search/hashtag")
-    public Response<List<ArticleResponse>> hashtagSearch(@RequestParam String keyword) {
+    public Response<List<ArticleSummaryResponse>> hashtagSearch(@RequestParam String keyword) {
         log.info("request 정보 : {}", keyword);
-        return Response.success(articleSearchService.hashtagSearch(keyword).stream().map(ArticleResponse::fromArticle).toList());
+        return Response.success(articleSearchService.hashtagSearch(keyword).stream().map(ArticleSummaryResponse::fromSummary).toList());
     }
 
     @Operation(
@@ -93,13 +96,13 @@ public class SearchController {
             description = "해시태그 연관 검색 기능입니다. " +
                     "게시물의 해시태그를 기준으로 게시물을 5개 찾습니다. 최신순 정렬합니다.",
             responses = {
-                    @ApiResponse(responseCode = "200", description = "검색 성공", content = @Content(schema = @Schema(implementation = ArticleResponse.class)))
+                    @ApiResponse(responseCode = "200", description = "검색 성공", content = @Content(schema = @Schema(implementation = ArticleSummaryResponse.class)))
             }
     )
     @GetMapping("/related-search/hashtag")
-    public Response<List<ArticleResponse>> hashtagRelatedSearch(@RequestParam String keyword) {
+    public Response<List<ArticleSummaryResponse>> hashtagRelatedSearch(@RequestParam String keyword) {
         log.info("request 정보 : {}", keyword);
-        return Response.success(articleSearchService.hashtagRelatedSearch(keyword).map(ArticleResponse::fromArticle).stream().toList());
+        return Response.success(articleSearchService.hashtagRelatedSearch(keyword).map(ArticleSummaryResponse::fromSummary).stream().toList());
     }
 
     @Operation(
@@ -111,7 +114,7 @@ public class SearchController {
             }
     )
     @GetMapping("/search/constellation")
-    public Response<List<ConstellationSearchResponse>> constellationSearch(@RequestParam String keyword, Authentication authentication) {
+    public Response<List<ConstellationSearchResponse>> constellationSearch(@RequestParam String keyword, @RequestParam(defaultValue = "LOW") ContourLod lod, Authentication authentication) {
         log.info("request 정보 : {}", keyword);
 
         String email = authentication.getName();
@@ -125,13 +128,12 @@ public class SearchController {
 
         // 별자리 Entity를 별자리 SearchResponse로 변환하는 과정
         for (ConstellationEntity constellationEntity : constellationEntities) {
-            ContourEntity contourEntity = constellationSearchService.findById(constellationEntity.getContourId());
-            ContourResponse contourResponse = ContourResponse.fromContour(Contour.fromEntity(contourEntity));
+            ContourResponse contourResponse = ContourResponse.fromOutline(constellationSearchService.findContourById(constellationEntity.getContourId(), lod.forPreview()));
             constellationSearchResponses.add(new ConstellationSearchResponse(
                     constellationEntity.getId(),
                     constellationEntity.getName(),
                     contourResponse,
-                    constellationEntity.getHits(),
+                    hitCounter.merge(HitTarget.CONSTELLATION, constellationEntity.getId(), constellationEntity.getHits()),
                     constellationEntity.getAdminEntity().getNickname(),
                     articleRepository.findAllByConstellationEntitySearch(constellationEntity, userEntity).size(),
                     constellationEntity.getCreatedAt(),
@@ -151,7 +153,7 @@ public class SearchController {
             }
     )
     @GetMapping("/related-search/constellation")
-    public Response<List<ConstellationSearchResponse>> constellationRelatedSearch(@RequestParam String keyword, Authentication authentication) {
+    public Response<List<ConstellationSearchResponse>> constellationRelatedSearch(@RequestParam String keyword, @RequestParam(defaultValue = "LOW") ContourLod lod, Authentication authentication) {
         log.info("request 정보 : {}", keyword);
 
         String email = authentication.getName();
@@ -165,13 +167,12 @@ public class SearchController {
 
         // 별자리 Entity를 별자리 SearchResponse로 변환하는 과정
         for (ConstellationEntity constellationEntity : constellationEntities) {
-            ContourEntity contourEntity = constellationSearchService.findById(constellationEntity.getContourId());
-            ContourResponse contourResponse = ContourResponse.fromContour(Contour.fromEntity(contourEntity));
+            ContourResponse contourResponse = ContourResponse.fromOutline(constellationSearchService.findContourById(constellationEntity.getContourId(), lod.forPreview()));
             constellationSearchResponses.add(new ConstellationSearchResponse(
                     constellationEntity.getId(),
                     constellationEntity.getName(),
                     contourResponse,
-                    constellationEntity.getHits(),
+                    hitCounter.merge(HitTarget.CONSTELLATION, constellationEntity.getId(), constellationEntity.getHits()),
                     constellationEntity.getAdminEntity().getNickname(),
                     articleRepository.findAllByConstellationEntitySearch(constellationEntity, userEntity).size(),
                     constellationEntity.getCreatedAt(),
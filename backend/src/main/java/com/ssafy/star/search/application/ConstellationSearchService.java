@@ -1,10 +1,9 @@
 package com.ssafy.star.search.application;
 
-import com.ssafy.star.common.exception.ByeolDamException;
-import com.ssafy.star.common.exception.ErrorCode;
 import com.ssafy.star.constellation.domain.ConstellationEntity;
-import com.ssafy.star.contour.domain.ContourEntity;
-import com.ssafy.star.contour.repository.ContourRepository;
+import com.ssafy.star.contour.ContourLod;
+import com.ssafy.star.contour.application.ContourCache;
+import com.ssafy.star.contour.dto.ContourOutline;
 import com.ssafy.star.search.dao.ConstellationSearchRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -21,16 +20,15 @@ import java.util.List;
 @Service
 public class ConstellationSearchService {
     private final ConstellationSearchRepository constellationSearchRepository;
-    private final ContourRepository contourRepository;
+    private final ContourCache contourCache;
 
     int pageNumber = 0;
     int pageSize = 5;
     Sort sort = Sort.by(Sort.Direction.DESC, "createdAt");
 
-    @Transactional
-    public ContourEntity findById(Long contourId) {
-        return contourRepository.findById(contourId).orElseThrow(() ->
-                new ByeolDamException(ErrorCode.CONTOUR_NOT_FOUND));
+    // 윤곽선은 수정되지 않으므로 캐시에서 조회
+    public ContourOutline findContourById(Long contourId, ContourLod lod) {
+        return contourCache.get(contourId, lod);
     }
 
     @Transactional
@@ -1,27 +1,41 @@
 package com.ssafy.star.search.dao;
 
 import com.ssafy.star.article.domain.ArticleEntity;
+import com.ssafy.star.article.dto.ArticleSummary;
 import com.ssafy.star.common.types.DisclosureType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
+import static com.ssafy.star.article.dao.ArticleRepository.SUMMARY_SELECT;
+
 @Repository
 public interface ArticleSearchRepository extends JpaRepository<ArticleEntity, Long> {
 
+    String TITLE_CONDITION = "WHERE a.title LIKE CONCAT('%', :keyword, '%') AND a.disclosure = :disclosure AND a.deletedAt IS NULL ";
+    String HASHTAG_CONDITION = "WHERE EXISTS (SELECT r FROM ArticleHashtagRelationEntity r WHERE r.articleEntity = a AND r.articleHashtagEntity.tagName = :keyword) " +
+            "AND a.disclosure = :disclosure AND a.deletedAt IS NULL ";
+
     // 검색 - 제목
-    List<ArticleEntity> findByTitleContainingAndDisclosureAndDeletedAtIsNull(String keyword, DisclosureType disclosure, Sort sort);
+    @Query(SUMMARY_SELECT + TITLE_CONDITION + "ORDER BY a.createdAt DESC")
+    List<ArticleSummary> findSummariesByTitle(@Param("keyword") String keyword, @Param("disclosure") DisclosureType disclosure);
 
     // 연관 검색 - 제목
-    Page<ArticleEntity> findAllByTitleContainingAndDisclosureAndDeletedAtIsNull(String keyword, DisclosureType disclosure, Pageable pageable);
+    @Query(value = SUMMARY_SELECT + TITLE_CONDITION + "ORDER BY a.createdAt DESC",
+            countQuery = "SELECT COUNT(a) FROM ArticleEntity a " + TITLE_CONDITION)
+    Page<ArticleSummary> findSummariesByTitle(@Param("keyword") String keyword, @Param("disclosure") DisclosureType disclosure, Pageable pageable);
 
     // 검색 - 해시태그
-    List<ArticleEntity> findByArticleHashtagRelationEntities_ArticleHashtagEntity_TagNameAndDisclosureAndDeletedAtIsNull(String keyword, DisclosureType disclosure, Sort sort);
+    @Query(SUMMARY_SELECT + HASHTAG_CONDITION + "ORDER BY a.createdAt DESC")
+    List<ArticleSummary> findSummariesByHashtag(@Param("keyword") String keyword, @Param("disclosure") DisclosureType disclosure);
 
     // 연관 검색 - 해시태그
-    Page<ArticleEntity> findAllByArticleHashtagRelationEntities_ArticleHashtagEntity_TagNameAndDisclosureAndDeletedAtIsNull(String keyword, DisclosureType disclosure, Pageable pageable);
+    @Query(value = SUMMARY_SELECT + HASHTAG_CONDITION + "ORDER BY a.createdAt DESC",
+            countQuery = "SELECT COUNT(a) FROM ArticleEntity a " + HASHTAG_CONDITION)
+    Page<ArticleSummary> findSummariesByHashtag(@Param("keyword") String keyword, @Param("disclosure") DisclosureType disclosure, Pageable pageable);
 }
@@ -1,5 +1,6 @@
 package com.ssafy.star.user.application;
 
+import com.ssafy.star.article.application.FollowTimelineService;
 import com.ssafy.star.common.exception.ByeolDamException;
 import com.ssafy.star.common.exception.ErrorCode;
 import com.ssafy.star.common.types.DisclosureType;
@@ -23,6 +24,7 @@ import java.util.List;
 public class FollowService {
     private final FollowRepository followRepository;
     private final UserRepository userRepository;
+    private final FollowTimelineService followTimelineService;
 
     public ApprovalStatus requestFollow(String fromUserEmail, String toUserNickname) {
         // 1. 해당 유저가 실제로 존재하는지 확인하기
@@ -41,6 +43,7 @@ public class FollowService {
                 Follow.fromEntity(followRepository.save(
                         FollowEntity.of(fromUser, toUser, LocalDateTime.now(), ApprovalStatus.ACCEPT)
                 ));
+                followTimelineService.evict(fromUser);
                 return ApprovalStatus.ACCEPT;
             } else {
                 // 상대의 프로필이 비공개인 경우  -> 팔로우 요청 보내기(status는 REQUEST)
@@ -53,6 +56,9 @@ public class FollowService {
             // 2-2. 이미 팔로우 상태일 경우 -> 취소
             // 2-3. 팔로우를 보냈지만 아직 ACCEPT가 나지 않은 경우 -> 취소
             followRepository.delete(result);
+            if (ApprovalStatus.ACCEPT.equals(result.getStatus())) {
+                followTimelineService.evict(fromUser);
+            }
             return ApprovalStatus.CANCEL;
         }
     }
@@ -86,6 +92,7 @@ public class FollowService {
                 result.setStatus(ApprovalStatus.ACCEPT);
                 result.setAcceptDate(LocalDateTime.now());
                 followRepository.save(result);
+                followTimelineService.evict(toUser);
                 return ApprovalStatus.ACCEPT;
             }
         }
@@ -1,23 +1,18 @@
 package com.ssafy.star.user.application;
 
+import com.ssafy.star.article.application.ArticleAssembler;
 import com.ssafy.star.article.application.ArticleService;
 import com.ssafy.star.article.dao.ArticleLikeRepository;
 import com.ssafy.star.article.dao.ArticleRepository;
-import com.ssafy.star.article.domain.ArticleEntity;
-import com.ssafy.star.article.domain.ArticleHashtagEntity;
-import com.ssafy.star.article.domain.ArticleHashtagRelationEntity;
-import com.ssafy.star.article.domain.ArticleLikeEntity;
-import com.ssafy.star.article.dto.Article;
-import com.ssafy.star.comment.dto.CommentDto;
+import com.ssafy.star.article.dto.ArticleSummary;
 import com.ssafy.star.common.config.properties.AppProperties;
 import com.ssafy.star.common.exception.ByeolDamException;
 import com.ssafy.star.common.exception.ErrorCode;
-import com.ssafy.star.common.infra.S3.S3uploader;
+import com.ssafy.star.common.infra.image.Rendition;
 import com.ssafy.star.constellation.ConstellationUserRole;
 import com.ssafy.star.constellation.application.ConstellationService;
 import com.ssafy.star.constellation.dao.ConstellationLikeRepository;
 import com.ssafy.star.constellation.dao.ConstellationUserRepository;
-import com.ssafy.star.constellation.dto.Constellation;
 import com.ssafy.star.global.auth.util.AuthToken;
 import com.ssafy.star.global.auth.util.AuthTokenProvider;
 import com.ssafy.star.global.email.Repository.EmailCacheRepository;
@@ -26,9 +21,13 @@ import com.ssafy.star.global.oauth.domain.ProviderType;
 import com.ssafy.star.global.oauth.util.CookieUtils;
 import com.ssafy.star.global.oauth.util.HeaderUtils;
 import com.ssafy.star.image.ImageType;
+import com.ssafy.star.image.application.ImageBlobService;
+import com.ssafy.star.image.application.ImageUploadService;
 import com.ssafy.star.image.dao.ImageRepository;
 import com.ssafy.star.image.domain.ImageEntity;
 import com.ssafy.star.image.dto.Image;
+import com.ssafy.star.like.LikeTarget;
+import com.ssafy.star.like.application.LikeService;
 import com.ssafy.star.user.domain.RoleType;
 import com.ssafy.star.user.domain.UserEntity;
 import com.ssafy.star.user.domain.UserRefreshToken;
@@ -52,6 +51,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -60,7 +60,6 @@ import java.security.SecureRandom;
 import java.util.*;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -72,7 +71,8 @@ public class UserService {
     private final EmailCacheRepository emailCacheRepository;
     private final EmailService emailService;
     private final BCryptPasswordEncoder encoder;
-    private final S3uploader s3uploader;
+    private final ImageUploadService imageUploadService;
+    private final ImageBlobService imageBlobService;
     private final ArticleLikeRepository articleLikeRepository;
     private final ConstellationLikeRepository constellationLikeRepository;
     private final ArticleRepository articleRepository;
@@ -80,6 +80,9 @@ public class UserService {
     private final ArticleService articleService;
     private final ConstellationService constellationService;
     private final FollowService followService;
+    private final ArticleAssembler articleAssembler;
+    private final LikeService likeService;
+    private final TransactionTemplate transactionTemplate;
 
     private final AuthTokenProvider tokenProvider;
     private final AppProperties appProperties;
@@ -349,7 +352,7 @@ public class UserService {
         if (oldImage == null) { // 이미 기본 프로필일 경우
             throw new ByeolDamException(ErrorCode.ALREADY_DEFAULT_IMAGE);
         } else { // 기본 프로필로 변경하는 경우
-            s3uploader.deleteImageFromS3(oldImage.getUrl());
+            imageBlobService.release(oldImage.getUrl());
             imageRepository.delete(oldImage);
             userEntity.setImageEntity(null);
         }
@@ -369,47 +372,57 @@ public class UserService {
      * 4. image Table에 수정한 이미지 정보를 저장한다.
      * 5. image Table에서 가져왔던 Image Dto를 이용해 해당하는 부분을 삭제한다.
      * 6. Image Dto에 저장되어있던 url을 이용하여 S3에서 해당하는 이미지 경로를 삭제한다.
+     * - S3 업로드를 먼저 끝낸 후 마리아 DB 작업만 짧은 트랜잭션으로 처리하고, 트랜잭션이 실패하면 업로드한 사진을 해제한다
      */
-    @Transactional
     public UserDefaultResponse updateProfileImage(String email, MultipartFile multipartFile, ImageType imageType) {
-        String profileUrl = "";
-        UserEntity userEntity = userRepository.findByEmail(email).orElseThrow(
+        // 없는 유저면 업로드 전에 끝낸다
+        userRepository.findByEmail(email).orElseThrow(
                 () -> new ByeolDamException(ErrorCode.USER_NOT_FOUND, String.format("%s is not found", email))
         );
+        String profileUrl;
         try {
-            // 기존의 이미지 불러오기
-            ImageEntity oldImgEntity = userEntity.getImageEntity();
-
-            // 1. 기존 이미지가 없을 경우
-            if (oldImgEntity == null) {
-                profileUrl = s3uploader.uploadProfile(multipartFile, "profiles");
-                ImageEntity newImage = ImageEntity.of(multipartFile.getOriginalFilename(), profileUrl, imageType);
-                userEntity.setImageEntity(newImage);
-                imageRepository.save(newImage);
-            }
-            // 2. 기존 이미지가 있을 경우
-            else {
-                //S3에서 기존 이미지 삭제
-                s3uploader.deleteImageFromS3(oldImgEntity.getUrl());
-
-                // 새로운 이미지 추가
-                profileUrl = s3uploader.uploadProfile(multipartFile, "profiles");
-                oldImgEntity.setName(multipartFile.getOriginalFilename());
-                oldImgEntity.setUrl(profileUrl);
-                oldImgEntity.setImageType(imageType);
-                imageRepository.save(oldImgEntity);
-            }
-            User user = User.fromEntity(userEntity);
-            return UserDefaultResponse.fromUser(
-                    user,
-                    articleService.countArticles(email),
-                    constellationService.countConstellations(email),
-                    followService.countFollowers(user.nickname()),
-                    followService.countFollowings(user.nickname()));
+            profileUrl = imageUploadService.upload(multipartFile, Rendition.PROFILE, "profiles");
         } catch (IOException e) {
-            s3uploader.deleteImageFromS3(profileUrl);
+            throw new ByeolDamException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+
+        try {
+            return transactionTemplate.execute(status -> {
+                UserEntity userEntity = userRepository.findByEmail(email).orElseThrow(
+                        () -> new ByeolDamException(ErrorCode.USER_NOT_FOUND, String.format("%s is not found", email))
+                );
+                // 기존의 이미지 불러오기
+                ImageEntity oldImgEntity = userEntity.getImageEntity();
+
+                // 1. 기존 이미지가 없을 경우
+                if (oldImgEntity == null) {
+                    ImageEntity newImage = ImageEntity.of(multipartFile.getOriginalFilename(), profileUrl, imageType);
+                    userEntity.setImageEntity(newImage);
+                    imageRepository.save(newImage);
+                }
+                // 2. 기존 이미지가 있을 경우
+                else {
+                    //S3에서 기존 이미지 삭제 (트랜잭션이 실패하면 참조 해제도 함께 취소된다)
+                    imageBlobService.release(oldImgEntity.getUrl());
+
+                    // 새로운 이미지 추가
+                    oldImgEntity.setName(multipartFile.getOriginalFilename());
+                    oldImgEntity.setUrl(profileUrl);
+                    oldImgEntity.setImageType(imageType);
+                    imageRepository.save(oldImgEntity);
+                }
+                User user = User.fromEntity(userEntity);
+                return UserDefaultResponse.fromUser(
+                        user,
+                        articleService.countArticles(email),
+                        constellationService.countConstellations(email),
+                        followService.countFollowers(user.nickname()),
+                        followService.countFollowings(user.nickname()));
+            });
+        } catch (RuntimeException e) {
+            imageBlobService.release(profileUrl);
+            throw e;
         }
-        throw new ByeolDamException(ErrorCode.INTERNAL_SERVER_ERROR);
     }
 
     //회원 탈퇴
@@ -417,6 +430,9 @@ public class UserService {
     public void delete(String email) {
         UserEntity userEntity = userRepository.findByEmail(email).orElseThrow(() -> new ByeolDamException(ErrorCode.USER_NOT_FOUND, String.format("%s is not founded", email)));
 
+        // 관련된 좋아요 캐시를 비운다 (아직 반영되지 않은 탈퇴 유저의 좋아요는 반영할 때 버려진다)
+        likeService.evict(LikeTarget.ARTICLE, articleLikeRepository.findArticleIdsByUserEntity(userEntity));
+        likeService.evict(LikeTarget.CONSTELLATION, constellationLikeRepository.findConstellationIdsByUserEntity(userEntity));
         articleRepository.findAllByOwnerEntity(userEntity).forEach(articleLikeRepository::deleteAllByArticleEntity);
         constellationUserRepository.findByUserEntityAndConstellationUserRole(userEntity, ConstellationUserRole.ADMIN)
                 .forEach(entity -> constellationLikeRepository.deleteAllByConstellationEntity(entity.getConstellationEntity()));
@@ -482,11 +498,9 @@ public class UserService {
 
     //좋아요한 게시물 목록 확인
     @Transactional
-    public Page<Article> likeArticleList(String email, Pageable pageable) {
+    public Page<ArticleSummary> likeArticleList(String email, Pageable pageable) {
         UserEntity userEntity = userRepository.findByEmail(email).orElseThrow(() -> new ByeolDamException(ErrorCode.USER_NOT_FOUND, String.format("%s is not founded", email)));
-        return articleLikeRepository.findAllByUserEntityOrderByCreatedAtDesc(userEntity, pageable)
-                .map(ArticleLikeEntity::getArticleEntity)
-                .map(articleEntity -> getArticle(articleEntity));
+        return articleAssembler.complete(articleRepository.findLikedSummaries(userEntity, pageable));
     }
 
     // 닉네임으로 프로필 조회하기
@@ -497,50 +511,4 @@ public class UserService {
         );
         return user.getImageEntity().getUrl();
     }
-
-    public Article getArticle(ArticleEntity entity) {
-        Set<String> hashtags = new HashSet<>();
-        try{
-            hashtags = entity.getArticleHashtagRelationEntities()
-                    .stream()
-                    .map(ArticleHashtagRelationEntity::getArticleHashtagEntity)
-                    .map(ArticleHashtagEntity::getTagName)
-                    .collect(Collectors.toSet());
-        } catch(NullPointerException e) {
-            hashtags = null;
-        }
-
-        List<CommentDto> comments = null;
-        try {
-            comments = entity.getCommentEntities()
-                    .stream()
-                    .map(CommentDto::from)
-                    .collect(Collectors.toList());
-        } catch (NullPointerException e) {
-            comments = null;
-        }
-
-        Constellation constellation = null;
-        try{
-            constellation = Constellation.fromEntity(entity.getConstellationEntity());
-        } catch(NullPointerException e) {
-            constellation = null;
-        }
-
-        return new Article(
-                entity.getId(),
-                entity.getTitle(),
-                entity.getHits(),
-                entity.getDescription(),
-                entity.getDisclosure(),
-                hashtags,
-                constellation,
-                User.fromEntity(entity.getOwnerEntity()),
-                comments,
-                entity.getCreatedAt(),
-                entity.getModifiedAt(),
-                entity.getDeletedAt(),
-                Image.fromEntity(entity.getImageEntity())
-        );
-    }
 }
@@ -10,7 +10,9 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @ToString
-@Table(name = "follow")
+@Table(name = "follow", indexes = {
+        @Index(name = "idx_follow_from_user_status", columnList = "from_user_id, status")
+})
 public class FollowEntity {
 
     @Id
@@ -33,4 +33,8 @@ public interface FollowRepository extends JpaRepository<FollowEntity, Long> {
 
     @Query("SELECT f.fromUser FROM FollowEntity f WHERE f.toUser = :toUser AND f.status = :status")
     List<UserEntity> findFromUsersByToUserAndStatus(@Param("toUser") UserEntity toUser, @Param("status")ApprovalStatus status);
+
+    // 팔로워 id 목록 (타임라인 fan-out)
+    @Query("SELECT f.fromUser.id FROM FollowEntity f WHERE f.toUser = :toUser AND f.status = :status")
+    List<Long> findFromUserIdsByToUserAndStatus(@Param("toUser") UserEntity toUser, @Param("status") ApprovalStatus status);
 }
@@ -2,8 +2,12 @@ package com.ssafy.star.user.repository;
 
 import com.ssafy.star.user.domain.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -14,4 +18,8 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
 
     boolean existsByEmail(String email);
     boolean existsByNickname(String nickname);
+
+    // 여러 유저와 프로필 이미지 한 번에 조회
+    @Query("SELECT u FROM UserEntity u LEFT JOIN FETCH u.imageEntity WHERE u.id IN :userIds")
+    List<UserEntity> findAllWithImageByIdIn(@Param("userIds") Collection<Long> userIds);
 }
@@ -0,0 +1,126 @@
+package com.ssafy.star.article.application;
+
+import com.ssafy.star.article.domain.ArticleEntity;
+import com.ssafy.star.article.domain.ArticleHashtagEntity;
+import com.ssafy.star.article.domain.ArticleHashtagRelationEntity;
+import com.ssafy.star.article.dto.Article;
+import com.ssafy.star.article.dto.ArticleSummary;
+import com.ssafy.star.comment.domain.CommentEntity;
+import com.ssafy.star.common.types.DisclosureType;
+import com.ssafy.star.global.oauth.domain.ProviderType;
+import com.ssafy.star.image.ImageType;
+import com.ssafy.star.image.domain.ImageEntity;
+import com.ssafy.star.user.domain.UserEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class ArticleAssemblerTest {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private ArticleAssembler articleAssembler;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    public void 게시물_목록_변환시_쿼리_수는_게시물_수와_상관없다() {
+        List<Long> articleIds = saveArticles(PAGE_SIZE);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<ArticleEntity> articleEntities = entityManager
+                .createQuery("SELECT a FROM ArticleEntity a WHERE a.id IN :articleIds ORDER BY a.id", ArticleEntity.class)
+                .setParameter("articleIds", articleIds)
+                .getResultList();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<Article> articles = articleAssembler.toArticles(articleEntities);
+
+        // 해시태그, 댓글, 작성자, 이미지 (별자리 없음)
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4);
+        assertThat(articles).hasSize(PAGE_SIZE);
+        assertThat(articles.get(0).articleHashtags()).containsExactlyInAnyOrder("별", "우주");
+        assertThat(articles.get(0).commentList()).hasSize(2);
+        assertThat(articles.get(0).commentList().get(0).childrenComments()).hasSize(1);
+        assertThat(articles.get(0).image()).isNotNull();
+        assertThat(articles.get(0).user().nickname()).isEqualTo(articles.get(PAGE_SIZE - 1).user().nickname());
+    }
+
+    @Test
+    public void 게시물_요약은_요청한_순서대로_두_번의_쿼리로_조회한다() {
+        List<Long> articleIds = new ArrayList<>(saveArticles(PAGE_SIZE));
+        entityManager.flush();
+        entityManager.clear();
+        Collections.reverse(articleIds);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<ArticleSummary> summaries = articleAssembler.findSummaries(articleIds);
+
+        // 요약 projection, 해시태그
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+        assertThat(summaries).extracting(ArticleSummary::id).containsExactlyElementsOf(articleIds);
+        assertThat(summaries.get(0).articleHashtags()).containsExactlyInAnyOrder("별", "우주");
+        assertThat(summaries.get(0).commentCount()).isEqualTo(2);
+        assertThat(summaries.get(0).image()).isNotNull();
+    }
+
+    private List<Long> saveArticles(int count) {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        UserEntity userEntity = UserEntity.of(suffix + "@byeoldam.com", ProviderType.LOCAL, "password", "name", "nick" + suffix);
+        entityManager.persist(userEntity);
+
+        ArticleHashtagEntity star = findOrCreateHashtag("별");
+        ArticleHashtagEntity universe = findOrCreateHashtag("우주");
+
+        List<Long> articleIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ImageEntity imageEntity = ImageEntity.of("image" + i, "url" + i, "thumbnail" + i, ImageType.ARTICLE);
+            entityManager.persist(imageEntity);
+
+            ArticleEntity articleEntity = ArticleEntity.of("title" + i, "description", DisclosureType.VISIBLE, userEntity, null, imageEntity);
+            entityManager.persist(articleEntity);
+            entityManager.persist(ArticleHashtagRelationEntity.of(star, articleEntity));
+            entityManager.persist(ArticleHashtagRelationEntity.of(universe, articleEntity));
+
+            CommentEntity parent = CommentEntity.of(userEntity, articleEntity, "comment", null);
+            entityManager.persist(parent);
+            entityManager.persist(CommentEntity.of(userEntity, articleEntity, "reply", parent.getId()));
+
+            articleIds.add(articleEntity.getId());
+        }
+        return articleIds;
+    }
+
+    private ArticleHashtagEntity findOrCreateHashtag(String tagName) {
+        ArticleHashtagEntity hashtag = entityManager.find(ArticleHashtagEntity.class, tagName);
+        if (hashtag == null) {
+            hashtag = new ArticleHashtagEntity(tagName);
+            entityManager.persist(hashtag);
+        }
+        return hashtag;
+    }
+}
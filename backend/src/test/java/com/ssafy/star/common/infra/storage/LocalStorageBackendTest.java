@@ -0,0 +1,78 @@
+package com.ssafy.star.common.infra.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalStorageBackendTest {
+
+    @TempDir
+    Path root;
+
+    private LocalStorageBackend storageBackend;
+
+    @BeforeEach
+    void setUp() {
+        storageBackend = new LocalStorageBackend(root.toString(), "http://localhost:8081/storage");
+    }
+
+    @Test
+    void putAndGet() throws IOException {
+        byte[] content = "star".getBytes(StandardCharsets.UTF_8);
+
+        storageBackend.put("article/a.png", new ByteArrayInputStream(content), content.length, "image/png");
+
+        try (InputStream inputStream = storageBackend.get("article/a.png")) {
+            assertThat(inputStream.readAllBytes()).isEqualTo(content);
+        }
+        // 임시 파일은 남지 않는다
+        try (var files = Files.list(root.resolve("article"))) {
+            assertThat(files).hasSize(1);
+        }
+    }
+
+    @Test
+    void urlAndKeyOf() {
+        String url = storageBackend.url("article/a.png");
+
+        assertThat(url).isEqualTo("http://localhost:8081/storage/article/a.png");
+        assertThat(storageBackend.keyOf(url)).isEqualTo("article/a.png");
+    }
+
+    @Test
+    void batchDelete() throws IOException {
+        byte[] content = new byte[]{1, 2, 3};
+        storageBackend.put("article/a.png", new ByteArrayInputStream(content), content.length, "image/png");
+        storageBackend.put("article/b.png", new ByteArrayInputStream(content), content.length, "image/png");
+
+        assertThat(storageBackend.batchDelete(List.of("article/a.png", "article/b.png", "article/none.png"))).isEmpty();
+        assertThat(root.resolve("article/a.png")).doesNotExist();
+        assertThat(root.resolve("article/b.png")).doesNotExist();
+    }
+
+    @Test
+    void shortContentIsRejected() {
+        byte[] content = new byte[]{1, 2, 3};
+
+        assertThatThrownBy(() -> storageBackend.put("article/a.png", new ByteArrayInputStream(content), 10, "image/png"))
+                .isInstanceOf(IOException.class);
+        assertThat(root.resolve("article/a.png")).doesNotExist();
+    }
+
+    @Test
+    void keyOutsideRootIsRejected() {
+        assertThatThrownBy(() -> storageBackend.get("../secret.txt"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,86 @@
+package com.ssafy.star.contour.domain;
+
+import com.ssafy.star.contour.utils.PackedPolygonsConverters;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PackedPolygonsTest {
+
+    @Test
+    void roundTrip() {
+        List<List<List<Integer>>> polygons = List.of(
+                List.of(List.of(1, 2), List.of(2, 3), List.of(3, 4)),
+                List.of(),
+                List.of(List.of(-5, 7), List.of(Integer.MAX_VALUE, Integer.MIN_VALUE), List.of(0, 0))
+        );
+
+        PackedPolygons packed = PackedPolygons.of(polygons);
+
+        assertThat(packed.polygons()).isEqualTo(polygons);
+        assertThat(packed.pointCount()).isEqualTo(6);
+        assertThat(PackedPolygons.fromBytes(packed.bytes())).isEqualTo(packed);
+    }
+
+    @Test
+    void singlePolygon() {
+        List<List<Integer>> polygon = List.of(List.of(10, 20), List.of(11, 19));
+
+        assertThat(PackedPolygons.ofPolygon(polygon).polygon()).isEqualTo(polygon);
+        assertThat(PackedPolygons.ofPolygon(null).polygon()).isEmpty();
+        assertThat(PackedPolygons.empty().polygons()).isEmpty();
+    }
+
+    @Test
+    void neighbouringPointsTakeTwoBytes() {
+        // 윤곽선처럼 이웃한 점이 가까우면 점 하나가 2바이트 (x, y 차이값 1바이트씩)
+        List<List<Integer>> polygon = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            polygon.add(List.of(500 + i % 7, 300 + i % 5));
+        }
+
+        PackedPolygons packed = PackedPolygons.ofPolygon(polygon);
+
+        assertThat(packed.size()).isLessThan(1000 * 2 + 16);
+        assertThat(packed.polygon()).isEqualTo(polygon);
+    }
+
+    @Test
+    void rejectsPointWithoutTwoCoordinates() {
+        assertThatThrownBy(() -> PackedPolygons.ofPolygon(List.of(List.of(1, 2, 3))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsTruncatedBytes() {
+        byte[] bytes = PackedPolygons.ofPolygon(List.of(List.of(1000, 1000))).bytes();
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 1);
+
+        assertThatThrownBy(() -> PackedPolygons.fromBytes(truncated).polygon())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void readsLegacyArrays() {
+        // MongoDB에서 읽은 예전 document의 좌표 배열 (숫자 타입이 섞일 수 있다)
+        List<Object> contoursList = List.of(
+                List.of(List.of(1, 2L), List.of(3.0, 4)),
+                List.of(List.of(5, 6))
+        );
+        List<Object> ultimate = List.of(List.of(1, 2), List.of(3, 4));
+
+        assertThat(PackedPolygonsConverters.fromLegacy(contoursList).polygons())
+                .isEqualTo(List.of(
+                        List.of(List.of(1, 2), List.of(3, 4)),
+                        List.of(List.of(5, 6))
+                ));
+        assertThat(PackedPolygonsConverters.fromLegacy(ultimate).polygon())
+                .isEqualTo(List.of(List.of(1, 2), List.of(3, 4)));
+        assertThat(PackedPolygonsConverters.fromLegacy(List.of()).polygons()).isEmpty();
+    }
+}
@@ -0,0 +1,73 @@
+package com.ssafy.star.contour.utils;
+
+import com.ssafy.star.contour.ContourLod;
+import com.ssafy.star.contour.domain.PackedPolygons;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PolygonSimplifierTest {
+
+    @Test
+    void dropsPointsOnStraightEdges() {
+        // 변마다 10개씩 점이 찍힌 100 x 100 정사각형
+        List<List<Integer>> square = new ArrayList<>();
+        for (int i = 0; i < 10; i++) square.add(List.of(i * 10, 0));
+        for (int i = 0; i < 10; i++) square.add(List.of(100, i * 10));
+        for (int i = 0; i < 10; i++) square.add(List.of(100 - i * 10, 100));
+        for (int i = 0; i < 10; i++) square.add(List.of(0, 100 - i * 10));
+
+        List<List<Integer>> simplified = PolygonSimplifier.simplify(square, 1.0);
+
+        assertThat(simplified).containsExactly(
+                List.of(0, 0), List.of(100, 0), List.of(100, 100), List.of(0, 100)
+        );
+    }
+
+    @Test
+    void keepsPointsWithinTolerance() {
+        List<List<Integer>> circle = circle(200, 100);
+
+        for (ContourLod lod : ContourLod.simplified()) {
+            List<List<Integer>> simplified = PolygonSimplifier.simplify(circle, lod.tolerance());
+
+            assertThat(simplified.size()).isLessThan(circle.size()).isGreaterThanOrEqualTo(3);
+            assertThat(circle).containsAll(simplified);
+        }
+        assertThat(PolygonSimplifier.simplify(circle, ContourLod.LOW.tolerance()).size())
+                .isLessThan(PolygonSimplifier.simplify(circle, ContourLod.HIGH.tolerance()).size());
+    }
+
+    @Test
+    void keepsTinyPolygons() {
+        List<List<Integer>> triangle = List.of(List.of(0, 0), List.of(1, 0), List.of(0, 1));
+        List<List<Integer>> sliver = List.of(List.of(0, 0), List.of(50, 0), List.of(100, 1), List.of(50, 1));
+
+        assertThat(PolygonSimplifier.simplify(triangle, ContourLod.LOW.tolerance())).isEqualTo(triangle);
+        assertThat(PolygonSimplifier.simplify(sliver, ContourLod.LOW.tolerance())).isEqualTo(sliver);
+        assertThat(PolygonSimplifier.simplify(List.of(), ContourLod.LOW.tolerance())).isEmpty();
+    }
+
+    @Test
+    void fullLevelIsNotSimplified() {
+        List<List<Integer>> circle = circle(50, 40);
+
+        assertThat(PolygonSimplifier.simplify(circle, ContourLod.FULL.tolerance())).isEqualTo(circle);
+
+        Map<ContourLod, PackedPolygons> levels = PolygonSimplifier.simplifiedLevels(circle);
+        assertThat(levels).containsOnlyKeys(ContourLod.HIGH, ContourLod.MEDIUM, ContourLod.LOW);
+    }
+
+    private static List<List<Integer>> circle(int points, int radius) {
+        List<List<Integer>> circle = new ArrayList<>();
+        for (int i = 0; i < points; i++) {
+            double angle = 2 * Math.PI * i / points;
+            circle.add(List.of(500 + (int) Math.round(radius * Math.cos(angle)), 500 + (int) Math.round(radius * Math.sin(angle))));
+        }
+        return circle;
+    }
+}